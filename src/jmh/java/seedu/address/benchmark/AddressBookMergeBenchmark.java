@@ -0,0 +1,74 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDiff;
+import seedu.address.model.ModelManager;
+import seedu.address.model.SnapshotTracker;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.RosterGenerator;
+
+/**
+ * Measures bringing the model up to date with a data file in which one person was edited outside the app, by merging
+ * only the changes or by replacing the whole address book as a restart would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AddressBookMergeBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rosterSize;
+
+    private ModelManager model;
+    private SnapshotTracker tracker;
+    private AddressBook original;
+    private AddressBook edited;
+    private boolean isEdited;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RosterGenerator generator = new RosterGenerator(BenchmarkRosters.SEED);
+        original = generator.generateAddressBook(rosterSize);
+        edited = new AddressBook(original);
+        // A person the roster does not contain, swapped in for the middle person as the outside edit
+        Person middle = original.getPersonList().get(rosterSize / 2);
+        edited.setPerson(middle, generator.generatePerson(rosterSize));
+
+        model = new ModelManager(original, new UserPrefs());
+        tracker = new SnapshotTracker(model.getAddressBook(), model.getWeeklySessions(), () -> {});
+    }
+
+    @Benchmark
+    public AddressBookDiff diffThenMerge() {
+        AddressBookDiff diff = AddressBookDiff.between(tracker.snapshot(), nextAddressBook());
+        model.mergeAddressBook(diff);
+        model.commitAddressBook();
+        return diff;
+    }
+
+    @Benchmark
+    public ModelManager reset() {
+        model.setAddressBook(nextAddressBook());
+        // Both are undoable steps, as they are in the app; the history keeps what each replaced
+        model.commitAddressBook();
+        return model;
+    }
+
+    private AddressBook nextAddressBook() {
+        isEdited = !isEdited;
+        return isEdited ? edited : original;
+    }
+}
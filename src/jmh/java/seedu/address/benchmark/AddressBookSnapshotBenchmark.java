@@ -0,0 +1,68 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.SnapshotTracker;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.RosterGenerator;
+
+/**
+ * Measures publishing a snapshot after a command that edits one person, which happens after every such command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AddressBookSnapshotBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    public int rosterSize;
+
+    private AddressBook addressBook;
+    private SnapshotTracker tracker;
+    private Person original;
+    private Person edited;
+    private boolean isEdited;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RosterGenerator generator = new RosterGenerator(BenchmarkRosters.SEED);
+        addressBook = generator.generateAddressBook(rosterSize);
+        tracker = new SnapshotTracker(addressBook, addressBook.getWeeklySessions(), () -> {});
+        original = addressBook.getPersonList().get(rosterSize / 2);
+        // A person the roster does not contain, which the edit swaps in and out
+        edited = generator.generatePerson(rosterSize);
+    }
+
+    @Benchmark
+    public AddressBookSnapshot editThenTrack() {
+        editMiddlePerson();
+        return tracker.snapshot();
+    }
+
+    @Benchmark
+    public AddressBookSnapshot editThenCopy() {
+        editMiddlePerson();
+        return AddressBookSnapshot.of(addressBook, addressBook.getWeeklySessions());
+    }
+
+    private void editMiddlePerson() {
+        if (isEdited) {
+            addressBook.setPerson(edited, original);
+        } else {
+            addressBook.setPerson(original, edited);
+        }
+        isEdited = !isEdited;
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import seedu.address.logic.CommandExecutionService;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.FreeCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.RosterGenerator;
+import seedu.address.server.ApiServer;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Measures how many API requests are answered per second when many clients send them at once, and whether reads
+ * keep up while commands are being executed and saved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ApiServerBenchmark {
+
+    private static final int CLIENT_COUNT = 8;
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int rosterSize;
+
+    private Path directory;
+    private ExecutorService modelThread;
+    private CommandExecutionService commandExecutionService;
+    private ApiServer apiServer;
+    private HttpClient client;
+    private HttpRequest sessionsRequest;
+    private HttpRequest freeRequest;
+    private HttpRequest findRequest;
+    private HttpRequest commandRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("api-benchmark");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(directory.resolve("data.json")),
+                new JsonUserPrefsStorage(directory.resolve("preferences.json")));
+        LogicManager logic = new LogicManager(new ModelManager(
+                new RosterGenerator(BenchmarkRosters.SEED).generateAddressBook(rosterSize), new UserPrefs()), storage);
+
+        modelThread = Executors.newSingleThreadExecutor();
+        commandExecutionService = new CommandExecutionService(logic, modelThread);
+        apiServer = new ApiServer(logic, commandExecutionService, 0);
+        apiServer.start();
+
+        client = HttpClient.newHttpClient();
+        sessionsRequest = HttpRequest.newBuilder(uri(ApiServer.PATH_SESSIONS)).GET().build();
+        freeRequest = HttpRequest.newBuilder(uri(ApiServer.PATH_FREE + "?hours=2")).GET().build();
+        findRequest = HttpRequest.newBuilder(uri(ApiServer.PATH_PERSONS + "?q=Balakrishnan")).GET().build();
+        commandRequest = HttpRequest.newBuilder(uri(ApiServer.PATH_COMMANDS))
+                .header(ApiServer.HEADER_AUTHORIZATION, ApiServer.TOKEN_PREFIX + apiServer.getToken())
+                .POST(HttpRequest.BodyPublishers.ofString(FreeCommand.COMMAND_WORD + " 2")).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        apiServer.stop();
+        commandExecutionService.shutdown();
+        modelThread.shutdown();
+        Files.deleteIfExists(directory.resolve("data.json"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    @Threads(CLIENT_COUNT)
+    public String sessions() throws IOException, InterruptedException {
+        return send(sessionsRequest);
+    }
+
+    @Benchmark
+    @Threads(CLIENT_COUNT)
+    public String free() throws IOException, InterruptedException {
+        return send(freeRequest);
+    }
+
+    @Benchmark
+    @Threads(CLIENT_COUNT)
+    public String find() throws IOException, InterruptedException {
+        return send(findRequest);
+    }
+
+    @Benchmark
+    @Group("findDuringCommands")
+    @GroupThreads(CLIENT_COUNT - 1)
+    public String findWhileCommandsRun() throws IOException, InterruptedException {
+        return send(findRequest);
+    }
+
+    @Benchmark
+    @Group("findDuringCommands")
+    @GroupThreads(1)
+    public String command() throws IOException, InterruptedException {
+        return send(commandRequest);
+    }
+
+    private String send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + apiServer.getPort() + path);
+    }
+}
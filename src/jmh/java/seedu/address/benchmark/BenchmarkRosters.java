@@ -0,0 +1,11 @@
+package seedu.address.benchmark;
+
+/**
+ * Shared settings of the rosters generated for the benchmarks.
+ */
+final class BenchmarkRosters {
+    /** Seed of every generated roster, so that runs before and after a change measure the same data. */
+    static final long SEED = 2103;
+
+    private BenchmarkRosters() {}
+}
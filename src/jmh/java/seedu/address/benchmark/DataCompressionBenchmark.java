@@ -0,0 +1,100 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.RosterGenerator;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Measures saving and loading the data file at each compression level, where level 0 leaves it uncompressed.
+ *
+ * Besides operations per second, each benchmark reports {@code rawBytes}, the rate of uncompressed json encoded or
+ * decoded, and {@code storedBytes}, the rate of bytes written to or read from the disk. Their ratio is the compression
+ * ratio, which is also printed when the files are first written.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DataCompressionBenchmark {
+
+    @Param({"1000", "100000"})
+    public int rosterSize;
+
+    @Param({"0", "1", "6", "9"})
+    public int compressionLevel;
+
+    private Path directory;
+    private ReadOnlyAddressBook addressBook;
+    private JsonAddressBookStorage saveStorage;
+    private JsonAddressBookStorage readStorage;
+    private long rawSize;
+    private long storedSize;
+
+    /**
+     * Counts the bytes encoded or decoded by each benchmark, which JMH reports as rates.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Bytes {
+        public long rawBytes;
+        public long storedBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("compression-benchmark");
+        addressBook = new RosterGenerator(BenchmarkRosters.SEED).generateAddressBook(rosterSize);
+        saveStorage = new JsonAddressBookStorage(directory.resolve("save.json"), compressionLevel);
+        readStorage = new JsonAddressBookStorage(directory.resolve("read.json"), compressionLevel);
+        readStorage.saveAddressBook(addressBook);
+
+        JsonAddressBookStorage rawStorage = new JsonAddressBookStorage(directory.resolve("raw.json"));
+        rawStorage.saveAddressBook(addressBook);
+        rawSize = Files.size(rawStorage.getAddressBookFilePath());
+        storedSize = Files.size(readStorage.getAddressBookFilePath());
+        Files.delete(rawStorage.getAddressBookFilePath());
+        System.out.printf("%n%d persons at level %d: %d bytes raw, %d bytes stored (%.1f%%)%n", rosterSize,
+                compressionLevel, rawSize, storedSize, 100.0 * storedSize / rawSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(saveStorage.getAddressBookFilePath());
+        Files.deleteIfExists(readStorage.getAddressBookFilePath());
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Path save(Bytes bytes) throws IOException {
+        saveStorage.saveAddressBook(addressBook);
+        bytes.rawBytes += rawSize;
+        bytes.storedBytes += storedSize;
+        return saveStorage.getAddressBookFilePath();
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> read(Bytes bytes) throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> readBack = readStorage.readAddressBook();
+        bytes.rawBytes += rawSize;
+        bytes.storedBytes += storedSize;
+        return readBack;
+    }
+}
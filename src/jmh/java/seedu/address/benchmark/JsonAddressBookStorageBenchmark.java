@@ -0,0 +1,67 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.RosterGenerator;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Measures saving and loading the data file, which happens after every command and at startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    public int rosterSize;
+
+    private Path directory;
+    private ReadOnlyAddressBook addressBook;
+    private JsonAddressBookStorage saveStorage;
+    private JsonAddressBookStorage readStorage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("storage-benchmark");
+        addressBook = new RosterGenerator(BenchmarkRosters.SEED).generateAddressBook(rosterSize);
+        saveStorage = new JsonAddressBookStorage(directory.resolve("save.json"));
+        readStorage = new JsonAddressBookStorage(directory.resolve("read.json"));
+        readStorage.saveAddressBook(addressBook);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(saveStorage.getAddressBookFilePath());
+        Files.deleteIfExists(readStorage.getAddressBookFilePath());
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Path save() throws IOException {
+        saveStorage.saveAddressBook(addressBook);
+        return saveStorage.getAddressBookFilePath();
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> read() throws DataLoadingException {
+        return readStorage.readAddressBook();
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.RosterGenerator;
+
+/**
+ * Measures a {@code find} over the whole roster.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameContainsKeywordsPredicateBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    public int rosterSize;
+
+    private List<Person> persons;
+    private NameContainsKeywordsPredicate predicate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        persons = new RosterGenerator(BenchmarkRosters.SEED).generatePersons(rosterSize);
+        predicate = new NameContainsKeywordsPredicate(List.of("alex", "tan"));
+    }
+
+    @Benchmark
+    public long find() {
+        return persons.stream().filter(predicate).count();
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.RosterGenerator;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
+
+/**
+ * Measures saving after a command that edits one person, and loading at startup, with the address book sharded across
+ * a folder and with it in a single file. A sharded save should cost about one shard however large the roster is.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ShardedAddressBookStorageBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    public int rosterSize;
+
+    private Path directory;
+    private AddressBook addressBook;
+    private ShardedAddressBookStorage shardedStorage;
+    private JsonAddressBookStorage singleFileStorage;
+    private Person original;
+    private Person edited;
+    private boolean isEdited;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("sharded-storage-benchmark");
+        RosterGenerator generator = new RosterGenerator(BenchmarkRosters.SEED);
+        addressBook = generator.generateAddressBook(rosterSize);
+        original = addressBook.getPersonList().get(rosterSize / 2);
+        // A person the roster does not contain, which the edit swaps in and out
+        edited = generator.generatePerson(rosterSize);
+
+        shardedStorage = new ShardedAddressBookStorage(directory.resolve("data"));
+        singleFileStorage = new JsonAddressBookStorage(directory.resolve("data.json"));
+        shardedStorage.saveAddressBook(addressBook);
+        singleFileStorage.saveAddressBook(addressBook);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public Path editThenSaveSharded() throws IOException {
+        editMiddlePerson();
+        shardedStorage.saveAddressBook(addressBook);
+        return shardedStorage.getAddressBookFilePath();
+    }
+
+    @Benchmark
+    public Path editThenSaveSingleFile() throws IOException {
+        editMiddlePerson();
+        singleFileStorage.saveAddressBook(addressBook);
+        return singleFileStorage.getAddressBookFilePath();
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> readSharded() throws DataLoadingException {
+        // A storage of its own, so that reading does not change what the saves compare against
+        return new ShardedAddressBookStorage(shardedStorage.getAddressBookFilePath()).readAddressBook();
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> readSingleFile() throws DataLoadingException {
+        return singleFileStorage.readAddressBook();
+    }
+
+    private void editMiddlePerson() {
+        if (isEdited) {
+            addressBook.setPerson(edited, original);
+        } else {
+            addressBook.setPerson(original, edited);
+        }
+        isEdited = !isEdited;
+    }
+}
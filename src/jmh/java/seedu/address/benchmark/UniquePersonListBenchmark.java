@@ -0,0 +1,65 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.util.RosterGenerator;
+
+/**
+ * Measures the duplicate checks done by {@code UniquePersonList} when a student is added or edited.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UniquePersonListBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    public int rosterSize;
+
+    private UniquePersonList persons;
+    private Person newcomer;
+    private Person lastStudent;
+    private Person editedLastStudent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RosterGenerator generator = new RosterGenerator(BenchmarkRosters.SEED);
+        persons = new UniquePersonList();
+        persons.setPersons(generator.generatePersons(rosterSize));
+        newcomer = generator.generatePerson(rosterSize);
+        // The last student is the worst case for a linear scan
+        lastStudent = generator.generatePerson(rosterSize - 1);
+        editedLastStudent = generator.generatePerson(rosterSize + 1);
+    }
+
+    /**
+     * Adds a new student and removes it again, so the roster size stays fixed across invocations.
+     */
+    @Benchmark
+    public UniquePersonList addAndRemove() {
+        persons.add(newcomer);
+        persons.remove(newcomer);
+        return persons;
+    }
+
+    /**
+     * Replaces the last student and restores it again.
+     */
+    @Benchmark
+    public UniquePersonList setPerson() {
+        persons.setPerson(lastStudent, editedLastStudent);
+        persons.setPerson(editedLastStudent, lastStudent);
+        return persons;
+    }
+}
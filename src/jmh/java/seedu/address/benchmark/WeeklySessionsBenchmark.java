@@ -0,0 +1,55 @@
+package seedu.address.benchmark;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.WeeklySessions;
+import seedu.address.model.person.Session;
+import seedu.address.model.util.RosterGenerator;
+
+/**
+ * Measures the schedule queries behind {@code addsession} and {@code free}.
+ * Generated sessions fill the weekday afternoons and the weekends, so a search for a seven-hour slot scans the whole
+ * week without finding one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WeeklySessionsBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    public int rosterSize;
+
+    private WeeklySessions weeklySessions;
+    private Session morningSession;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        weeklySessions = new RosterGenerator(BenchmarkRosters.SEED).generateAddressBook(rosterSize).getWeeklySessions();
+        // Generated weekday sessions start after school, so nothing overlaps a Monday morning
+        morningSession = new Session("MON", "0900", "1100");
+    }
+
+    /**
+     * Checks a session that overlaps nothing, which is the worst case for the overlap search.
+     */
+    @Benchmark
+    public Optional<Session> getOverlap() {
+        return weeklySessions.getOverlap(morningSession);
+    }
+
+    @Benchmark
+    public String getEarliestFreeTime() {
+        return weeklySessions.getEarliestFreeTime(7);
+    }
+}
@@ -10,6 +10,7 @@ import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.server.ApiServer;
 
 /**
  * Represents the parsed command-line parameters given to the application.
@@ -18,6 +19,7 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Integer apiPort;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,6 +29,17 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the port to serve the API on, or null if it should not be served.
+     */
+    public Integer getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(Integer apiPort) {
+        this.apiPort = apiPort;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -41,6 +54,15 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String apiPortParameter = namedParameters.get("api-port");
+        if (apiPortParameter != null) {
+            try {
+                appParameters.setApiPort(ApiServer.parsePort(apiPortParameter));
+            } catch (NumberFormatException e) {
+                logger.warning("Invalid API port " + apiPortParameter + ". The API will not be served.");
+            }
+        }
+
         return appParameters;
     }
 
@@ -56,18 +78,20 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(apiPort, otherAppParameters.apiPort);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, apiPort);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("apiPort", apiPort)
                 .toString();
     }
 }
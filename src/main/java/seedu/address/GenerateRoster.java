@@ -0,0 +1,36 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.model.util.RosterGenerator;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Writes a generated roster to a data file, for loading large address books into the app.
+ * Usage: {@code GenerateRoster SIZE [SEED] [FILE]}, where the file defaults to {@code data/Zenith.json}.
+ */
+public class GenerateRoster {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 3) {
+            System.err.println("Usage: GenerateRoster SIZE [SEED] [FILE]");
+            System.exit(1);
+        }
+        int size = Integer.parseInt(args[0]);
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 0;
+        Path filePath = Paths.get(args.length > 2 ? args[2] : "data/Zenith.json");
+
+        write(new RosterGenerator(seed), size, new JsonAddressBookStorage(filePath));
+        System.out.println("Wrote " + size + " students to " + filePath);
+    }
+
+    /**
+     * Saves the first {@code size} students generated by {@code generator} through {@code storage}.
+     */
+    public static void write(RosterGenerator generator, int size, AddressBookStorage storage) throws IOException {
+        storage.saveAddressBook(generator.generateAddressBook(size));
+    }
+}
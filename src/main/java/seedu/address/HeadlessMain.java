@@ -0,0 +1,274 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javafx.beans.Observable;
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.KeyFile;
+import seedu.address.logic.CommandExecutionService;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.ScriptRunner;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.server.ApiServer;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs a single command or a script against the data file without a window, e.g. from cron jobs and shell pipelines,
+ * serves it to other programs until stopped, or exports it.
+ * Usage: {@code HeadlessMain [--config=FILE] COMMAND}, {@code HeadlessMain [--config=FILE] --script FILE [--atomic]},
+ * {@code HeadlessMain [--config=FILE] --serve PORT} or {@code HeadlessMain [--config=FILE] --export PATH}.
+ *
+ * Only the JavaFX collections used by the model are loaded; the JavaFX toolkit is never started. The data file is
+ * saved once after the command if it changed anything, and the result is printed to standard output. As in the app,
+ * everything logged also goes to the rolling log file in the working directory, while only warnings reach the console.
+ */
+public class HeadlessMain {
+    public static final String OPTION_CONFIG = "--config=";
+    public static final String OPTION_SCRIPT = "--script";
+    public static final String OPTION_ATOMIC = "--atomic";
+    public static final String OPTION_SERVE = "--serve";
+    public static final String OPTION_EXPORT = "--export";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_FAILURE = 1;
+    public static final int EXIT_USAGE = 2;
+
+    public static final String MESSAGE_USAGE = "Usage: HeadlessMain [" + OPTION_CONFIG + "FILE] COMMAND\n"
+            + "       HeadlessMain [" + OPTION_CONFIG + "FILE] " + OPTION_SCRIPT + " FILE [" + OPTION_ATOMIC + "]\n"
+            + "       HeadlessMain [" + OPTION_CONFIG + "FILE] " + OPTION_SERVE + " PORT\n"
+            + "       HeadlessMain [" + OPTION_CONFIG + "FILE] " + OPTION_EXPORT + " PATH";
+    public static final String MESSAGE_LOAD_ERROR = "Could not load data file %1$s, so nothing was run.";
+    public static final String MESSAGE_SERVING =
+            "Serving the API on port %1$d until stopped. Commands need the token %2$s.";
+    public static final String MESSAGE_SERVE_ERROR = "Could not serve the API on port %1$d: %2$s";
+    public static final String MESSAGE_EXPORTED = "Exported %1$d persons to %2$s.";
+    public static final String MESSAGE_EXPORT_ERROR = "Could not export to %1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessMain.class);
+
+    public static void main(String[] args) {
+        int exitCode = run(args, System.out, System.err);
+        LogsCenter.flush();
+        System.exit(exitCode);
+    }
+
+    /**
+     * Runs the command or script given by {@code args}, printing its result to {@code out} and any error to
+     * {@code err}.
+     *
+     * @return the exit code of the run.
+     */
+    public static int run(String[] args, PrintStream out, PrintStream err) {
+        Path configPath = Config.DEFAULT_CONFIG_FILE;
+        int firstArg = 0;
+        try {
+            if (args.length > 0 && args[0].startsWith(OPTION_CONFIG)) {
+                configPath = Paths.get(args[0].substring(OPTION_CONFIG.length()));
+                firstArg = 1;
+            }
+        } catch (InvalidPathException e) {
+            err.println(MESSAGE_USAGE);
+            return EXIT_USAGE;
+        }
+        String[] commandArgs = Arrays.copyOfRange(args, firstArg, args.length);
+        if (commandArgs.length == 0 || !isValidArgs(commandArgs)) {
+            err.println(MESSAGE_USAGE);
+            return EXIT_USAGE;
+        }
+
+        // The console is where the result goes, so only problems are logged there
+        LogsCenter.setConsoleLevel(Level.WARNING);
+        Config config = readConfig(configPath);
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = readUserPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = new ShardedAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                config.getDataCompressionLevel(), config.getDataKeyFilePath().map(KeyFile::new).orElse(null));
+        Storage storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        ReadOnlyAddressBook addressBook;
+        try {
+            addressBook = storage.readAddressBook().orElseGet(AddressBook::new);
+        } catch (DataLoadingException e) {
+            // Saving an empty address book over a file that could not be read would lose its data
+            err.println(String.format(MESSAGE_LOAD_ERROR, storage.getAddressBookFilePath()));
+            return EXIT_FAILURE;
+        }
+        Model model = new ModelManager(addressBook, userPrefs);
+        Logic logic = new LogicManager(model, storage);
+        if (commandArgs[0].equals(OPTION_SERVE)) {
+            return serve(logic, ApiServer.parsePort(commandArgs[1]), out, err);
+        }
+        if (commandArgs[0].equals(OPTION_EXPORT)) {
+            return export(storage, addressBook, commandArgs[1], out, err);
+        }
+
+        AtomicBoolean hasChanged = new AtomicBoolean();
+        model.getAddressBook().getPersonList().addListener((Observable observable) -> hasChanged.set(true));
+
+        try {
+            CommandResult commandResult = execute(logic, commandArgs);
+            // Queries such as list and free leave the data file as it is, which saves rewriting all of it
+            if (hasChanged.get()) {
+                logic.saveAddressBook();
+            }
+            // A script that stopped at a failing line keeps the changes before it, but did not do what was asked
+            if (commandResult.isStopped()) {
+                err.println(commandResult.getFeedbackToUser());
+                return EXIT_FAILURE;
+            }
+            out.println(commandResult.getFeedbackToUser());
+            return EXIT_SUCCESS;
+        } catch (CommandException | ParseException e) {
+            err.println(e.getMessage());
+            return EXIT_FAILURE;
+        } catch (InvalidPathException e) {
+            err.println(MESSAGE_USAGE);
+            return EXIT_USAGE;
+        }
+    }
+
+    /**
+     * Returns true if {@code commandArgs} is a command, a script with a file and at most the atomic option, a port to
+     * serve on, or a path to export to.
+     */
+    private static boolean isValidArgs(String[] commandArgs) {
+        if (commandArgs[0].equals(OPTION_SCRIPT)) {
+            return commandArgs.length == 2
+                    || commandArgs.length == 3 && commandArgs[2].equals(OPTION_ATOMIC);
+        }
+        if (commandArgs[0].equals(OPTION_EXPORT)) {
+            return commandArgs.length == 2;
+        }
+        if (commandArgs[0].equals(OPTION_SERVE)) {
+            try {
+                return commandArgs.length == 2 && ApiServer.parsePort(commandArgs[1]) >= 0;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Serves the address book on {@code port} until the process is stopped, e.g. with Ctrl+C.
+     * Commands from the API are executed on a thread of their own, which stands in for the window's thread.
+     */
+    private static int serve(Logic logic, int port, PrintStream out, PrintStream err) {
+        ExecutorService modelThread = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "model"));
+        CommandExecutionService commandExecutionService = new CommandExecutionService(logic, modelThread);
+        ApiServer apiServer;
+        try {
+            apiServer = new ApiServer(logic, commandExecutionService, port);
+        } catch (IOException e) {
+            err.println(String.format(MESSAGE_SERVE_ERROR, port, e.getMessage()));
+            modelThread.shutdown();
+            return EXIT_FAILURE;
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            apiServer.stop();
+            commandExecutionService.shutdown();
+            modelThread.shutdown();
+            LogsCenter.flush();
+        }, "api-shutdown"));
+        apiServer.start();
+        out.println(String.format(MESSAGE_SERVING, apiServer.getPort(), apiServer.getToken()));
+
+        try {
+            new CountDownLatch(1).await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return EXIT_SUCCESS;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code path}: a single json file if it ends in {@code .json}, otherwise a folder
+     * of shards. The data file itself is left as it is.
+     */
+    private static int export(Storage storage, ReadOnlyAddressBook addressBook, String path, PrintStream out,
+            PrintStream err) {
+        try {
+            storage.saveAddressBook(addressBook, Paths.get(path));
+        } catch (IOException | InvalidPathException e) {
+            err.println(String.format(MESSAGE_EXPORT_ERROR, path, e.getMessage()));
+            return EXIT_FAILURE;
+        }
+        out.println(String.format(MESSAGE_EXPORTED, addressBook.getPersonList().size(), path));
+        return EXIT_SUCCESS;
+    }
+
+    /**
+     * Executes the command or script given by {@code commandArgs}, without saving the address book.
+     */
+    private static CommandResult execute(Logic logic, String[] commandArgs) throws CommandException, ParseException {
+        if (!commandArgs[0].equals(OPTION_SCRIPT)) {
+            return logic.executeCommand(logic.parseCommand(String.join(" ", commandArgs)));
+        }
+
+        Path scriptFile = Paths.get(commandArgs[1]);
+        boolean isAtomic = commandArgs.length == 3;
+        return logic.executeCommand(new RunCommand(scriptFile, isAtomic,
+                new ScriptRunner(new AddressBookParser()::parseUnattendedCommand)));
+    }
+
+    /**
+     * Returns the config in {@code configPath}, or the default config if it is missing or cannot be read.
+     * Unlike the app, a missing config file is not created.
+     */
+    private static Config readConfig(Path configPath) {
+        try {
+            return ConfigUtil.readConfig(configPath).orElseGet(Config::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configPath + " could not be loaded. Using default config properties.");
+            return new Config();
+        }
+    }
+
+    /**
+     * Returns the user prefs in {@code storage}, or the default user prefs if they are missing or cannot be read.
+     * Unlike the app, a missing preference file is not created.
+     */
+    private static UserPrefs readUserPrefs(UserPrefsStorage storage) {
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            return prefsOptional.orElseGet(UserPrefs::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + storage.getUserPrefsFilePath() + " could not be loaded."
+                    + " Using default preferences.");
+            return new UserPrefs();
+        }
+    }
+}
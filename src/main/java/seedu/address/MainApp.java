@@ -3,36 +3,50 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupTimeline;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.KeyFile;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandExecutionService;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDiff;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.server.ApiServer;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WatchedAddressBookStorage;
+import seedu.address.ui.FxmlPreloader;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
 /**
  * Runs the application.
+ *
+ * To show the window sooner, the address book is read on a background thread while the UI is built, and the classes
+ * the FXML documents need are loaded on another. Commands are refused until the address book has been loaded.
+ * The time taken by each phase of startup is logged, followed by a summary once the address book is shown.
+ * Given {@code --api-port=PORT}, the address book is also served to other programs once it has been loaded.
+ * Once loaded, the data file is also watched, and changes made to it outside the app are merged into the address book.
  */
 public class MainApp extends Application {
 
@@ -45,36 +59,66 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected CommandExecutionService commandExecutionService;
+    protected ApiServer apiServer;
+    protected WatchedAddressBookStorage addressBookStorage;
 
-    private boolean hasFileLoadError = false;
+    private final StartupTimeline startupTimeline = new StartupTimeline();
+    private CompletableFuture<ReadOnlyAddressBook> addressBookLoading;
+    private volatile boolean hasFileLoadError = false;
+    private Integer apiPort;
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing Zenith ]===========================");
         super.init();
 
+        runInBackground("fxml-preloader", () ->
+                startupTimeline.time("fxml preload", FxmlPreloader::preloadStartupFxmlFiles));
+
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        apiPort = appParameters.getApiPort();
+        config = startupTimeline.time("config", () -> initConfig(appParameters.getConfigPath()));
         initLogging(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        UserPrefs userPrefs = startupTimeline.time("user prefs", () -> initPrefs(userPrefsStorage));
+        addressBookStorage = new WatchedAddressBookStorage(new ShardedAddressBookStorage(
+                userPrefs.getAddressBookFilePath(), config.getDataCompressionLevel(),
+                config.getDataKeyFilePath().map(KeyFile::new).orElse(null)));
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        addressBookLoading = runInBackground("address-book-loader", () ->
+                startupTimeline.time("address book load", () -> initAddressBook(storage)));
+
+        // The address book is filled in once it has been loaded
+        model = new ModelManager(new AddressBook(), userPrefs);
 
         logic = new LogicManager(model, storage);
 
-        ui = new UiManager(logic, hasFileLoadError);
+        // Shared by the window and the API, so that all commands run one at a time
+        commandExecutionService = new CommandExecutionService(logic, Platform::runLater);
+
+        ui = new UiManager(logic, commandExecutionService);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Runs {@code task} on a new daemon thread named {@code threadName} and returns a future of its result.
+     */
+    private static <T> CompletableFuture<T> runInBackground(String threadName, Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyAddressBook initAddressBook(Storage storage) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
@@ -93,7 +137,71 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
+    }
+
+    /**
+     * Shows {@code loadedData} and lets the user run commands. Must be called on the JavaFX application thread.
+     */
+    private void showAddressBook(ReadOnlyAddressBook loadedData, Throwable error) {
+        ReadOnlyAddressBook initialData = loadedData;
+        if (error != null) {
+            logger.severe("Unexpected error while loading the data file: " + StringUtil.getDetails(error));
+            hasFileLoadError = true;
+            initialData = new AddressBook();
+        }
+
+        ReadOnlyAddressBook dataToShow = initialData;
+        startupTimeline.time("show address book", () -> {
+            model.setAddressBook(dataToShow);
+            // The loaded data is where undoing stops, not a change the first command could undo
+            model.resetUndoHistory();
+        });
+        logger.info(startupTimeline.summarize());
+        ui.showAddressBookLoaded(hasFileLoadError);
+        if (apiPort != null) {
+            startApiServer(apiPort);
+        }
+        startWatchingDataFile();
+    }
+
+    /**
+     * Watches the data file for changes made outside the app. Each changed address book is compared with the one
+     * shown on the watcher's thread, and only what differs is then merged in turn with the commands, so that it is
+     * not applied while a command's changes are being saved.
+     */
+    private void startWatchingDataFile() {
+        try {
+            addressBookStorage.startWatching(changedAddressBook -> {
+                AddressBookDiff diff = logic.diffAddressBook(changedAddressBook);
+                if (!diff.isEmpty()) {
+                    commandExecutionService.submitMerge(diff).whenComplete(this::onDataFileMerged);
+                }
+            });
+        } catch (IOException e) {
+            logger.warning("Could not watch the data file for changes: " + StringUtil.getDetails(e));
+        }
+    }
+
+    private void onDataFileMerged(AddressBookDiff mergedDiff, Throwable error) {
+        if (error != null) {
+            logger.warning("Could not save changes merged from the data file: " + StringUtil.getDetails(error));
+        } else if (!mergedDiff.isEmpty()) {
+            ui.showDataFileMerged(mergedDiff);
+        }
+    }
+
+    /**
+     * Serves the address book on {@code port}. It is only served once it has been loaded, so that commands from
+     * the API cannot overwrite it.
+     */
+    private void startApiServer(int port) {
+        try {
+            apiServer = new ApiServer(logic, commandExecutionService, port);
+            apiServer.start();
+        } catch (IOException e) {
+            logger.warning("Could not serve the API on port " + port + ": " + StringUtil.getDetails(e));
+        }
     }
 
     private void initLogging(Config config) {
@@ -174,16 +282,24 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting Zenith " + MainApp.VERSION);
-        ui.start(primaryStage);
+        startupTimeline.time("ui start", () -> ui.start(primaryStage));
+        addressBookLoading.whenCompleteAsync(this::showAddressBook, Platform::runLater);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Zenith ] =============================");
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        addressBookStorage.stopWatching();
+        ui.stop(); // also stops commandExecutionService
+        logger.info(logic.getCommandMetrics().report());
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        LogsCenter.flush();
     }
 }
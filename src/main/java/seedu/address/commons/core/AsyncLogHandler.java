@@ -0,0 +1,162 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that hands log records to other handlers on a single background writer thread, so that
+ * formatting and writing log output never blocks the thread that logs.
+ *
+ * Records wait in a bounded ring buffer. When the buffer is full, records below {@code WARNING} are dropped and
+ * counted, and the writer reports how many were dropped; records at {@code WARNING} or above wait for space instead,
+ * so problems are never lost. {@link #flush()} waits until every record published before it has been written, and
+ * {@link #close()} writes out everything still buffered before closing the delegate handlers.
+ */
+public class AsyncLogHandler extends Handler {
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private static final long FLUSH_TIMEOUT_MILLIS = 5000;
+
+    /** Marks the end of the records to write; queued by {@link #close()}. */
+    private static final LogRecord END_OF_RECORDS = new LogRecord(Level.OFF, "");
+
+    private final List<Handler> delegates;
+    private final BlockingQueue<LogRecord> buffer;
+    private final Thread writer;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong queuedCount = new AtomicLong();
+    private final Object writtenLock = new Object();
+    private long writtenCount; // guarded by writtenLock
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that buffers up to {@code capacity} records for {@code delegates} and starts its writer.
+     */
+    public AsyncLogHandler(int capacity, Handler... delegates) {
+        checkArgument(capacity > 0, "Capacity must be positive");
+        this.delegates = List.of(delegates);
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        setLevel(Level.ALL);
+
+        writer = new Thread(this::writeRecords, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+
+        // The caller is inferred from the stack lazily, so it must happen on the logging thread
+        record.getSourceClassName();
+
+        if (record.getLevel().intValue() >= Level.WARNING.intValue()) {
+            try {
+                buffer.put(record);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        } else if (!buffer.offer(record)) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+        queuedCount.incrementAndGet();
+    }
+
+    /**
+     * Waits until every record published before this call has been written, then flushes the delegates.
+     * Gives up waiting after a few seconds, so a stuck delegate cannot hang the caller.
+     */
+    @Override
+    public void flush() {
+        long target = queuedCount.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FLUSH_TIMEOUT_MILLIS);
+        synchronized (writtenLock) {
+            while (writtenCount < target && writer.isAlive()) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    break;
+                }
+                try {
+                    writtenLock.wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        delegates.forEach(Handler::flush);
+    }
+
+    /**
+     * Writes out every buffered record, stops the writer and closes the delegates.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+
+        try {
+            buffer.put(END_OF_RECORDS);
+            writer.join(FLUSH_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        delegates.forEach(Handler::close);
+    }
+
+    /**
+     * Returns the number of records dropped because the buffer was full and not reported yet.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void writeRecords() {
+        while (true) {
+            LogRecord record;
+            try {
+                record = buffer.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (record == END_OF_RECORDS) {
+                reportDroppedRecords();
+                return;
+            }
+
+            reportDroppedRecords();
+            delegates.forEach(delegate -> delegate.publish(record));
+            synchronized (writtenLock) {
+                writtenCount++;
+                writtenLock.notifyAll();
+            }
+        }
+    }
+
+    private void reportDroppedRecords() {
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped == 0) {
+            return;
+        }
+        LogRecord report = new LogRecord(Level.WARNING, "Dropped " + dropped
+                + " log record(s) because the log buffer was full");
+        report.setLoggerName(AsyncLogHandler.class.getName());
+        report.setSourceClassName(AsyncLogHandler.class.getName());
+        report.setSourceMethodName("publish");
+        delegates.forEach(delegate -> delegate.publish(report));
+    }
+}
@@ -3,8 +3,10 @@ package seedu.address.commons.core;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.logging.Level;
 
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -17,6 +19,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int dataCompressionLevel = FileUtil.NO_COMPRESSION;
+    private Path dataKeyFilePath = null;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +38,30 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the gzip compression level of the data file, from 1 (fastest) to 9 (smallest), or
+     * {@link FileUtil#NO_COMPRESSION} to leave it uncompressed. A level in the config file outside that range also
+     * leaves it uncompressed.
+     */
+    public int getDataCompressionLevel() {
+        return FileUtil.isValidCompressionLevel(dataCompressionLevel) ? dataCompressionLevel : FileUtil.NO_COMPRESSION;
+    }
+
+    public void setDataCompressionLevel(int dataCompressionLevel) {
+        this.dataCompressionLevel = dataCompressionLevel;
+    }
+
+    /**
+     * Returns the file holding the key the data file is encrypted with, or an empty Optional if it is not encrypted.
+     */
+    public Optional<Path> getDataKeyFilePath() {
+        return Optional.ofNullable(dataKeyFilePath);
+    }
+
+    public void setDataKeyFilePath(Path dataKeyFilePath) {
+        this.dataKeyFilePath = dataKeyFilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +75,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && dataCompressionLevel == otherConfig.dataCompressionLevel
+                && Objects.equals(dataKeyFilePath, otherConfig.dataKeyFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, dataCompressionLevel, dataKeyFilePath);
     }
 
     @Override
@@ -60,6 +90,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("dataCompressionLevel", dataCompressionLevel)
+                .add("dataKeyFilePath", dataKeyFilePath)
                 .toString();
     }
 
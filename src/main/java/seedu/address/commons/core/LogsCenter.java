@@ -16,6 +16,8 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Both outputs are written by a single background thread through an {@link AsyncLogHandler}, so logging never waits
+ *   for I/O. Call {@link #flush()} to wait until everything logged so far has been written.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
@@ -23,6 +25,8 @@ public class LogsCenter {
     private static final String LOG_FILE = "zenith.log";
     private static final Logger logger; // logger for this class
     private static Logger baseLogger; // to be used as the parent of all other loggers created by this class.
+    private static AsyncLogHandler asyncHandler; // writes the records of baseLogger to the console and file handlers
+    private static ConsoleHandler consoleHandler;
     private static Level currentLogLevel = Level.INFO;
 
     // This static block ensures essential loggers are created early
@@ -42,6 +46,22 @@ public class LogsCenter {
         baseLogger.setLevel(currentLogLevel);
     }
 
+    /**
+     * Only writes messages at {@code level} or above to the console. The log file still gets every message at the
+     * log level, e.g. when the console is the output of a command-line run.
+     */
+    public static void setConsoleLevel(Level level) {
+        requireNonNull(level);
+        consoleHandler.setLevel(level);
+    }
+
+    /**
+     * Waits until every message logged so far has been written to the console and the log file.
+     */
+    public static void flush() {
+        asyncHandler.flush();
+    }
+
     /**
      * Creates a logger with the given name prefixed by the {@code baseLogger}'s name so that the created logger
      * becomes a descendant of the {@code baseLogger}. Furthermore, the returned logger will have the same log handlers
@@ -75,8 +95,8 @@ public class LogsCenter {
     }
 
     /**
-     * Creates a logger named 'ab3', containing a {@code ConsoleHandler} and a {@code FileHandler}.
-     * Sets it as the {@code baseLogger}, to be used as the parent logger of all other loggers.
+     * Creates a logger named 'ab3', containing a {@code ConsoleHandler} and a {@code FileHandler} behind an
+     * {@code AsyncLogHandler}. Sets it as the {@code baseLogger}, to be used as the parent logger of all other loggers.
      */
     private static void setBaseLogger() {
         baseLogger = Logger.getLogger("ab3");
@@ -87,18 +107,25 @@ public class LogsCenter {
         // already; there is no need to control log message level of the handlers.
 
         // add a ConsoleHandler to log to the console
-        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler = new ConsoleHandler();
         consoleHandler.setLevel(Level.ALL);
-        baseLogger.addHandler(consoleHandler);
 
         // add a FileHandler to log to a file
+        FileHandler fileHandler = null;
         try {
-            FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
+            fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
             fileHandler.setFormatter(new SimpleFormatter());
             fileHandler.setLevel(Level.ALL);
-            baseLogger.addHandler(fileHandler);
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            // logger is not created yet; the warning is logged once the handlers are in place
+        }
+
+        asyncHandler = fileHandler == null
+                ? new AsyncLogHandler(AsyncLogHandler.DEFAULT_CAPACITY, consoleHandler)
+                : new AsyncLogHandler(AsyncLogHandler.DEFAULT_CAPACITY, consoleHandler, fileHandler);
+        baseLogger.addHandler(asyncHandler);
+        if (fileHandler == null) {
+            baseLogger.warning("Error adding file handler for logger.");
         }
     }
 
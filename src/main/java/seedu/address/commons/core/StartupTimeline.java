@@ -0,0 +1,118 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Records when each phase of the application's startup began and how long it took.
+ * Phases may run concurrently on different threads. Each phase is logged as it finishes, and
+ * {@link #summarize()} lays all of them out relative to the creation of the timeline.
+ */
+public class StartupTimeline {
+    private static final Logger logger = LogsCenter.getLogger(StartupTimeline.class);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final long originNanos;
+    private final List<PhaseRecord> finishedPhases = new ArrayList<>(); // guarded by itself
+
+    /**
+     * Creates a timeline whose offsets are measured from now.
+     */
+    public StartupTimeline() {
+        originNanos = System.nanoTime();
+    }
+
+    /**
+     * Runs {@code step} as the phase {@code name} and returns its result.
+     */
+    public <T> T time(String name, Supplier<T> step) {
+        requireNonNull(step);
+        long startNanos = System.nanoTime();
+        try {
+            return step.get();
+        } finally {
+            finish(name, startNanos);
+        }
+    }
+
+    /**
+     * Runs {@code step} as the phase {@code name}.
+     */
+    public void time(String name, Runnable step) {
+        requireNonNull(step);
+        time(name, () -> {
+            step.run();
+            return null;
+        });
+    }
+
+    /**
+     * Records a phase {@code name} that ends now and started at {@code startNanos}, as given by
+     * {@link System#nanoTime()}. Useful for phases that begin and end in different places.
+     */
+    public void finish(String name, long startNanos) {
+        requireNonNull(name);
+        PhaseRecord phase = new PhaseRecord(name, startNanos - originNanos, System.nanoTime() - startNanos,
+                Thread.currentThread().getName());
+        synchronized (finishedPhases) {
+            finishedPhases.add(phase);
+        }
+        logger.info(() -> "Startup phase " + phase);
+    }
+
+    /**
+     * Returns the names of the finished phases, in the order they started.
+     */
+    public List<String> getFinishedPhaseNames() {
+        List<String> names = new ArrayList<>();
+        sortedPhases().forEach(phase -> names.add(phase.name));
+        return names;
+    }
+
+    /**
+     * Returns a table of the finished phases, in the order they started.
+     */
+    public String summarize() {
+        StringBuilder summary = new StringBuilder("Startup timeline (start offset, duration, thread):");
+        sortedPhases().forEach(phase -> summary.append("\n  ").append(phase));
+        return summary.toString();
+    }
+
+    private List<PhaseRecord> sortedPhases() {
+        List<PhaseRecord> phases;
+        synchronized (finishedPhases) {
+            phases = new ArrayList<>(finishedPhases);
+        }
+        phases.sort(Comparator.comparingLong(phase -> phase.startOffsetNanos));
+        return phases;
+    }
+
+    /**
+     * A finished phase.
+     */
+    private static class PhaseRecord {
+        private final String name;
+        private final long startOffsetNanos;
+        private final long durationNanos;
+        private final String threadName;
+
+        PhaseRecord(String name, long startOffsetNanos, long durationNanos, String threadName) {
+            this.name = name;
+            this.startOffsetNanos = startOffsetNanos;
+            this.durationNanos = durationNanos;
+            this.threadName = threadName;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-20s +%8.1f ms %8.1f ms  [%s]", name,
+                    startOffsetNanos / NANOS_PER_MILLI, durationNanos / NANOS_PER_MILLI, threadName);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the entries of a displayed list that a command applies to: a single {@code Index}, an inclusive range
+ * of indexes, or every entry in the list, whatever its size.
+ */
+public class IndexSelection {
+    public static final String KEYWORD_ALL = "all";
+    public static final char RANGE_SEPARATOR = '-';
+
+    private static final IndexSelection ALL = new IndexSelection(null, null);
+
+    // both null if every entry is selected
+    private final Index first;
+    private final Index last;
+
+    private IndexSelection(Index first, Index last) {
+        this.first = first;
+        this.last = last;
+    }
+
+    /**
+     * Returns a selection of every entry in the list.
+     */
+    public static IndexSelection all() {
+        return ALL;
+    }
+
+    /**
+     * Returns a selection of the single entry at {@code index}.
+     */
+    public static IndexSelection of(Index index) {
+        requireNonNull(index);
+        return new IndexSelection(index, index);
+    }
+
+    /**
+     * Returns a selection of the entries from {@code first} to {@code last}, both inclusive.
+     *
+     * @throws IllegalArgumentException if {@code last} is before {@code first}.
+     */
+    public static IndexSelection range(Index first, Index last) {
+        requireNonNull(first);
+        requireNonNull(last);
+        if (last.getZeroBased() < first.getZeroBased()) {
+            throw new IllegalArgumentException("Range must not end before it starts");
+        }
+        return new IndexSelection(first, last);
+    }
+
+    /**
+     * Returns true if every entry in the list is selected.
+     */
+    public boolean isAll() {
+        return first == null;
+    }
+
+    /**
+     * Returns true if exactly one entry is selected, whatever the size of the list.
+     */
+    public boolean isSingle() {
+        return !isAll() && first.equals(last);
+    }
+
+    /**
+     * Returns true if every selected entry exists in a list of {@code listSize} entries.
+     */
+    public boolean isWithin(int listSize) {
+        return isAll() || last.getZeroBased() < listSize;
+    }
+
+    /**
+     * Returns the selected indexes of a list of {@code listSize} entries, in ascending order.
+     * The selection must be within the list.
+     */
+    public List<Index> resolve(int listSize) {
+        assert isWithin(listSize);
+        int from = isAll() ? 0 : first.getZeroBased();
+        int to = isAll() ? listSize - 1 : last.getZeroBased();
+
+        List<Index> indexes = new ArrayList<>(Math.max(0, to - from + 1));
+        for (int i = from; i <= to; i++) {
+            indexes.add(Index.fromZeroBased(i));
+        }
+        return indexes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexSelection)) {
+            return false;
+        }
+
+        IndexSelection otherSelection = (IndexSelection) other;
+        return Objects.equals(first, otherSelection.first) && Objects.equals(last, otherSelection.last);
+    }
+
+    @Override
+    public int hashCode() {
+        return isAll() ? 0 : Objects.hash(first.getZeroBased(), last.getZeroBased());
+    }
+
+    @Override
+    public String toString() {
+        if (isAll()) {
+            return new ToStringBuilder(this).add("index", KEYWORD_ALL).toString();
+        }
+        if (isSingle()) {
+            return new ToStringBuilder(this).add("index", first).toString();
+        }
+        return new ToStringBuilder(this).add("first", first).add("last", last).toString();
+    }
+}
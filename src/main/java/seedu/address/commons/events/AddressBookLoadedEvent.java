@@ -0,0 +1,39 @@
+package seedu.address.commons.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for reading the address book from a data file.
+ */
+@Name("seedu.address.AddressBookLoaded")
+@Label("Address Book Loaded")
+@Category("Zenith")
+@Description("Reading the address book from a data file")
+public class AddressBookLoadedEvent extends Event {
+    @Label("File")
+    private String file;
+
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    @Label("Persons")
+    private int persons;
+
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public void setPersons(int persons) {
+        this.persons = persons;
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.commons.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for the execution of a command against the model, excluding parsing and saving.
+ */
+@Name("seedu.address.CommandExecuted")
+@Label("Command Executed")
+@Category("Zenith")
+@Description("Execution of a command against the model")
+public class CommandExecutedEvent extends Event {
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    @Label("Result Size")
+    @Description("Number of characters of feedback shown to the user")
+    private int resultSize;
+
+    public void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    public void setSucceeded(boolean succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public void setResultSize(int resultSize) {
+        this.resultSize = resultSize;
+    }
+}
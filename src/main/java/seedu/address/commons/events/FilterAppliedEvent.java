@@ -0,0 +1,37 @@
+package seedu.address.commons.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for applying a new filter to the displayed person list.
+ */
+@Name("seedu.address.FilterApplied")
+@Label("Filter Applied")
+@Category("Zenith")
+@Description("Filtering the displayed person list with a new predicate")
+public class FilterAppliedEvent extends Event {
+    @Label("Predicate Type")
+    private String predicateType;
+
+    @Label("Matched Count")
+    private int matchedCount;
+
+    @Label("Total Count")
+    private int totalCount;
+
+    public void setPredicateType(String predicateType) {
+        this.predicateType = predicateType;
+    }
+
+    public void setMatchedCount(int matchedCount) {
+        this.matchedCount = matchedCount;
+    }
+
+    public void setTotalCount(int totalCount) {
+        this.totalCount = totalCount;
+    }
+}
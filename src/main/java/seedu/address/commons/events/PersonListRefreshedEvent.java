@@ -0,0 +1,38 @@
+package seedu.address.commons.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for the person list panel catching up with a change to the displayed persons, lasting from
+ * the change until the panel has been laid out again in the next pulse.
+ */
+@Name("seedu.address.PersonListRefreshed")
+@Label("Person List Refreshed")
+@Category("Zenith")
+@Description("Person list panel changing and being laid out again for a change to the displayed persons")
+public class PersonListRefreshedEvent extends Event {
+    @Label("Displayed Count")
+    private int displayedCount;
+
+    @Label("Added Count")
+    private int addedCount;
+
+    @Label("Removed Count")
+    private int removedCount;
+
+    public void setDisplayedCount(int displayedCount) {
+        this.displayedCount = displayedCount;
+    }
+
+    public void setAddedCount(int addedCount) {
+        this.addedCount = addedCount;
+    }
+
+    public void setRemovedCount(int removedCount) {
+        this.removedCount = removedCount;
+    }
+}
@@ -0,0 +1,316 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Encrypts and decrypts files with AES-GCM as they are written and read, so that a file never has to be held in
+ * memory whole.
+ *
+ * A file is a header followed by frames, each holding one chunk of up to {@link #CHUNK_SIZE} bytes encrypted on its
+ * own. Each file is encrypted with a key of its own, derived with HKDF-SHA256 from the given key and a random salt in
+ * the header, so that however many files are written with the same key, no two ever share a key and nonce. The nonce
+ * of each chunk is then just the chunk's number and whether it is the last chunk, so that chunks cannot be reordered,
+ * dropped or cut off at the end without decryption failing.
+ */
+public class EncryptionUtil {
+    /** The number of bytes encrypted in each frame but the last. */
+    public static final int CHUNK_SIZE = 64 * 1024;
+
+    private static final byte[] MAGIC = {'Z', 'E', 'N', 'C'};
+    private static final byte VERSION = 2;
+    private static final int SALT_LENGTH = 16;
+    private static final int HEADER_LENGTH = MAGIC.length + 1 + SALT_LENGTH;
+    private static final int NONCE_LENGTH = 12;
+    private static final int TAG_LENGTH = 16;
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final String KEY_DERIVATION_ALGORITHM = "HmacSHA256";
+    private static final byte[] FILE_KEY_INFO = "zenith data file key".getBytes(StandardCharsets.US_ASCII);
+
+    private static final SecureRandom random = new SecureRandom();
+
+    /**
+     * Returns true if {@code file} starts like a file encrypted by this class. Assumes file exists.
+     */
+    public static boolean isEncrypted(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(MAGIC.length);
+            while (magic.hasRemaining() && channel.read(magic) >= 0) {
+                // Keep reading until the magic is read or the file ends
+            }
+            return !magic.hasRemaining() && Arrays.equals(magic.array(), MAGIC);
+        }
+    }
+
+    /**
+     * Opens {@code file} for writing, creating it or replacing its contents, and encrypts what is written with
+     * {@code key}. The file is only complete once the stream is closed.
+     */
+    public static OutputStream openForEncrypting(Path file, SecretKey key) throws IOException {
+        requireNonNull(key);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            return new EncryptingOutputStream(channel, key);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens {@code file}, which must have been encrypted with {@code key}, and decrypts it as it is read.
+     *
+     * @throws IOException if the file cannot be read, or, possibly only once it is read, was not encrypted with
+     *     {@code key} or has been changed since.
+     */
+    public static InputStream openForDecrypting(Path file, SecretKey key) throws IOException {
+        requireNonNull(key);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new DecryptingInputStream(channel, key);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static Cipher newCipher() throws IOException {
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("AES-GCM is not available", e);
+        }
+    }
+
+    /**
+     * Returns the key of the file whose header holds {@code salt}, derived from {@code key} with HKDF (RFC 5869).
+     * A single block of HKDF's output is the length of an AES-256 key.
+     */
+    private static SecretKey deriveFileKey(SecretKey key, byte[] salt) throws IOException {
+        try {
+            Mac mac = Mac.getInstance(KEY_DERIVATION_ALGORITHM);
+            mac.init(new SecretKeySpec(salt, KEY_DERIVATION_ALGORITHM));
+            byte[] pseudoRandomKey = mac.doFinal(key.getEncoded());
+            mac.init(new SecretKeySpec(pseudoRandomKey, KEY_DERIVATION_ALGORITHM));
+            mac.update(FILE_KEY_INFO);
+            mac.update((byte) 1);
+            return new SecretKeySpec(mac.doFinal(), key.getAlgorithm());
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Could not derive the key of the file", e);
+        }
+    }
+
+    /**
+     * Fills {@code nonce} with the nonce of chunk number {@code chunk}.
+     */
+    private static void setNonce(byte[] nonce, long chunk, boolean isLast) throws IOException {
+        if (chunk > 0xffffffffL) {
+            throw new IOException("File is too large to encrypt");
+        }
+        ByteBuffer.wrap(nonce, NONCE_LENGTH - Integer.BYTES - 1, Integer.BYTES + 1)
+                .putInt((int) chunk)
+                .put((byte) (isLast ? 1 : 0));
+    }
+
+    /**
+     * Encrypts what is written to it in chunks, writing each chunk as a frame once it is full.
+     */
+    private static class EncryptingOutputStream extends OutputStream {
+        private final FileChannel channel;
+        private final SecretKey key;
+        private final Cipher cipher;
+        private final byte[] header = new byte[HEADER_LENGTH];
+        private final byte[] nonce = new byte[NONCE_LENGTH];
+        private final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        private final ByteBuffer frame = ByteBuffer.allocate(Integer.BYTES + CHUNK_SIZE + TAG_LENGTH);
+        private long chunkCount;
+        private boolean isClosed;
+
+        private EncryptingOutputStream(FileChannel channel, SecretKey key) throws IOException {
+            this.channel = channel;
+            this.cipher = newCipher();
+
+            byte[] salt = new byte[SALT_LENGTH];
+            random.nextBytes(salt);
+            ByteBuffer.wrap(header).put(MAGIC).put(VERSION).put(salt);
+            this.key = deriveFileKey(key, salt);
+            writeFully(ByteBuffer.wrap(header));
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            ensureOpen();
+            while (length > 0) {
+                // A full chunk is only written once more follows, since the last chunk is written differently
+                if (!chunk.hasRemaining()) {
+                    writeChunk(false);
+                }
+                int count = Math.min(length, chunk.remaining());
+                chunk.put(bytes, offset, count);
+                offset += count;
+                length -= count;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            try (FileChannel toClose = channel) {
+                writeChunk(true);
+            }
+        }
+
+        private void writeChunk(boolean isLast) throws IOException {
+            chunk.flip();
+            frame.clear();
+            frame.putInt(chunk.remaining());
+            setNonce(nonce, chunkCount++, isLast);
+            try {
+                cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH * Byte.SIZE, nonce));
+                cipher.updateAAD(header);
+                cipher.doFinal(chunk, frame);
+            } catch (GeneralSecurityException e) {
+                throw new IOException("Could not encrypt the file", e);
+            }
+            frame.flip();
+            writeFully(frame);
+            chunk.clear();
+        }
+
+        private void writeFully(ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+
+        private void ensureOpen() throws IOException {
+            if (isClosed) {
+                throw new IOException("Stream closed");
+            }
+        }
+    }
+
+    /**
+     * Decrypts a file a frame at a time as it is read.
+     */
+    private static class DecryptingInputStream extends InputStream {
+        private final FileChannel channel;
+        private final SecretKey key;
+        private final Cipher cipher;
+        private final byte[] header = new byte[HEADER_LENGTH];
+        private final byte[] nonce = new byte[NONCE_LENGTH];
+        private final ByteBuffer frame = ByteBuffer.allocate(CHUNK_SIZE + TAG_LENGTH);
+        // Room for the tag too, which the cipher asks for although it does not output it
+        private final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE + TAG_LENGTH);
+        private long chunkCount;
+        private boolean hasReadLastChunk;
+
+        private DecryptingInputStream(FileChannel channel, SecretKey key) throws IOException {
+            this.channel = channel;
+            this.cipher = newCipher();
+
+            ByteBuffer headerBuffer = ByteBuffer.wrap(header);
+            readFully(headerBuffer);
+            if (!Arrays.equals(Arrays.copyOf(header, MAGIC.length), MAGIC) || header[MAGIC.length] != VERSION) {
+                throw new IOException("File is not encrypted in a known format");
+            }
+            this.key = deriveFileKey(key, Arrays.copyOfRange(header, MAGIC.length + 1, HEADER_LENGTH));
+            chunk.limit(0);
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            while (!chunk.hasRemaining()) {
+                if (hasReadLastChunk) {
+                    return -1;
+                }
+                readChunk();
+            }
+            int count = Math.min(length, chunk.remaining());
+            chunk.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return chunk.remaining();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+
+        private void readChunk() throws IOException {
+            ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+            readFully(length);
+            int chunkLength = length.flip().getInt();
+            if (chunkLength < 0 || chunkLength > CHUNK_SIZE) {
+                throw new IOException("File has been changed since it was encrypted");
+            }
+            frame.clear().limit(chunkLength + TAG_LENGTH);
+            readFully(frame);
+            frame.flip();
+
+            // The file ending here is only genuine if this chunk was encrypted as the last one
+            hasReadLastChunk = channel.position() == channel.size();
+            setNonce(nonce, chunkCount++, hasReadLastChunk);
+            chunk.clear();
+            try {
+                cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH * Byte.SIZE, nonce));
+                cipher.updateAAD(header);
+                cipher.doFinal(frame, chunk);
+            } catch (AEADBadTagException e) {
+                throw new IOException("File was encrypted with another key or has been changed since", e);
+            } catch (GeneralSecurityException e) {
+                throw new IOException("Could not decrypt the file", e);
+            }
+            chunk.flip();
+        }
+
+        private void readFully(ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("File ends in the middle of an encrypted frame");
+                }
+            }
+        }
+    }
+}
@@ -1,17 +1,36 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.logging.Logger;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.crypto.SecretKey;
+
+import seedu.address.commons.core.LogsCenter;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /** The compression level that leaves a file uncompressed. */
+    public static final int NO_COMPRESSION = 0;
+
+    public static final String MESSAGE_MISSING_KEY = "%1$s is encrypted, but no key was given to decrypt it.";
+
     private static final String CHARSET = "UTF-8";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Logger logger = LogsCenter.getLogger(FileUtil.class);
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,6 +91,99 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns true if {@code compressionLevel} is {@link #NO_COMPRESSION} or a gzip level, from 1 (fastest) to 9
+     * (smallest).
+     */
+    public static boolean isValidCompressionLevel(int compressionLevel) {
+        return compressionLevel >= NO_COMPRESSION && compressionLevel <= Deflater.BEST_COMPRESSION;
+    }
+
+    /**
+     * Returns true if {@code file} starts like a gzip stream. Assumes file exists.
+     */
+    public static boolean isCompressed(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return isGzipMagic(in.read(), in.read());
+        }
+    }
+
+    /**
+     * Opens {@code file} for reading, decompressing it as it is read if it is gzip compressed, which is told from its
+     * first bytes rather than its name. Assumes file exists.
+     */
+    public static InputStream openForReading(Path file) throws IOException {
+        return openForReading(file, null);
+    }
+
+    /**
+     * Similar to {@link #openForReading(Path)}, but also decrypts {@code file} with {@code key} if it was encrypted
+     * by {@link EncryptionUtil}.
+     *
+     * @throws IOException if the file cannot be read, or is encrypted and {@code key} is null or not its key.
+     */
+    public static InputStream openForReading(Path file, SecretKey key) throws IOException {
+        InputStream source;
+        if (EncryptionUtil.isEncrypted(file)) {
+            if (key == null) {
+                throw new IOException(String.format(MESSAGE_MISSING_KEY, file));
+            }
+            source = EncryptionUtil.openForDecrypting(file, key);
+        } else {
+            if (key != null) {
+                logger.warning(file + " is not encrypted although a key is set, so anyone who copies it can read it");
+            }
+            source = Files.newInputStream(file);
+        }
+        BufferedInputStream in = new BufferedInputStream(source, BUFFER_SIZE);
+        try {
+            in.mark(2);
+            boolean isCompressed = isGzipMagic(in.read(), in.read());
+            in.reset();
+            return isCompressed ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens {@code file} for writing, creating it or replacing its contents, and gzip compresses what is written at
+     * {@code compressionLevel} unless it is {@link #NO_COMPRESSION}.
+     */
+    public static OutputStream openForWriting(Path file, int compressionLevel) throws IOException {
+        return openForWriting(file, compressionLevel, null);
+    }
+
+    /**
+     * Similar to {@link #openForWriting(Path, int)}, but also encrypts what is written with {@code key}, after
+     * compressing it, unless {@code key} is null.
+     */
+    public static OutputStream openForWriting(Path file, int compressionLevel, SecretKey key) throws IOException {
+        AppUtil.checkArgument(isValidCompressionLevel(compressionLevel));
+        // The encrypting stream buffers a whole chunk already
+        OutputStream out = key == null
+                ? new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE)
+                : EncryptionUtil.openForEncrypting(file, key);
+        if (compressionLevel == NO_COMPRESSION) {
+            return out;
+        }
+        try {
+            return new GZIPOutputStream(out, BUFFER_SIZE) {
+                {
+                    def.setLevel(compressionLevel);
+                }
+            };
+        } catch (IOException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    private static boolean isGzipMagic(int first, int second) {
+        return first == (GZIPInputStream.GZIP_MAGIC & 0xff) && second == (GZIPInputStream.GZIP_MAGIC >> 8);
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
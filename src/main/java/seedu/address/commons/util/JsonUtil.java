@@ -3,12 +3,16 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.crypto.SecretKey;
+
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -43,9 +47,33 @@ public class JsonUtil {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
 
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, int compressionLevel,
+            SecretKey key) throws IOException {
+        if (compressionLevel == FileUtil.NO_COMPRESSION && key == null) {
+            serializeObjectToJsonFile(jsonFile, objectToSerialize);
+            return;
+        }
+        try (OutputStream out = FileUtil.openForWriting(jsonFile, compressionLevel, key)) {
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, objectToSerialize);
+        }
+    }
+
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        return deserializeObjectFromJsonFile(jsonFile, classOfObjectToDeserialize, null);
+    }
+
+    /**
+     * Returns the object in {@code jsonFile}, which may be gzip compressed, and encrypted with {@code key} unless it
+     * is null. Assumes the file exists.
+     *
+     * @throws IOException if the file cannot be read or does not hold such an object.
+     */
+    public static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize,
+            SecretKey key) throws IOException {
+        try (InputStream in = FileUtil.openForReading(jsonFile, key)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -58,6 +86,14 @@ public class JsonUtil {
      */
     public static <T> Optional<T> readJsonFile(
             Path filePath, Class<T> classOfObjectToDeserialize) throws DataLoadingException {
+        return readJsonFile(filePath, classOfObjectToDeserialize, null);
+    }
+
+    /**
+     * Similar to {@link #readJsonFile(Path, Class)}, but decrypts the file with {@code key} if it is encrypted.
+     */
+    public static <T> Optional<T> readJsonFile(
+            Path filePath, Class<T> classOfObjectToDeserialize, SecretKey key) throws DataLoadingException {
         requireNonNull(filePath);
 
         if (!Files.exists(filePath)) {
@@ -68,7 +104,7 @@ public class JsonUtil {
         T jsonFile;
 
         try {
-            jsonFile = deserializeObjectFromJsonFile(filePath, classOfObjectToDeserialize);
+            jsonFile = deserializeObjectFromJsonFile(filePath, classOfObjectToDeserialize, key);
         } catch (IOException e) {
             logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
             throw new DataLoadingException(e);
@@ -91,6 +127,26 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}, but gzip compresses the file at {@code compressionLevel} unless
+     * it is {@link FileUtil#NO_COMPRESSION}.
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, int compressionLevel) throws IOException {
+        saveJsonFile(jsonFile, filePath, compressionLevel, null);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path, int)}, but also encrypts the file with {@code key} unless it is
+     * null.
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, int compressionLevel, SecretKey key)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        serializeObjectToJsonFile(filePath, jsonFile, compressionLevel, key);
+    }
+
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -0,0 +1,102 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * A local file holding the key that data files are encrypted with, encoded in Base64.
+ *
+ * The key is made at random the first time data is saved with it. The file is then created readable and writable by
+ * its owner only, where the file system supports that, which is what keeps the key secret. Reading data never creates
+ * a key, since a new key could not decrypt anything written before.
+ */
+public class KeyFile {
+    public static final String MESSAGE_INVALID_KEY_FILE = "Key file %1$s does not hold a %2$d-bit key";
+    public static final int KEY_LENGTH = 32;
+
+    private static final String ALGORITHM = "AES";
+    private static final SecureRandom random = new SecureRandom();
+
+    private final Path filePath;
+    private SecretKey key;
+
+    public KeyFile(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the key in the file, creating the file with a new key if it does not exist. For saving data.
+     *
+     * @throws IOException if the file cannot be created or read, or does not hold a key.
+     */
+    public synchronized SecretKey getKey() throws IOException {
+        if (key == null) {
+            key = Files.exists(filePath) ? decodeKey() : createKey();
+        }
+        return key;
+    }
+
+    /**
+     * Returns the key in the file, without creating one. For reading data.
+     *
+     * @throws NoSuchFileException if the file does not exist.
+     * @throws IOException if the file cannot be read, or does not hold a key.
+     */
+    public synchronized SecretKey readKey() throws IOException {
+        if (key == null) {
+            key = decodeKey();
+        }
+        return key;
+    }
+
+    private SecretKey decodeKey() throws IOException {
+        byte[] encoded;
+        try {
+            encoded = Base64.getDecoder().decode(Files.readString(filePath, StandardCharsets.US_ASCII).strip());
+        } catch (IllegalArgumentException e) {
+            throw new IOException(String.format(MESSAGE_INVALID_KEY_FILE, filePath, KEY_LENGTH * Byte.SIZE), e);
+        }
+        if (encoded.length != KEY_LENGTH) {
+            throw new IOException(String.format(MESSAGE_INVALID_KEY_FILE, filePath, KEY_LENGTH * Byte.SIZE));
+        }
+        return new SecretKeySpec(encoded, ALGORITHM);
+    }
+
+    private SecretKey createKey() throws IOException {
+        byte[] encoded = new byte[KEY_LENGTH];
+        random.nextBytes(encoded);
+        FileUtil.createParentDirsOfFile(filePath);
+        try {
+            Path created = filePath.getFileSystem().supportedFileAttributeViews().contains("posix")
+                    ? Files.createFile(filePath, ownerOnly())
+                    : Files.createFile(filePath);
+            Files.writeString(created, Base64.getEncoder().encodeToString(encoded), StandardCharsets.US_ASCII);
+        } catch (FileAlreadyExistsException e) {
+            // Created by another process in the meantime, whose key is the one to use
+            return decodeKey();
+        }
+        return new SecretKeySpec(encoded, ALGORITHM);
+    }
+
+    private static FileAttribute<?> ownerOnly() {
+        return PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------"));
+    }
+}
@@ -0,0 +1,345 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.StepRunner;
+import seedu.address.logic.commands.StepRunner.Step;
+import seedu.address.logic.commands.SteppedCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookDiff;
+
+/**
+ * Runs user commands off the caller's thread, one at a time and in submission order.
+ *
+ * Parsing and saving run on a single worker thread. Executing a command mutates the model, which the UI observes,
+ * so that phase is handed to the {@code modelExecutor} (the JavaFX application thread in the GUI) and the worker
+ * waits for it. A {@link SteppedCommand}, such as a script, is handed over one step at a time, leaving the
+ * {@code modelExecutor} free between steps. Results and progress updates are also delivered through the
+ * {@code modelExecutor}.
+ *
+ * A command can be cancelled while it is queued or being parsed. Once it starts executing it runs to completion,
+ * so the model and the data file are never left half updated; only a stepped command can be asked to stop early,
+ * which it does between steps. Changes to the data file made outside the app are
+ * merged in turn with the commands, so that the model never changes while it is being saved.
+ */
+public class CommandExecutionService {
+
+    /**
+     * Phases a submitted command goes through, as reported to the {@link ProgressListener}.
+     */
+    public enum Phase {
+        QUEUED, PARSING, EXECUTING, SAVING, DONE, FAILED, CANCELLED
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(CommandExecutionService.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final Logic logic;
+    private final Executor modelExecutor;
+    private final ExecutorService worker;
+    private final Queue<PendingCommand> pendingCommands = new ConcurrentLinkedQueue<>();
+    // Guarded by this
+    private boolean isShutdown;
+    private Runnable abandonModelThreadTask = () -> {};
+    private volatile ProgressListener progressListener = (commandText, phase, pendingCount) -> {};
+
+    /**
+     * Creates a {@code CommandExecutionService} that executes commands with {@code logic}.
+     *
+     * @param modelExecutor Runs tasks on the thread that owns the model, e.g. {@code Platform::runLater}.
+     */
+    public CommandExecutionService(Logic logic, Executor modelExecutor) {
+        requireAllNonNull(logic, modelExecutor);
+        this.logic = logic;
+        this.modelExecutor = modelExecutor;
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void setProgressListener(ProgressListener progressListener) {
+        requireNonNull(progressListener);
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Queues {@code commandText} for execution.
+     * The returned future is completed through the {@code modelExecutor} with the result of the command, or
+     * exceptionally with the {@code ParseException} or {@code CommandException} it failed with. It is cancelled
+     * if the command is cancelled before it starts executing.
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        return submit(new PendingCommand(commandText, null));
+    }
+
+    /**
+     * Queues {@code command}, already parsed from {@code commandText}, for execution. It is executed as it is rather
+     * than parsed again, which could give another command if what the parser depends on has changed since.
+     * The returned future is completed as by {@link #submit(String)}.
+     */
+    public CompletableFuture<CommandResult> submit(String commandText, Command command) {
+        requireAllNonNull(commandText, command);
+        return submit(new PendingCommand(commandText, command));
+    }
+
+    private CompletableFuture<CommandResult> submit(PendingCommand pendingCommand) {
+        pendingCommands.add(pendingCommand);
+        report(pendingCommand, Phase.QUEUED);
+        worker.execute(() -> run(pendingCommand));
+        return pendingCommand.result;
+    }
+
+    /**
+     * Queues merging {@code diff}, the changes made to the data file outside the app, into the address book, after the
+     * commands already submitted. The merged address book is then saved, as a command's would be.
+     * The returned future is completed through the {@code modelExecutor} with the changes that were merged, or
+     * exceptionally with the {@code CommandException} that saving them failed with.
+     *
+     * @see Logic#mergeAddressBook(AddressBookDiff)
+     */
+    public CompletableFuture<AddressBookDiff> submitMerge(AddressBookDiff diff) {
+        requireNonNull(diff);
+        CompletableFuture<AddressBookDiff> result = new CompletableFuture<>();
+        worker.execute(() -> {
+            try {
+                AddressBookDiff mergedDiff = runOnModelThread(() -> logic.mergeAddressBook(diff));
+                if (!mergedDiff.isEmpty()) {
+                    logic.saveAddressBook();
+                }
+                modelExecutor.execute(() -> result.complete(mergedDiff));
+            } catch (CommandException | RuntimeException e) {
+                modelExecutor.execute(() -> result.completeExceptionally(e));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Cancels every submitted command that has not started executing yet, and asks a stepped command that is
+     * executing to stop before its next step.
+     *
+     * @return the number of commands cancelled or asked to stop.
+     */
+    public int cancelPending() {
+        int cancelled = 0;
+        for (PendingCommand pendingCommand : pendingCommands) {
+            if (pendingCommand.claim()) {
+                pendingCommands.remove(pendingCommand);
+                pendingCommand.result.cancel(false);
+                report(pendingCommand, Phase.CANCELLED);
+                cancelled++;
+            } else if (pendingCommand.requestStop()) {
+                cancelled++;
+            }
+        }
+        if (cancelled > 0) {
+            logger.info("Cancelled " + cancelled + " pending command(s)");
+        }
+        return cancelled;
+    }
+
+    /**
+     * Cancels pending commands and waits briefly for a command that is already being saved to finish.
+     * Work handed to the {@code modelExecutor} that has not started is abandoned rather than waited for, since this
+     * may be called on the thread that would run it.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            isShutdown = true;
+            abandonModelThreadTask.run();
+        }
+        cancelPending();
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Command worker did not finish within " + SHUTDOWN_TIMEOUT_SECONDS + "s");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the number of submitted commands that have not finished yet.
+     */
+    public int getPendingCount() {
+        return pendingCommands.size();
+    }
+
+    /**
+     * Parses, executes and saves {@code pendingCommand}. Runs on the worker thread.
+     */
+    private void run(PendingCommand pendingCommand) {
+        if (pendingCommand.result.isDone()) {
+            return; // cancelled while queued
+        }
+
+        try {
+            Command command;
+            if (pendingCommand.parsedCommand != null) {
+                command = pendingCommand.parsedCommand;
+            } else {
+                report(pendingCommand, Phase.PARSING);
+                command = logic.parseCommand(pendingCommand.commandText);
+            }
+            if (!pendingCommand.claim()) {
+                return; // cancelled while parsing
+            }
+
+            report(pendingCommand, Phase.EXECUTING);
+            CommandResult commandResult;
+            if (command instanceof SteppedCommand) {
+                pendingCommand.isStoppable = true;
+                commandResult = logic.executeCommand((SteppedCommand) command, new StepRunner() {
+                    @Override
+                    public <T> T run(Step<T> step) throws CommandException {
+                        return runOnModelThread(step);
+                    }
+
+                    @Override
+                    public boolean isStopRequested() {
+                        return pendingCommand.isStopRequested;
+                    }
+                });
+            } else {
+                commandResult = runOnModelThread(() -> logic.executeCommand(command));
+            }
+
+            report(pendingCommand, Phase.SAVING);
+            logic.saveAddressBook();
+
+            finish(pendingCommand, Phase.DONE, () -> pendingCommand.result.complete(commandResult));
+        } catch (ParseException | CommandException | RuntimeException e) {
+            if (!pendingCommand.claim() && pendingCommand.result.isCancelled()) {
+                return; // cancelled while parsing, so the parse error no longer matters
+            }
+            finish(pendingCommand, Phase.FAILED, () -> pendingCommand.result.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Runs {@code task} through the {@code modelExecutor} and waits for it to finish.
+     *
+     * @throws CancellationException if this service is shut down before {@code task} starts.
+     */
+    private <T> T runOnModelThread(Step<T> task) throws CommandException {
+        CompletableFuture<T> execution = new CompletableFuture<>();
+        AtomicBoolean isStarted = new AtomicBoolean(false);
+        synchronized (this) {
+            if (isShutdown) {
+                throw new CancellationException("Shut down before the command could run");
+            }
+            abandonModelThreadTask = () -> {
+                if (isStarted.compareAndSet(false, true)) {
+                    execution.cancel(false);
+                }
+            };
+        }
+
+        modelExecutor.execute(() -> {
+            if (!isStarted.compareAndSet(false, true)) {
+                return; // abandoned by shutting down
+            }
+            try {
+                execution.complete(task.run());
+            } catch (CommandException | RuntimeException e) {
+                execution.completeExceptionally(e);
+            }
+        });
+
+        try {
+            return execution.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while executing command", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CommandException) {
+                throw (CommandException) e.getCause();
+            }
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    private void finish(PendingCommand pendingCommand, Phase phase, Runnable completion) {
+        pendingCommands.remove(pendingCommand);
+        modelExecutor.execute(() -> {
+            completion.run();
+            progressListener.onProgress(pendingCommand.commandText, phase, pendingCommands.size());
+        });
+    }
+
+    private void report(PendingCommand pendingCommand, Phase phase) {
+        int pendingCount = pendingCommands.size();
+        modelExecutor.execute(() -> progressListener.onProgress(pendingCommand.commandText, phase, pendingCount));
+    }
+
+    /**
+     * A submitted command and the future its result is delivered through.
+     */
+    private static class PendingCommand {
+        private final String commandText;
+        /** The command parsed from commandText when it was submitted, or null if it is yet to be parsed. */
+        private final Command parsedCommand;
+        private final CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        private final AtomicBoolean isClaimed = new AtomicBoolean(false);
+        private volatile boolean isStoppable;
+        private volatile boolean isStopRequested;
+
+        PendingCommand(String commandText, Command parsedCommand) {
+            this.commandText = commandText;
+            this.parsedCommand = parsedCommand;
+        }
+
+        /**
+         * Claims this command for either execution or cancellation.
+         * Only the first caller succeeds, so a command is never both executed and cancelled.
+         */
+        boolean claim() {
+            return isClaimed.compareAndSet(false, true);
+        }
+
+        /**
+         * Asks this command to stop before its next step, if it is executing in steps and has not been asked yet.
+         */
+        boolean requestStop() {
+            if (!isStoppable || isStopRequested) {
+                return false;
+            }
+            isStopRequested = true;
+            return true;
+        }
+    }
+
+    /**
+     * Receives progress updates of submitted commands, on the thread of the {@code modelExecutor}.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called when the command {@code commandText} enters {@code phase}.
+         *
+         * @param pendingCount The number of submitted commands that have not finished.
+         */
+        void onProgress(String commandText, Phase phase, int pendingCount);
+    }
+}
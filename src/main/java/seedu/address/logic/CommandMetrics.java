@@ -0,0 +1,166 @@
+package seedu.address.logic;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.logic.commands.Command;
+
+/**
+ * Records how long each phase of a command takes and how much memory it allocates, per command word.
+ *
+ * Recording is lock-free, so phases may be recorded from different threads. Allocations are measured per thread
+ * with {@link com.sun.management.ThreadMXBean}; on JVMs without that support they are reported as unavailable.
+ */
+public class CommandMetrics {
+
+    /**
+     * Phases of a command that are timed separately.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, SAVE
+    }
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been recorded yet.";
+
+    private static final String COMMAND_CLASS_SUFFIX = "Command";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final long BYTES_PER_KIB = 1024;
+
+    private final Map<String, CommandStats> statsByCommandWord = new ConcurrentHashMap<>();
+    private final com.sun.management.ThreadMXBean threadMxBean = findAllocationCountingThreadMxBean();
+
+    /**
+     * Returns the command word of {@code command}, e.g. {@code addsession} for {@code AddSessionCommand}.
+     */
+    public static String commandWordOf(Command command) {
+        String className = command.getClass().getSimpleName();
+        if (className.endsWith(COMMAND_CLASS_SUFFIX) && className.length() > COMMAND_CLASS_SUFFIX.length()) {
+            className = className.substring(0, className.length() - COMMAND_CLASS_SUFFIX.length());
+        }
+        return className.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns true if allocated bytes are being measured.
+     */
+    public boolean isAllocationTracked() {
+        return threadMxBean != null;
+    }
+
+    /**
+     * Starts measuring a phase on the current thread. Finish it on the same thread with {@link #record}.
+     */
+    public Measurement start() {
+        return new Measurement(System.nanoTime(), allocatedBytesOfCurrentThread());
+    }
+
+    /**
+     * Records a phase of {@code commandWord} that was started with {@code measurement} on the current thread.
+     */
+    public void record(String commandWord, Phase phase, Measurement measurement) {
+        long elapsedNanos = System.nanoTime() - measurement.startNanos;
+        CommandStats stats = statsByCommandWord.computeIfAbsent(commandWord, word -> new CommandStats());
+        stats.latencies.get(phase).record(elapsedNanos);
+        if (measurement.startAllocatedBytes >= 0) {
+            stats.allocatedBytes.add(Math.max(0, allocatedBytesOfCurrentThread() - measurement.startAllocatedBytes));
+        }
+    }
+
+    /**
+     * Returns a one-line summary of the latencies of {@code commandWord}, for the log.
+     */
+    public String summarize(String commandWord) {
+        CommandStats stats = statsByCommandWord.get(commandWord);
+        if (stats == null) {
+            return commandWord + ": no data";
+        }
+        StringBuilder summary = new StringBuilder(commandWord).append(" (").append(stats.getCount()).append("x):");
+        for (Phase phase : Phase.values()) {
+            summary.append(' ').append(formatPhase(phase, stats.latencies.get(phase)));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Returns a report of the p50, p99 and maximum latency of every phase and the mean allocation of every
+     * command word recorded so far, in milliseconds and KiB.
+     */
+    public String report() {
+        if (statsByCommandWord.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+
+        StringBuilder report = new StringBuilder("Latency in ms (p50/p99/max) and mean allocation per command:");
+        new TreeMap<>(statsByCommandWord).forEach((commandWord, stats) -> {
+            report.append('\n').append(summarize(commandWord));
+            long count = stats.getCount();
+            if (isAllocationTracked() && count > 0) {
+                report.append(" alloc ").append(stats.allocatedBytes.sum() / count / BYTES_PER_KIB).append(" KiB");
+            }
+        });
+        return report.toString();
+    }
+
+    private static String formatPhase(Phase phase, LatencyHistogram histogram) {
+        return String.format(Locale.ROOT, "%s %.2f/%.2f/%.2f", phase.name().toLowerCase(Locale.ROOT),
+                histogram.getPercentileNanos(50) / NANOS_PER_MILLI, histogram.getPercentileNanos(99) / NANOS_PER_MILLI,
+                histogram.getMaxNanos() / NANOS_PER_MILLI);
+    }
+
+    private long allocatedBytesOfCurrentThread() {
+        return threadMxBean == null ? -1 : threadMxBean.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean findAllocationCountingThreadMxBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean allocationCountingBean = (com.sun.management.ThreadMXBean) bean;
+        if (!allocationCountingBean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        allocationCountingBean.setThreadAllocatedMemoryEnabled(true);
+        return allocationCountingBean;
+    }
+
+    /**
+     * The start of a phase being measured.
+     */
+    public static class Measurement {
+        private final long startNanos;
+        private final long startAllocatedBytes;
+
+        private Measurement(long startNanos, long startAllocatedBytes) {
+            this.startNanos = startNanos;
+            this.startAllocatedBytes = startAllocatedBytes;
+        }
+    }
+
+    /**
+     * The metrics of one command word.
+     */
+    private static class CommandStats {
+        private final Map<Phase, LatencyHistogram> latencies = new EnumMap<>(Phase.class);
+        private final LongAdder allocatedBytes = new LongAdder();
+
+        CommandStats() {
+            for (Phase phase : Phase.values()) {
+                latencies.put(phase, new LatencyHistogram());
+            }
+        }
+
+        /**
+         * Returns the number of times the command was run, counting every successful parse.
+         */
+        long getCount() {
+            return latencies.get(Phase.PARSE).getCount();
+        }
+    }
+}
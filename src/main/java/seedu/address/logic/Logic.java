@@ -3,12 +3,19 @@ package seedu.address.logic;
 import java.nio.file.Path;
 
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.StepRunner;
+import seedu.address.logic.commands.SteppedCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookDiff;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
 
 /**
  * API of the Logic component
@@ -23,6 +30,47 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Parses the command without executing it.
+     * This does not touch the model, so it may be called from any thread.
+     * @param commandText The command as entered by the user.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    Command parseCommand(String commandText) throws ParseException;
+
+    /**
+     * Parses a command to run without someone at the window, as from the API, without executing it. Unlike
+     * {@link #parseCommand(String)}, it is never taken as the answer to a confirmation the window is waiting for.
+     * This does not touch the model, so it may be called from any thread.
+     * @param commandText The command as sent.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    Command parseUnattendedCommand(String commandText) throws ParseException;
+
+    /**
+     * Executes an already parsed command against the model, without saving the address book.
+     * @throws CommandException If an error occurs during command execution.
+     */
+    CommandResult executeCommand(Command command) throws CommandException;
+
+    /**
+     * Executes an already parsed command in steps, without saving the address book. Called from a thread other than
+     * the model's; only the steps handed to {@code stepRunner} touch the model.
+     * @throws CommandException If an error occurs during command execution.
+     */
+    CommandResult executeCommand(SteppedCommand command, StepRunner stepRunner) throws CommandException;
+
+    /**
+     * Saves the address book to storage.
+     * @throws CommandException If the address book could not be saved.
+     */
+    void saveAddressBook() throws CommandException;
+
+    /**
+     * Returns the latency and allocation metrics of the commands executed so far.
+     */
+    CommandMetrics getCommandMetrics();
+
     /**
      * Returns the AddressBook.
      *
@@ -30,9 +78,36 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the latest snapshot of the address book, which may be read from any thread.
+     * A new snapshot is published once each command that changed the address book has finished.
+     */
+    AddressBookSnapshot getSnapshot();
+
+    /**
+     * Returns the changes that bring the address book up to date with {@code addressBook}, worked out against the
+     * latest snapshot. This does not touch the model, so it may be called from any thread.
+     */
+    AddressBookDiff diffAddressBook(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Applies {@code diff} to the model as one undoable step, without saving the address book. If the address book
+     * has changed since {@code diff} was worked out, the changes are worked out again first. Must be called on the
+     * thread that owns the model.
+     * @return the changes applied.
+     */
+    AddressBookDiff mergeAddressBook(AddressBookDiff diff);
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns an unmodifiable view of the number of people attending each weekly session.
+     *
+     * @see seedu.address.model.WeeklySessions#getSessionCounts()
+     */
+    ObservableMap<Session, Integer> getSessionCounts();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -1,21 +1,35 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.CommandExecutedEvent;
+import seedu.address.logic.CommandMetrics.Measurement;
+import seedu.address.logic.CommandMetrics.Phase;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.StepRunner;
+import seedu.address.logic.commands.StepRunner.Step;
+import seedu.address.logic.commands.SteppedCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookDiff;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.SnapshotTracker;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
 import seedu.address.storage.Storage;
 
 /**
@@ -32,6 +46,18 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandMetrics commandMetrics;
+
+    /** The command whose changes the next save writes; commands are executed and saved one at a time. */
+    private volatile String lastExecutedCommandWord;
+
+    /** Published on the model thread after every command that changed the address book, and after other changes. */
+    private volatile AddressBookSnapshot snapshot;
+
+    // Only used on the model thread
+    private final SnapshotTracker snapshotTracker;
+    private boolean isExecuting;
+    private boolean isSnapshotStale;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -39,17 +65,134 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        commandMetrics = new CommandMetrics();
+        addressBookParser = new AddressBookParser(commandMetrics);
+
+        snapshotTracker = new SnapshotTracker(model.getAddressBook(), model.getWeeklySessions(),
+                this::onAddressBookChanged);
+        snapshot = snapshotTracker.snapshot();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        Command command = parseCommand(commandText);
+        CommandResult commandResult = executeCommand(command);
+        saveAddressBook();
+        return commandResult;
+    }
+
+    @Override
+    public Command parseCommand(String commandText) throws ParseException {
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+        return parseCommand(commandText, addressBookParser::parseCommand);
+    }
+
+    @Override
+    public Command parseUnattendedCommand(String commandText) throws ParseException {
+        logger.info(() -> "----------------[UNATTENDED COMMAND][" + commandText + "]");
+        return parseCommand(commandText, addressBookParser::parseUnattendedCommand);
+    }
+
+    private Command parseCommand(String commandText, Parser<Command> parser) throws ParseException {
+        Measurement measurement = commandMetrics.start();
+        Command command = parser.parse(commandText);
+        commandMetrics.record(CommandMetrics.commandWordOf(command), Phase.PARSE, measurement);
+        return command;
+    }
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+    @Override
+    public CommandResult executeCommand(Command command) throws CommandException {
+        return executeCommand(command, () -> command.execute(model), StepRunner.DIRECT);
+    }
 
+    @Override
+    public CommandResult executeCommand(SteppedCommand command, StepRunner stepRunner) throws CommandException {
+        return executeCommand(command, () -> command.execute(model, stepRunner), stepRunner);
+    }
+
+    /**
+     * Executes {@code command} with {@code execution}, running what touches the model in steps of
+     * {@code stepRunner}.
+     */
+    private CommandResult executeCommand(Command command, Step<CommandResult> execution, StepRunner stepRunner)
+            throws CommandException {
+        String commandWord = CommandMetrics.commandWordOf(command);
+        Measurement measurement = commandMetrics.start();
+        CommandExecutedEvent event = new CommandExecutedEvent();
+        event.begin();
+        stepRunner.run(() -> isExecuting = true);
+        try {
+            CommandResult commandResult = execution.run();
+            lastExecutedCommandWord = commandWord;
+            event.setSucceeded(true);
+            event.setResultSize(commandResult.getFeedbackToUser().length());
+            return commandResult;
+        } finally {
+            // Whatever the command changed, even if it then failed, is undone as one step
+            stepRunner.run(() -> {
+                model.commitAddressBook();
+                isExecuting = false;
+                if (isSnapshotStale) {
+                    publishSnapshot();
+                }
+                return null;
+            });
+            commandMetrics.record(commandWord, Phase.EXECUTE, measurement);
+            event.setCommandWord(commandWord);
+            event.commit();
+        }
+    }
+
+    @Override
+    public AddressBookDiff diffAddressBook(ReadOnlyAddressBook addressBook) {
+        return AddressBookDiff.between(snapshot, addressBook);
+    }
+
+    @Override
+    public AddressBookDiff mergeAddressBook(AddressBookDiff diff) {
+        requireNonNull(diff);
+        // A command may have run since the diff was worked out; the snapshot is up to date on the model thread
+        AddressBookDiff upToDateDiff = diff.getBase() == snapshot
+                ? diff
+                : AddressBookDiff.between(snapshot, diff.getTarget());
+        if (upToDateDiff.isEmpty()) {
+            return upToDateDiff;
+        }
+
+        isExecuting = true;
+        try {
+            model.mergeAddressBook(upToDateDiff);
+        } finally {
+            model.commitAddressBook();
+            isExecuting = false;
+            if (isSnapshotStale) {
+                publishSnapshot();
+            }
+        }
+        logger.info(() -> "Merged changes to the data file: " + upToDateDiff);
+        return upToDateDiff;
+    }
+
+    /**
+     * Publishes a new snapshot, or leaves it to the end of the command that is executing so that a command's
+     * changes are published together.
+     */
+    private void onAddressBookChanged() {
+        if (isExecuting) {
+            isSnapshotStale = true;
+        } else {
+            publishSnapshot();
+        }
+    }
+
+    private void publishSnapshot() {
+        isSnapshotStale = false;
+        snapshot = snapshotTracker.snapshot();
+    }
+
+    @Override
+    public void saveAddressBook() throws CommandException {
+        Measurement measurement = commandMetrics.start();
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (AccessDeniedException e) {
@@ -58,7 +201,16 @@ public class LogicManager implements Logic {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
 
-        return commandResult;
+        String commandWord = lastExecutedCommandWord;
+        if (commandWord != null) {
+            commandMetrics.record(commandWord, Phase.SAVE, measurement);
+            logger.info(() -> "Command metrics: " + commandMetrics.summarize(commandWord));
+        }
+    }
+
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
     }
 
     @Override
@@ -66,11 +218,21 @@ public class LogicManager implements Logic {
         return model.getAddressBook();
     }
 
+    @Override
+    public AddressBookSnapshot getSnapshot() {
+        return snapshot;
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public ObservableMap<Session, Integer> getSessionCounts() {
+        return model.getWeeklySessions().getSessionCounts();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -0,0 +1,250 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ConfirmClearCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.StepRunner;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.exceptions.ScriptException;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Executes a script of commands, one per line, against a model in script order.
+ *
+ * Parsing does not touch the model, so lines are parsed on worker threads up to {@code lookahead} lines ahead of
+ * the one being executed. Lines are executed in steps of about a frame's time on the thread that owns the model, so
+ * that a long script does not hold that thread, and a script that is asked to stop does so before its next line.
+ * Blank lines and lines starting with {@link #COMMENT_MARKER} are skipped. The runner does not save; the caller
+ * decides when to.
+ */
+public class ScriptRunner {
+    public static final String COMMENT_MARKER = "#";
+    public static final int DEFAULT_LOOKAHEAD = 256;
+
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED = "%1$s cannot be used in a script.";
+    public static final String MESSAGE_STOPPED = "Stopped before this line, as asked.";
+
+    /**
+     * Commands that prompt, exit, nest scripts or step through the undo history, which cannot sensibly run without
+     * someone at the window.
+     */
+    private static final Set<Class<? extends Command>> ATTENDED_COMMANDS =
+            Set.of(ClearCommand.class, ConfirmClearCommand.class, ExitCommand.class, RunCommand.class,
+                    UndoCommand.class, RedoCommand.class);
+
+    /** How long a step may keep executing lines, about one frame so that the window stays responsive. */
+    private static final long STEP_NANOS = TimeUnit.MILLISECONDS.toNanos(16);
+    private static final int PARSER_THREAD_COUNT =
+            Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+    private static final Logger logger = LogsCenter.getLogger(ScriptRunner.class);
+
+    private final Parser<Command> parser;
+    private final int lookahead;
+
+    /**
+     * Creates a {@code ScriptRunner} that parses lines with {@code parser}, which must be safe to call from
+     * several threads at once, and parses up to {@link #DEFAULT_LOOKAHEAD} lines ahead.
+     */
+    public ScriptRunner(Parser<Command> parser) {
+        this(parser, DEFAULT_LOOKAHEAD);
+    }
+
+    /**
+     * Creates a {@code ScriptRunner} that parses lines with {@code parser}, which must be safe to call from
+     * several threads at once, and parses up to {@code lookahead} lines ahead.
+     */
+    public ScriptRunner(Parser<Command> parser, int lookahead) {
+        requireNonNull(parser);
+        if (lookahead < 1) {
+            throw new IllegalArgumentException("Lookahead must be positive");
+        }
+        this.parser = parser;
+        this.lookahead = lookahead;
+    }
+
+    /**
+     * Returns true if {@code command} can run without someone at the window, as in a script.
+     */
+    public static boolean canRunUnattended(Command command) {
+        return !ATTENDED_COMMANDS.contains(command.getClass());
+    }
+
+    /**
+     * Parses and executes every command in {@code script} against {@code model}, stopping at the first line that
+     * fails to parse or execute. The commands before that line stay executed.
+     * Must be called on the thread that owns {@code model}.
+     *
+     * @return the number of commands executed.
+     * @throws ScriptException if a line fails.
+     * @throws IOException if {@code script} cannot be read.
+     */
+    public int run(BufferedReader script, Model model) throws ScriptException, IOException {
+        return run(script, model, StepRunner.DIRECT);
+    }
+
+    /**
+     * Parses and executes every command in {@code script} against {@code model}, executing the lines in steps handed
+     * to {@code stepRunner}. Stops at the first line that fails to parse or execute, or before the next line once
+     * {@code stepRunner} is asked to stop. The commands before that line stay executed.
+     *
+     * @return the number of commands executed.
+     * @throws ScriptException if a line fails, or the script is stopped before its end.
+     * @throws IOException if {@code script} cannot be read.
+     */
+    public int run(BufferedReader script, Model model, StepRunner stepRunner) throws ScriptException, IOException {
+        requireAllNonNull(script, model, stepRunner);
+        ExecutorService parsers = Executors.newFixedThreadPool(PARSER_THREAD_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "script-parser");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Deque<ParsedLine> parsedLines = new ArrayDeque<>();
+        int lineNumber = 0;
+        int executedCount = 0;
+        boolean isEndOfScript = false;
+        try {
+            while (true) {
+                while (!isEndOfScript && parsedLines.size() < lookahead) {
+                    String line = script.readLine();
+                    if (line == null) {
+                        isEndOfScript = true;
+                        break;
+                    }
+                    lineNumber++;
+                    String commandText = line.strip();
+                    if (!commandText.isEmpty() && !commandText.startsWith(COMMENT_MARKER)) {
+                        parsedLines.add(new ParsedLine(lineNumber, parsers.submit(() -> parser.parse(commandText))));
+                    }
+                }
+
+                ParsedLine parsedLine = parsedLines.peek();
+                if (parsedLine == null) {
+                    break;
+                }
+                // Waited for here, so that the thread that owns the model is not held while a line is parsed
+                parsedLine.awaitParsed();
+                int stepExecutedCount = executedCount;
+                try {
+                    executedCount += stepRunner.run(() ->
+                            executeStep(parsedLines, model, stepRunner, stepExecutedCount));
+                } catch (CommandException e) {
+                    throw (ScriptException) e; // the only exception a step throws
+                }
+            }
+        } finally {
+            parsers.shutdownNow();
+        }
+
+        int finalExecutedCount = executedCount;
+        logger.info(() -> "Ran " + finalExecutedCount + " command(s) from a script");
+        return executedCount;
+    }
+
+    /**
+     * Executes parsed lines from the head of {@code parsedLines} until a step's time is up, or the next line has not
+     * been parsed yet, and returns the number executed.
+     *
+     * @param executedCount The number of commands executed by earlier steps.
+     * @throws ScriptException if a line fails, or the script is stopped before one.
+     */
+    private int executeStep(Deque<ParsedLine> parsedLines, Model model, StepRunner stepRunner, int executedCount)
+            throws ScriptException {
+        long deadline = System.nanoTime() + STEP_NANOS;
+        int stepExecutedCount = 0;
+        do {
+            ParsedLine parsedLine = parsedLines.poll();
+            if (stepRunner.isStopRequested()) {
+                throw new ScriptException(parsedLine.lineNumber, executedCount + stepExecutedCount, MESSAGE_STOPPED,
+                        null);
+            }
+            try {
+                execute(parsedLine, model);
+            } catch (CommandException e) {
+                throw new ScriptException(parsedLine.lineNumber, executedCount + stepExecutedCount, e.getMessage(),
+                        e);
+            }
+            stepExecutedCount++;
+        } while (!parsedLines.isEmpty() && parsedLines.peek().isParsed() && System.nanoTime() < deadline);
+        return stepExecutedCount;
+    }
+
+    private void execute(ParsedLine parsedLine, Model model) throws CommandException {
+        Command command = parsedLine.awaitCommand();
+        if (!canRunUnattended(command)) {
+            String commandWord = CommandMetrics.commandWordOf(command);
+            throw new CommandException(String.format(MESSAGE_COMMAND_NOT_ALLOWED, commandWord));
+        }
+        command.execute(model);
+    }
+
+    /**
+     * A line of the script and the command it is being parsed into.
+     */
+    private static class ParsedLine {
+        private final int lineNumber;
+        private final Future<Command> command;
+
+        ParsedLine(int lineNumber, Future<Command> command) {
+            this.lineNumber = lineNumber;
+            this.command = command;
+        }
+
+        boolean isParsed() {
+            return command.isDone();
+        }
+
+        /**
+         * Waits for this line to be parsed, whether or not it parses. A line that fails to parse fails when executed.
+         */
+        void awaitParsed() {
+            try {
+                command.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while parsing script", e);
+            } catch (ExecutionException e) {
+                // Reported by awaitCommand
+            }
+        }
+
+        /**
+         * Waits for this line to be parsed and returns its command.
+         */
+        Command awaitCommand() throws CommandException {
+            try {
+                return command.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while parsing script", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof ParseException) {
+                    throw new CommandException(e.getCause().getMessage(), e.getCause());
+                }
+                throw (RuntimeException) e.getCause();
+            }
+        }
+    }
+}
@@ -5,7 +5,6 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_END;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.HashSet;
 import java.util.List;
@@ -81,14 +80,9 @@ public class AddSessionCommand extends Command {
                         overlappingSession.get().toString()));
             }
             // If exact same session, check if current person already has it
-            for (Tag tag : personToEdit.getTags()) {
-                if (tag.isSessionTag()) {
-                    SessionTag existingSessionTag = (SessionTag) tag;
-                    if (currentSession.equals(existingSessionTag.getSession())) {
-                        throw new CommandException(String.format(MESSAGE_OVERLAP_SESSION,
-                                currentSession.toString()));
-                    }
-                }
+            if (personToEdit.getSessions().contains(currentSession)) {
+                throw new CommandException(String.format(MESSAGE_OVERLAP_SESSION,
+                        currentSession.toString()));
             }
         }
 
@@ -107,7 +101,6 @@ public class AddSessionCommand extends Command {
 
         model.setPerson(personToEdit, editedPerson);
         model.addSession(currentSession);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_ADD_SESSION_SUCCESS, Messages.format(editedPerson)));
     }
 
@@ -4,34 +4,46 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
 
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.subject.Subject;
 
 /**
- * Attaches validated subject tags to a student.
+ * Attaches validated subject tags to a student, to a range of students, or to every student in the displayed list.
  */
 public class AddSubjectCommand extends Command {
 
     public static final String COMMAND_WORD = "addsubject";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Add subject tag(s) to a student.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Add subject tag(s) to a student, to the students "
+            + "in a range of index numbers, or to every student in the displayed list.\n"
+            + "Parameters: INDEX (must be a positive integer), FIRST-LAST or " + IndexSelection.KEYWORD_ALL + " "
             + PREFIX_SUBJECT + "SUBJECT...\n"
-            + "Command syntax: " + COMMAND_WORD + " INDEX " + PREFIX_SUBJECT + "SUBJECT "
+            + "Command syntax: " + COMMAND_WORD + " INDEX|FIRST-LAST|" + IndexSelection.KEYWORD_ALL + " "
+            + PREFIX_SUBJECT + "SUBJECT "
             + "[" + PREFIX_SUBJECT + "MORE_SUBJECTS]...\n"
             + "Example: " + COMMAND_WORD + " 1 " + PREFIX_SUBJECT + "MATH\n"
-            + "Example: " + COMMAND_WORD + " 3 " + PREFIX_SUBJECT + "PHY " + PREFIX_SUBJECT + "SCI\n";
+            + "Example: " + COMMAND_WORD + " 3 " + PREFIX_SUBJECT + "PHY " + PREFIX_SUBJECT + "SCI\n"
+            + "Example: " + COMMAND_WORD + " " + IndexSelection.KEYWORD_ALL + " " + PREFIX_SUBJECT + "MATH\n";
 
     public static final String MESSAGE_SUCCESS = "Added Subject Tag(s): %s to %s";
+    public static final String MESSAGE_SUCCESS_MULTIPLE =
+            "All %2$d selected student(s) now have Subject Tag(s): %1$s. %3$d of them were updated.";
     public static final String MESSAGE_DUPLICATE_SUBJECT = "Subject Tag(s): %s already assigned to %s";
+    public static final String MESSAGE_DUPLICATE_SUBJECT_MULTIPLE =
+            "Subject Tag(s): %s already assigned to every selected student";
+    public static final String MESSAGE_NO_PERSONS_DISPLAYED = "There are no students in the displayed list to update.";
     public static final String MESSAGE_DUPLICATE_SUBJECT_IN_COMMAND =
             "Duplicate subject tag(s) detected in command. Each subject should only be specified once.";
 
@@ -41,7 +53,7 @@ public class AddSubjectCommand extends Command {
                     + "HIST, GEOG, LIT, CHI, MALAY, TAMIL,\n"
                     + "POA, ECONS, ART, MUSIC, COMSCI";
 
-    private final Index targetIndex;
+    private final IndexSelection targetIndexes;
     private final Set<Tag> subjectTags;
 
     /**
@@ -49,9 +61,17 @@ public class AddSubjectCommand extends Command {
      * @param subjectTags the subject tags to attach
      */
     public AddSubjectCommand(Index index, Set<Tag> subjectTags) {
-        requireNonNull(index);
+        this(IndexSelection.of(requireNonNull(index)), subjectTags);
+    }
+
+    /**
+     * @param targetIndexes the indexes of the target persons in the current list
+     * @param subjectTags the subject tags to attach
+     */
+    public AddSubjectCommand(IndexSelection targetIndexes, Set<Tag> subjectTags) {
+        requireNonNull(targetIndexes);
         requireNonNull(subjectTags);
-        this.targetIndex = index;
+        this.targetIndexes = targetIndexes;
         this.subjectTags = subjectTags;
     }
 
@@ -60,32 +80,67 @@ public class AddSubjectCommand extends Command {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+        if (!targetIndexes.isWithin(lastShownList.size())) {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
+        if (lastShownList.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_PERSONS_DISPLAYED);
+        }
 
-        Person personToEdit = lastShownList.get(targetIndex.getZeroBased());
+        if (targetIndexes.isSingle()) {
+            Index targetIndex = targetIndexes.resolve(lastShownList.size()).get(0);
+            Person personToEdit = lastShownList.get(targetIndex.getZeroBased());
+            Set<Tag> duplicates = getAssignedSubjects(personToEdit);
+            if (!duplicates.isEmpty()) {
+                throw new CommandException(String.format(
+                        MESSAGE_DUPLICATE_SUBJECT, joinTagNames(duplicates), personToEdit.getName().fullName));
+            }
 
-        Set<Tag> duplicates = new HashSet<>();
-        for (Tag tag : subjectTags) {
-            if (personToEdit.getTags().contains(tag)) {
-                duplicates.add(tag);
+            Person editedPerson = createPersonWithSubjects(personToEdit, subjectTags);
+            model.setPerson(personToEdit, editedPerson);
+            return new CommandResult(String.format(MESSAGE_SUCCESS, joinTags(subjectTags),
+                    editedPerson.getName().fullName));
+        }
+
+        // Students that already have some of the subjects only get the rest, all in one change to the model
+        Map<Person, Person> edits = new LinkedHashMap<>();
+        List<Index> indexes = targetIndexes.resolve(lastShownList.size());
+        for (Index index : indexes) {
+            Person personToEdit = lastShownList.get(index.getZeroBased());
+            Set<Tag> missingSubjects = new HashSet<>(subjectTags);
+            missingSubjects.removeAll(getAssignedSubjects(personToEdit));
+            if (!missingSubjects.isEmpty()) {
+                edits.put(personToEdit, createPersonWithSubjects(personToEdit, missingSubjects));
             }
         }
 
-        if (!duplicates.isEmpty()) {
-            String duplicateNames = duplicates.stream()
-                    .map(tag -> tag.tagName)
-                    .reduce((a, b) -> a + ", " + b)
-                    .orElse("");
-            throw new CommandException(String.format(
-                    MESSAGE_DUPLICATE_SUBJECT, duplicateNames, personToEdit.getName().fullName));
+        if (edits.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_DUPLICATE_SUBJECT_MULTIPLE, joinTagNames(subjectTags)));
         }
+        model.setPersons(edits);
+        return new CommandResult(String.format(MESSAGE_SUCCESS_MULTIPLE, joinTags(subjectTags), indexes.size(),
+                edits.size()));
+    }
 
+    /**
+     * Returns the subject tags of this command that {@code person} already has.
+     */
+    private Set<Tag> getAssignedSubjects(Person person) {
+        Set<Tag> assigned = new HashSet<>();
+        for (Tag tag : subjectTags) {
+            Subject subject = Subject.of(tag.tagName);
+            if (subject != null ? person.hasSubject(subject) : person.getSubjectTags().contains(tag)) {
+                assigned.add(tag);
+            }
+        }
+        return assigned;
+    }
+
+    private static Person createPersonWithSubjects(Person personToEdit, Set<Tag> subjectsToAdd) {
         Set<Tag> newTags = new HashSet<>(personToEdit.getTags());
-        newTags.addAll(subjectTags);
+        newTags.addAll(subjectsToAdd);
 
-        Person editedPerson = new Person(
+        return new Person(
                 personToEdit.getName(),
                 personToEdit.getStudyYear(),
                 personToEdit.getPhone(),
@@ -94,16 +149,20 @@ public class AddSubjectCommand extends Command {
                 newTags,
                 personToEdit.getPayment()
         );
+    }
 
-        model.setPerson(personToEdit, editedPerson);
+    private static String joinTagNames(Set<Tag> tags) {
+        return tags.stream()
+                .map(tag -> tag.tagName)
+                .reduce((a, b) -> a + ", " + b)
+                .orElse("");
+    }
 
-        String addedSubjects = subjectTags
-                .stream()
+    private static String joinTags(Set<Tag> tags) {
+        return tags.stream()
                 .map(tag -> tag.toString())
                 .reduce((a, b) -> a + ", " + b)
                 .orElse("");
-
-        return new CommandResult(String.format(MESSAGE_SUCCESS, addedSubjects, editedPerson.getName().fullName));
     }
 
     @Override
@@ -118,14 +177,14 @@ public class AddSubjectCommand extends Command {
         }
 
         AddSubjectCommand otherAddSubjectCommand = (AddSubjectCommand) other;
-        return targetIndex.equals(otherAddSubjectCommand.targetIndex)
+        return targetIndexes.equals(otherAddSubjectCommand.targetIndexes)
                 && subjectTags.equals(otherAddSubjectCommand.subjectTags);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("targetIndexes", targetIndexes)
                 .add("subjectTags", subjectTags)
                 .toString();
     }
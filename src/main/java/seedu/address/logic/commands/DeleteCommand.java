@@ -2,36 +2,47 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
-import seedu.address.model.tag.SessionTag;
-import seedu.address.model.tag.Tag;
+import seedu.address.model.person.Session;
 
 /**
- * Deletes a person identified using it's displayed index from the address book.
+ * Deletes a person identified using it's displayed index from the address book, or a range of persons,
+ * or every person in the displayed list.
  */
 public class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the person identified by the index number used in the displayed person list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Command syntax: delete INDEX\n"
-            + "Example: " + COMMAND_WORD + " 1\n";
+            + ": Deletes the person identified by the index number used in the displayed person list, "
+            + "the persons in a range of index numbers, or every person in the list.\n"
+            + "Parameters: INDEX (must be a positive integer), FIRST-LAST or " + IndexSelection.KEYWORD_ALL + "\n"
+            + "Command syntax: " + COMMAND_WORD + " INDEX|FIRST-LAST|" + IndexSelection.KEYWORD_ALL + "\n"
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "Example: " + COMMAND_WORD + " 3-40\n";
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Contact %d: %s\nhas been deleted successfully.";
+    public static final String MESSAGE_DELETE_PERSONS_SUCCESS = "%d contacts have been deleted successfully.";
+    public static final String MESSAGE_NO_PERSONS_DISPLAYED = "There are no persons in the displayed list to delete.";
 
-    private final Index targetIndex;
+    private final IndexSelection targetIndexes;
 
     public DeleteCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(IndexSelection.of(targetIndex));
+    }
+
+    public DeleteCommand(IndexSelection targetIndexes) {
+        requireNonNull(targetIndexes);
+        this.targetIndexes = targetIndexes;
     }
 
     @Override
@@ -39,20 +50,30 @@ public class DeleteCommand extends Command {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+        if (!targetIndexes.isWithin(lastShownList.size())) {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
+        if (lastShownList.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_PERSONS_DISPLAYED);
+        }
+
+        // Collected first, as the displayed list changes once the persons are deleted
+        List<Person> personsToDelete = new ArrayList<>();
+        List<Session> sessionsToRemove = new ArrayList<>();
+        for (Index index : targetIndexes.resolve(lastShownList.size())) {
+            Person personToDelete = lastShownList.get(index.getZeroBased());
+            personsToDelete.add(personToDelete);
+            sessionsToRemove.addAll(personToDelete.getSessions());
+        }
+        model.removeSessions(sessionsToRemove);
+        model.deletePersons(personsToDelete);
 
-        Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
-        for (Tag tag : personToDelete.getTags()) {
-            if (tag.isSessionTag()) {
-                SessionTag currentSessionTag = (SessionTag) tag;
-                model.removeSession(currentSessionTag.getSession());
-            }
+        if (targetIndexes.isSingle()) {
+            Index targetIndex = targetIndexes.resolve(lastShownList.size()).get(0);
+            return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, targetIndex.getOneBased(),
+                    Messages.format(personsToDelete.get(0))));
         }
-        model.deletePerson(personToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, targetIndex.getOneBased(),
-                Messages.format(personToDelete)));
+        return new CommandResult(String.format(MESSAGE_DELETE_PERSONS_SUCCESS, personsToDelete.size()));
     }
 
     @Override
@@ -67,13 +88,13 @@ public class DeleteCommand extends Command {
         }
 
         DeleteCommand otherDeleteCommand = (DeleteCommand) other;
-        return targetIndex.equals(otherDeleteCommand.targetIndex);
+        return targetIndexes.equals(otherDeleteCommand.targetIndexes);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("targetIndexes", targetIndexes)
                 .toString();
     }
 }
@@ -11,9 +11,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDY_YEAR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -34,7 +32,6 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Session;
 import seedu.address.model.person.StudyYear;
-import seedu.address.model.tag.SessionTag;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -146,7 +143,6 @@ public class EditCommand extends Command {
         }
 
         model.setPerson(personToEdit, editedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
     }
 
@@ -228,15 +224,8 @@ public class EditCommand extends Command {
      * @return A list of removed sessions for potential reinstatement if validation fails.
      */
     private List<Session> removeOldSessions(Model model, Person person) {
-        List<Session> removedSessions = new ArrayList<>();
-        for (Tag tag : person.getTags()) {
-            if (tag.isSessionTag()) {
-                SessionTag sessionTag = (SessionTag) tag;
-                Session session = sessionTag.getSession();
-                model.removeSession(session);
-                removedSessions.add(session);
-            }
-        }
+        List<Session> removedSessions = person.getSessions();
+        removedSessions.forEach(model::removeSession);
         return removedSessions;
     }
 
@@ -247,13 +236,7 @@ public class EditCommand extends Command {
      * @return A list of all sessions associated with the person.
      */
     private List<Session> extractSessions(Person person) {
-        List<Session> sessions = new ArrayList<>();
-        for (Tag tag : person.getTags()) {
-            if (tag.isSessionTag()) {
-                sessions.add(((SessionTag) tag).getSession());
-            }
-        }
-        return sessions;
+        return person.getSessions();
     }
 
     /**
@@ -344,42 +327,24 @@ public class EditCommand extends Command {
         // Handle tags - need to separate subjects and sessions
         Set<Tag> updatedTags = new HashSet<>();
 
-        // Separate existing tags into subjects and sessions
-        Set<Tag> existingSubjects = new HashSet<>();
-        Set<Tag> existingSessions = new HashSet<>();
-        for (Tag tag : personToEdit.getTags()) {
-            if (isSessionTag(tag)) {
-                existingSessions.add(tag);
-            } else {
-                existingSubjects.add(tag);
-            }
-        }
-
         // Handle subjects - replace if provided, otherwise keep existing
         if (editPersonDescriptor.getSubjects().isPresent()) {
             updatedTags.addAll(editPersonDescriptor.getSubjects().get());
         } else {
-            updatedTags.addAll(existingSubjects);
+            updatedTags.addAll(personToEdit.getSubjectTags());
         }
 
         // Handle sessions - replace if provided, otherwise keep existing
         if (editPersonDescriptor.getSessions().isPresent()) {
             updatedTags.addAll(editPersonDescriptor.getSessions().get());
         } else {
-            updatedTags.addAll(existingSessions);
+            updatedTags.addAll(personToEdit.getSessionTags());
         }
 
         return new Person(updatedName, updatedStudyYear, updatedPhone, updatedEmail, updatedAddress, updatedTags,
                 personToEdit.getPayment());
     }
 
-    /**
-     * Returns true if the tag is a session tag (contains spaces, indicating day and time format).
-     */
-    private static boolean isSessionTag(Tag tag) {
-        return tag.tagName.contains(" ");
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,118 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ATOMIC;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.ScriptRunner;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.exceptions.ScriptException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Runs every command in a script file as a single command, so the address book is only saved once at the end.
+ * The commands are executed in steps, so a long script leaves the window responsive and can be stopped part way.
+ */
+public class RunCommand extends SteppedCommand {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, one per line, "
+            + "in order, and saves once at the end. Blank lines and lines starting with "
+            + ScriptRunner.COMMENT_MARKER + " are skipped.\n"
+            + "The script stops at the first command that fails. With " + PREFIX_ATOMIC
+            + ", none of its changes are kept if it stops.\n"
+            + "Parameters: FILE [" + PREFIX_ATOMIC + "]\n"
+            + "Command syntax: " + COMMAND_WORD + " FILE [" + PREFIX_ATOMIC + "]\n"
+            + "Example: " + COMMAND_WORD + " data/term2.txt " + PREFIX_ATOMIC;
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s";
+    public static final String MESSAGE_STOPPED = "Ran %1$d command(s) from %2$s, then stopped.\n%3$s";
+    public static final String MESSAGE_ROLLED_BACK = "%1$s\nNo changes from %2$s were kept.";
+    public static final String MESSAGE_READ_ERROR = "Could not read script %1$s: %2$s";
+
+    private final Path scriptFile;
+    private final boolean isAtomic;
+    private final ScriptRunner scriptRunner;
+
+    /**
+     * Creates a {@code RunCommand} that runs the script at {@code scriptFile} with {@code scriptRunner}.
+     *
+     * @param isAtomic Whether to undo every change made by the script if any of its commands fails.
+     */
+    public RunCommand(Path scriptFile, boolean isAtomic, ScriptRunner scriptRunner) {
+        requireAllNonNull(scriptFile, scriptRunner);
+        this.scriptFile = scriptFile;
+        this.isAtomic = isAtomic;
+        this.scriptRunner = scriptRunner;
+    }
+
+    @Override
+    public CommandResult execute(Model model, StepRunner stepRunner) throws CommandException {
+        requireAllNonNull(model, stepRunner);
+        ReadOnlyAddressBook original = isAtomic ? stepRunner.run(() -> new AddressBook(model.getAddressBook())) : null;
+
+        try (BufferedReader script = Files.newBufferedReader(scriptFile, StandardCharsets.UTF_8)) {
+            int executedCount = scriptRunner.run(script, model, stepRunner);
+            return new CommandResult(String.format(MESSAGE_SUCCESS, executedCount, scriptFile));
+        } catch (ScriptException e) {
+            if (isAtomic) {
+                restore(model, original, stepRunner);
+                throw new CommandException(String.format(MESSAGE_ROLLED_BACK, e.getMessage(), scriptFile), e);
+            }
+            // The commands before the failed one are kept, so this is a result to be saved, marked as stopped
+            return new CommandResult(String.format(MESSAGE_STOPPED, e.getExecutedCount(), scriptFile,
+                    e.getMessage()), false, false, true);
+        } catch (IOException e) {
+            if (isAtomic) {
+                restore(model, original, stepRunner);
+            }
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, scriptFile, e.getMessage()), e);
+        } catch (RuntimeException e) {
+            if (isAtomic) {
+                restore(model, original, stepRunner);
+            }
+            throw e;
+        }
+    }
+
+    private static void restore(Model model, ReadOnlyAddressBook original, StepRunner stepRunner)
+            throws CommandException {
+        stepRunner.run(() -> {
+            model.setAddressBook(original);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptFile.equals(otherRunCommand.scriptFile)
+                && isAtomic == otherRunCommand.isAtomic;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptFile", scriptFile)
+                .add("isAtomic", isAtomic)
+                .toString();
+    }
+}
@@ -3,11 +3,13 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_BILLING_START;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -21,26 +23,31 @@ import seedu.address.model.person.Phone;
 import seedu.address.model.person.StudyYear;
 
 /**
- * Sets the payment status of an existing person in the address book.
+ * Sets the payment status of an existing person in the address book, of a range of persons, or of every person
+ * in the displayed list.
  */
 public class SetPaymentCommand extends Command {
 
     public static final String COMMAND_WORD = "setpayment";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sets the payment status of the person identified "
-            + "by the index number used in the displayed person list.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + "by the index number used in the displayed person list, of the persons in a range of index numbers, "
+            + "or of every person in the list.\n"
+            + "Parameters: INDEX (must be a positive integer), FIRST-LAST or " + IndexSelection.KEYWORD_ALL + " "
             + PREFIX_STATUS + "STATUS "
             + "[" + PREFIX_BILLING_START + "DAY]\n"
-            + "Command syntax: " + COMMAND_WORD + " INDEX "
+            + "Command syntax: " + COMMAND_WORD + " INDEX|FIRST-LAST|" + IndexSelection.KEYWORD_ALL + " "
             + PREFIX_STATUS + "STATUS "
             + "[" + PREFIX_BILLING_START + "DAY]\n"
             + "Example: " + COMMAND_WORD + " 1 "
-            + PREFIX_STATUS + "PAID " + PREFIX_BILLING_START + "15";
+            + PREFIX_STATUS + "PAID " + PREFIX_BILLING_START + "15\n"
+            + "Example: " + COMMAND_WORD + " " + IndexSelection.KEYWORD_ALL + " " + PREFIX_STATUS + "PAID";
 
     public static final String MESSAGE_SET_PAYMENT_SUCCESS = "Payment status updated for %1$s";
+    public static final String MESSAGE_SET_PAYMENTS_SUCCESS = "Payment status updated for %1$d person(s)";
+    public static final String MESSAGE_NO_PERSONS_DISPLAYED = "There are no persons in the displayed list to update.";
 
-    private final Index index;
+    private final IndexSelection selection;
     private final String status;
     private final Integer billingStartDay;
 
@@ -50,25 +57,44 @@ public class SetPaymentCommand extends Command {
      * @param status payment status to set
      */
     public SetPaymentCommand(Index index, String status) {
-        requireNonNull(index);
+        this(IndexSelection.of(requireNonNull(index)), status);
+    }
+
+    /**
+     * Constructs a SetPaymentCommand with status and billing start day.
+     * @param index of the person in the filtered person list to set payment for
+     * @param status payment status to set
+     * @param billingStartDay billing start day to set
+     */
+    public SetPaymentCommand(Index index, String status, int billingStartDay) {
+        this(IndexSelection.of(requireNonNull(index)), status, billingStartDay);
+    }
+
+    /**
+     * Constructs a SetPaymentCommand with status only.
+     * @param selection of the persons in the filtered person list to set payment for
+     * @param status payment status to set
+     */
+    public SetPaymentCommand(IndexSelection selection, String status) {
+        requireNonNull(selection);
         requireNonNull(status);
 
-        this.index = index;
+        this.selection = selection;
         this.status = status;
         this.billingStartDay = null;
     }
 
     /**
      * Constructs a SetPaymentCommand with status and billing start day.
-     * @param index of the person in the filtered person list to set payment for
+     * @param selection of the persons in the filtered person list to set payment for
      * @param status payment status to set
      * @param billingStartDay billing start day to set
      */
-    public SetPaymentCommand(Index index, String status, int billingStartDay) {
-        requireNonNull(index);
+    public SetPaymentCommand(IndexSelection selection, String status, int billingStartDay) {
+        requireNonNull(selection);
         requireNonNull(status);
 
-        this.index = index;
+        this.selection = selection;
         this.status = status;
         this.billingStartDay = billingStartDay;
     }
@@ -78,16 +104,28 @@ public class SetPaymentCommand extends Command {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
 
-        if (index.getZeroBased() >= lastShownList.size()) {
+        if (!selection.isWithin(lastShownList.size())) {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
+        if (lastShownList.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_PERSONS_DISPLAYED);
+        }
 
-        Person personToEdit = lastShownList.get(index.getZeroBased());
-        Person editedPerson = createPersonWithUpdatedPayment(personToEdit);
+        if (selection.isSingle()) {
+            Index targetIndex = selection.resolve(lastShownList.size()).get(0);
+            Person personToEdit = lastShownList.get(targetIndex.getZeroBased());
+            model.setPerson(personToEdit, createPersonWithUpdatedPayment(personToEdit));
+            return new CommandResult(String.format(MESSAGE_SET_PAYMENT_SUCCESS, personToEdit.getName()));
+        }
 
-        model.setPerson(personToEdit, editedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(String.format(MESSAGE_SET_PAYMENT_SUCCESS, personToEdit.getName()));
+        // Every person is updated in one change to the model, which is saved once
+        Map<Person, Person> edits = new LinkedHashMap<>();
+        for (Index index : selection.resolve(lastShownList.size())) {
+            Person personToEdit = lastShownList.get(index.getZeroBased());
+            edits.put(personToEdit, createPersonWithUpdatedPayment(personToEdit));
+        }
+        model.setPersons(edits);
+        return new CommandResult(String.format(MESSAGE_SET_PAYMENTS_SUCCESS, edits.size()));
     }
 
     /**
@@ -132,18 +170,18 @@ public class SetPaymentCommand extends Command {
         }
 
         SetPaymentCommand otherCommand = (SetPaymentCommand) other;
-        boolean indexEqual = index.equals(otherCommand.index);
+        boolean selectionEqual = selection.equals(otherCommand.selection);
         boolean statusEqual = status.equals(otherCommand.status);
         boolean billingDayEqual = (billingStartDay == null && otherCommand.billingStartDay == null)
                 || (billingStartDay != null && billingStartDay.equals(otherCommand.billingStartDay));
 
-        return indexEqual && statusEqual && billingDayEqual;
+        return selectionEqual && statusEqual && billingDayEqual;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("selection", selection)
                 .add("status", status)
                 .add("billingStartDay", billingStartDay)
                 .toString();
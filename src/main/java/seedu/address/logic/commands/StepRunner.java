@@ -0,0 +1,45 @@
+package seedu.address.logic.commands;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Runs the steps of a {@link SteppedCommand} on the thread that owns the model, and tells the command when it has
+ * been asked to stop.
+ */
+public interface StepRunner {
+    /**
+     * Runs every step on the calling thread, which must own the model. A command run this way is never stopped.
+     */
+    StepRunner DIRECT = new StepRunner() {
+        @Override
+        public <T> T run(Step<T> step) throws CommandException {
+            return step.run();
+        }
+
+        @Override
+        public boolean isStopRequested() {
+            return false;
+        }
+    };
+
+    /**
+     * Runs {@code step} on the thread that owns the model and waits for it to finish.
+     *
+     * @return what {@code step} returned.
+     * @throws CommandException if {@code step} did.
+     */
+    <T> T run(Step<T> step) throws CommandException;
+
+    /**
+     * Returns true if the command has been asked to stop, which it should do before its next step.
+     */
+    boolean isStopRequested();
+
+    /**
+     * A step of a command, which may touch the model.
+     */
+    @FunctionalInterface
+    interface Step<T> {
+        T run() throws CommandException;
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.address.logic.commands;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * A command that can take long, such as running a script, and so is executed in steps. Only its steps run on the
+ * thread that owns the model, which stays free for the UI between them, and it can be stopped between them.
+ */
+public abstract class SteppedCommand extends Command {
+    /**
+     * Executes the command from a thread other than the model's, touching {@code model} only within the steps it
+     * hands to {@code stepRunner}, and returns the result message.
+     *
+     * @throws CommandException If an error occurs during command execution.
+     */
+    public abstract CommandResult execute(Model model, StepRunner stepRunner) throws CommandException;
+
+    /**
+     * Executes every step of the command at once, on the calling thread.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        return execute(model, StepRunner.DIRECT);
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.logic.commands.exceptions;
+
+/**
+ * Represents a command in a script that failed to parse or execute, after the commands before it were executed.
+ */
+public class ScriptException extends CommandException {
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s";
+
+    private final int lineNumber;
+    private final int executedCount;
+
+    /**
+     * Constructs a new {@code ScriptException} for the command on {@code lineNumber} of the script, which failed
+     * with {@code message} after {@code executedCount} commands were executed.
+     */
+    public ScriptException(int lineNumber, int executedCount, String message, Throwable cause) {
+        super(String.format(MESSAGE_LINE_FAILED, lineNumber, message), cause);
+        this.lineNumber = lineNumber;
+        this.executedCount = executedCount;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public int getExecutedCount() {
+        return executedCount;
+    }
+}
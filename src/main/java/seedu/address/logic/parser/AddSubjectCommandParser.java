@@ -6,7 +6,7 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Stream;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.AddSubjectCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -31,7 +31,7 @@ public class AddSubjectCommandParser implements Parser<AddSubjectCommand> {
                     AddSubjectCommand.MESSAGE_USAGE));
         }
 
-        Index index = ParserUtil.parseIndex(argMultimap.getPreamble().split("\\s+")[0]);
+        IndexSelection targetIndexes = ParserUtil.parseIndexSelection(argMultimap.getPreamble().split("\\s+")[0]);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_SUBJECT)) {
             throw new ParseException(String.format(Messages.MESSAGE_MISSING_PREFIX,
@@ -54,7 +54,7 @@ public class AddSubjectCommandParser implements Parser<AddSubjectCommand> {
             subjectTags.add(subjectTag);
         }
 
-        return new AddSubjectCommand(index, subjectTags);
+        return new AddSubjectCommand(targetIndexes, subjectTags);
     }
 
     /**
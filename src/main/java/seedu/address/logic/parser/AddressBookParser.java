@@ -8,6 +8,8 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandMetrics;
+import seedu.address.logic.ScriptRunner;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddSessionCommand;
 import seedu.address.logic.commands.AddSubjectCommand;
@@ -21,7 +23,11 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FreeCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.SetPaymentCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -35,6 +41,22 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Creates a parser whose {@code stats} command reports a fresh, empty {@code CommandMetrics}.
+     */
+    public AddressBookParser() {
+        this(new CommandMetrics());
+    }
+
+    /**
+     * Creates a parser whose {@code stats} command reports {@code commandMetrics}.
+     */
+    public AddressBookParser(CommandMetrics commandMetrics) {
+        this.commandMetrics = commandMetrics;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -43,8 +65,21 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        logger.info("----------------[USER COMMAND][" + userInput + "]");
+        return parseCommand(userInput, ClearCommand.isAwaitingConfirmation());
+    }
 
+    /**
+     * Parses user input into a command to run without someone at the window, as in a script or from the API.
+     * Unlike {@link #parseCommand(String)}, the input is never taken as the answer to a confirmation the window is
+     * waiting for.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Command parseUnattendedCommand(String userInput) throws ParseException {
+        return parseCommand(userInput, false);
+    }
+
+    private Command parseCommand(String userInput, boolean isAwaitingConfirmation) throws ParseException {
         final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
         if (!matcher.matches()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
@@ -56,9 +91,9 @@ public class AddressBookParser {
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and
         // lower) log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
 
-        if (ClearCommand.isAwaitingConfirmation()) {
+        if (isAwaitingConfirmation) {
             return new ConfirmClearCommand(commandWord);
         }
 
@@ -100,8 +135,20 @@ public class AddressBookParser {
         case SetPaymentCommand.COMMAND_WORD:
             return new SetPaymentCommandParser().parse(arguments);
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand(commandMetrics);
+
+        case RunCommand.COMMAND_WORD:
+            return new RunCommandParser(new ScriptRunner(this::parseUnattendedCommand)).parse(arguments);
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         default:
-            logger.finer("This user input caused a ParseException: " + userInput);
+            logger.finer(() -> "This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
     }
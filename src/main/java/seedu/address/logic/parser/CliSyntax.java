@@ -18,4 +18,5 @@ public class CliSyntax {
     public static final Prefix PREFIX_CLEAR = new Prefix("clear/");
     public static final Prefix PREFIX_STATUS = new Prefix("status/");
     public static final Prefix PREFIX_BILLING_START = new Prefix("start/");
+    public static final Prefix PREFIX_ATOMIC = new Prefix("atomic/");
 }
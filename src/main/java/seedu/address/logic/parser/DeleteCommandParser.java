@@ -1,6 +1,6 @@
 package seedu.address.logic.parser;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -27,8 +27,8 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
                     DeleteCommand.MESSAGE_USAGE));
         }
 
-        Index index = ParserUtil.parseIndex(args);
-        return new DeleteCommand(index);
+        IndexSelection targetIndexes = ParserUtil.parseIndexSelection(args);
+        return new DeleteCommand(targetIndexes);
     }
 
 }
@@ -10,6 +10,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
@@ -29,6 +30,7 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_DURATION = "Duration is not an unsigned integer";
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE = "Index range must not end before it starts.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -43,6 +45,32 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code selection} into an {@code IndexSelection} and returns it: either {@code all}, in any case,
+     * a single one-based index, or an inclusive range of them such as {@code 3-40}.
+     * Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the specified selection is neither {@code all}, a valid index nor a valid range.
+     */
+    public static IndexSelection parseIndexSelection(String selection) throws ParseException {
+        requireNonNull(selection);
+        String trimmedSelection = selection.trim();
+        if (trimmedSelection.equalsIgnoreCase(IndexSelection.KEYWORD_ALL)) {
+            return IndexSelection.all();
+        }
+
+        // A leading separator is a negative index, not a range
+        int separatorPosition = trimmedSelection.indexOf(IndexSelection.RANGE_SEPARATOR, 1);
+        if (separatorPosition < 0) {
+            return IndexSelection.of(parseIndex(trimmedSelection));
+        }
+        Index first = parseIndex(trimmedSelection.substring(0, separatorPosition));
+        Index last = parseIndex(trimmedSelection.substring(separatorPosition + 1));
+        if (last.getZeroBased() < first.getZeroBased()) {
+            throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+        }
+        return IndexSelection.range(first, last);
+    }
+
     /**
      * Parses {@code duration} into an {@code Integer} and returns it. Leading and trailing whitespaces will be
      * trimmed.
@@ -0,0 +1,58 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ATOMIC;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.ScriptRunner;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+    public static final String MESSAGE_MISSING_FILE = "The script file cannot be blank. "
+            + "Ensure that your input follows this format: \n%1$s";
+    public static final String MESSAGE_INVALID_FILE = "%1$s is not a valid file path.";
+
+    private final ScriptRunner scriptRunner;
+
+    /**
+     * Creates a parser of {@code RunCommand}s that run their scripts with {@code scriptRunner}.
+     */
+    public RunCommandParser(ScriptRunner scriptRunner) {
+        requireNonNull(scriptRunner);
+        this.scriptRunner = scriptRunner;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ATOMIC);
+        String fileName = argMultimap.getPreamble().trim();
+        if (fileName.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_FILE, RunCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ATOMIC);
+        boolean isAtomic = argMultimap.getValue(PREFIX_ATOMIC).isPresent();
+        if (isAtomic && !argMultimap.getValue(PREFIX_ATOMIC).get().isEmpty()) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            Path scriptFile = Paths.get(fileName);
+            return new RunCommand(scriptFile, isAtomic, scriptRunner);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FILE, fileName), e);
+        }
+    }
+}
@@ -6,7 +6,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 
 import java.util.stream.Stream;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.SetPaymentCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -37,7 +37,7 @@ public class SetPaymentCommandParser implements Parser<SetPaymentCommand> {
                     SetPaymentCommand.MESSAGE_USAGE));
         }
 
-        Index index = ParserUtil.parseIndex(argMultimap.getPreamble());
+        IndexSelection selection = ParserUtil.parseIndexSelection(argMultimap.getPreamble());
 
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_STATUS, PREFIX_BILLING_START);
 
@@ -45,10 +45,10 @@ public class SetPaymentCommandParser implements Parser<SetPaymentCommand> {
 
         if (argMultimap.getValue(PREFIX_BILLING_START).isPresent()) {
             int billingStartDay = ParserUtil.parseBillingDay(argMultimap.getValue(PREFIX_BILLING_START).get());
-            return new SetPaymentCommand(index, status, billingStartDay);
+            return new SetPaymentCommand(selection, status, billingStartDay);
         }
 
-        return new SetPaymentCommand(index, status);
+        return new SetPaymentCommand(selection, status);
     }
 
     /**
@@ -2,7 +2,9 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javafx.collections.ObservableList;
@@ -79,6 +81,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds every person in {@code persons} to the end of the address book, as a single change to the person list.
+     * If any of them clashes with another person, the address book is left unchanged.
+     */
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+
+        this.persons.addAll(persons);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -98,6 +110,27 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Replaces every person that is a key of {@code edits} with the person it maps to, as a single change to the
+     * person list. Every key must exist in the address book.
+     * If any edited person clashes with another person, the address book is left unchanged.
+     */
+    public void setPersons(Map<Person, Person> edits) {
+        requireNonNull(edits);
+
+        persons.setPersons(edits);
+    }
+
+    /**
+     * Removes every person in {@code keys} from this {@code AddressBook}, as a single change to the person list.
+     * Every person must exist in the address book; if any does not, the address book is left unchanged.
+     */
+    public void removePersons(Collection<Person> keys) {
+        requireNonNull(keys);
+
+        persons.removePersons(keys);
+    }
+
     /**
      * Returns true if a person with the same contact details (phone or email)
      * as {@code p} exists in the address book
@@ -120,6 +153,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contactPresentExcluding(person, personToExclude);
     }
 
+    /**
+     * Replaces the persons from index {@code from} (inclusive) to {@code to} (exclusive) with {@code persons},
+     * to restore an earlier state of the address book.
+     */
+    void restorePersons(int from, int to, List<Person> persons) {
+        this.persons.restorePersons(from, to, persons);
+    }
+
     //// session-level operations
     /**
      * Adds a session to the weekly sessions.
@@ -149,6 +190,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         weeklySessions.remove(session);
     }
 
+    /**
+     * Removes every session in {@code sessions} from the weekly sessions, once for each time it appears.
+     * Each session must exist in the weekly sessions at least that many times.
+     */
+    public void removeSessions(Collection<Session> sessions) {
+        weeklySessions.removeAll(sessions);
+    }
+
     public WeeklySessions getWeeklySessions() {
         return weeklySessions;
     }
@@ -0,0 +1,156 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * The changes that turn the address book of a snapshot into another address book, such as one read back from a data
+ * file that was changed outside the app.
+ *
+ * Persons are matched by {@link Person#isSamePerson(Person) identity}: a person of the other address book that matches
+ * one of the snapshot but is not equal to it is an edit of that person, and the persons that match none are added or
+ * removed. Attendee counts are compared session by session. Working out the changes takes one pass over each address
+ * book and only reads the snapshot, so it can be done on any thread; applying them touches only what changed.
+ */
+public class AddressBookDiff {
+    private final AddressBookSnapshot base;
+    private final ReadOnlyAddressBook target;
+    private final List<Person> removed;
+    private final Map<Person, Person> edits;
+    private final List<Person> added;
+    private final Map<Session, Integer> sessionCounts;
+
+    private AddressBookDiff(AddressBookSnapshot base, ReadOnlyAddressBook target, List<Person> removed,
+            Map<Person, Person> edits, List<Person> added, Map<Session, Integer> sessionCounts) {
+        this.base = base;
+        this.target = target;
+        this.removed = removed;
+        this.edits = edits;
+        this.added = added;
+        this.sessionCounts = sessionCounts;
+    }
+
+    /**
+     * Returns the changes that turn the address book of {@code base} into {@code target}.
+     * {@code target} must not change while this runs.
+     */
+    public static AddressBookDiff between(AddressBookSnapshot base, ReadOnlyAddressBook target) {
+        requireAllNonNull(base, target);
+
+        Map<List<Object>, Person> unmatched = new HashMap<>();
+        for (Person person : base.getPersonList()) {
+            unmatched.put(UniquePersonList.identityOf(person), person);
+        }
+        Map<Person, Person> edits = new LinkedHashMap<>();
+        List<Person> added = new ArrayList<>();
+        for (Person person : target.getPersonList()) {
+            Person current = unmatched.remove(UniquePersonList.identityOf(person));
+            if (current == null) {
+                added.add(person);
+            } else if (!current.equals(person)) {
+                edits.put(current, person);
+            }
+        }
+        // Kept in the order they are listed in, which is the order they would be removed in one at a time
+        Set<Person> removedSet = new HashSet<>(unmatched.values());
+        List<Person> removed = new ArrayList<>();
+        for (Person person : base.getPersonList()) {
+            if (removedSet.contains(person)) {
+                removed.add(person);
+            }
+        }
+
+        Map<Session, Integer> targetCounts = target.getWeeklySessions().getSessionCounts();
+        Map<Session, Integer> sessionCounts = new HashMap<>();
+        base.getSessionCounts().forEach((session, count) -> {
+            if (!targetCounts.containsKey(session)) {
+                sessionCounts.put(session, 0);
+            }
+        });
+        targetCounts.forEach((session, count) -> {
+            if (!Objects.equals(base.getSessionCounts().get(session), count)) {
+                sessionCounts.put(session, count);
+            }
+        });
+
+        return new AddressBookDiff(base, target, Collections.unmodifiableList(removed),
+                Collections.unmodifiableMap(edits), Collections.unmodifiableList(added),
+                Collections.unmodifiableMap(sessionCounts));
+    }
+
+    /**
+     * Returns the snapshot these changes start from. They can only be applied to an address book that still holds
+     * what the snapshot does.
+     */
+    public AddressBookSnapshot getBase() {
+        return base;
+    }
+
+    /**
+     * Returns the address book these changes lead to.
+     */
+    public ReadOnlyAddressBook getTarget() {
+        return target;
+    }
+
+    public List<Person> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns each edited person mapped to the person that replaces it.
+     */
+    public Map<Person, Person> getEdits() {
+        return edits;
+    }
+
+    public List<Person> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the new attendee count of each session whose count changed, which is 0 for sessions no longer held.
+     */
+    public Map<Session, Integer> getSessionCounts() {
+        return sessionCounts;
+    }
+
+    public boolean isEmpty() {
+        return removed.isEmpty() && edits.isEmpty() && added.isEmpty() && sessionCounts.isEmpty();
+    }
+
+    /**
+     * Applies these changes to {@code addressBook}, which must hold what {@link #getBase()} does.
+     * Persons that are added are listed after the others, whatever their position in {@link #getTarget()}.
+     */
+    void applyTo(AddressBook addressBook) {
+        addressBook.removePersons(removed);
+        addressBook.setPersons(edits);
+        addressBook.addPersons(added);
+        sessionCounts.forEach(addressBook.getWeeklySessions()::setAttendeeCount);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("removed", removed.size())
+                .add("edited", edits.size())
+                .add("added", added.size())
+                .add("sessionCounts", sessionCounts.size())
+                .toString();
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
+import seedu.address.model.util.PersistentList;
+
+/**
+ * An unchangeable copy of the persons and weekly sessions of an address book at one point in time.
+ * It can be read from any thread while the address book keeps changing on the thread that owns it.
+ *
+ * Snapshots taken one after another by a {@link SnapshotTracker} share everything that did not change between them,
+ * so taking one costs O(1), however large the address book is.
+ */
+public class AddressBookSnapshot {
+    private final PersistentList<Person> persons;
+    private final NavigableMap<Session, Integer> sessionCounts;
+
+    AddressBookSnapshot(PersistentList<Person> persons, NavigableMap<Session, Integer> sessionCounts) {
+        this.persons = persons;
+        this.sessionCounts = sessionCounts;
+    }
+
+    /**
+     * Returns a snapshot of the persons in {@code addressBook} and of {@code weeklySessions}, copying both.
+     * Must be called on the thread that changes them.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook addressBook, WeeklySessions weeklySessions) {
+        requireAllNonNull(addressBook, weeklySessions);
+        return new AddressBookSnapshot(PersistentList.copyOf(addressBook.getPersonList()),
+                copySessionCounts(weeklySessions));
+    }
+
+    /**
+     * Returns an unchangeable copy of the attendee counts of {@code weeklySessions}, ordered by day and time.
+     */
+    static NavigableMap<Session, Integer> copySessionCounts(WeeklySessions weeklySessions) {
+        return Collections.unmodifiableNavigableMap(new TreeMap<>(weeklySessions.getSessionCounts()));
+    }
+
+    /**
+     * Returns the persons in the address book, in the order they are listed.
+     */
+    public List<Person> getPersonList() {
+        return persons;
+    }
+
+    /**
+     * Returns the number of people attending each weekly session, ordered by day and time.
+     */
+    public NavigableMap<Session, Integer> getSessionCounts() {
+        return sessionCounts;
+    }
+
+    /**
+     * Returns the earliest free time slot of {@code duration} hours in the week.
+     *
+     * @see WeeklySessions#getEarliestFreeTime(int)
+     */
+    public String getEarliestFreeTime(int duration) {
+        return WeeklySessions.findEarliestFreeTime(sessionCounts.navigableKeySet(), duration);
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -51,6 +53,12 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Brings the address book up to date with the address book {@code diff} leads to, changing only the persons and
+     * sessions that differ. The address book must still hold what {@code diff} starts from.
+     */
+    void mergeAddressBook(AddressBookDiff diff);
+
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
@@ -78,15 +86,70 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces every person that is a key of {@code edits} with the person it maps to.
+     * The persons list changes once, however many persons are edited.
+     * Every key must exist in the address book, and the edited persons must not clash with one another or with any
+     * other person. If any does, nothing is changed.
+     */
+    void setPersons(Map<Person, Person> edits);
+
+    /**
+     * Deletes every person in {@code targets}.
+     * The persons list changes once, however many persons are deleted.
+     * Every person must exist in the address book; if any does not, nothing is deleted.
+     */
+    void deletePersons(Collection<Person> targets);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * The filter stays in place across later changes to the address book, which only re-test the changed persons.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Removes the filter of the filtered person list so that it shows every person again.
+     */
+    void resetFilteredPersonList();
+
+    /**
+     * Ends the current undoable step, so that the changes made since the last one are undone together.
+     * Called after every command.
+     */
+    void commitAddressBook();
+
+    /**
+     * Forgets every undoable step, including the changes made since the last one, so that the address book as it is
+     * now cannot be undone. Called once data has been loaded into the address book, which is not a change to undo.
+     */
+    void resetUndoHistory();
+
+    /**
+     * Returns true if there is a step to undo.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Undoes the changes of the last step, including to the weekly sessions, and shows the filter from before it.
+     * There must be a step to undo.
+     */
+    void undoAddressBook();
+
+    /**
+     * Returns true if there is an undone step to redo.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Redoes the changes of the last undone step, and shows the filter from after it.
+     * There must be a step to redo.
+     */
+    void redoAddressBook();
+
     boolean hasContact(Person p);
 
     /**
@@ -110,6 +173,12 @@ public interface Model {
      */
     void removeSession(Session session);
 
+    /**
+     * Deletes every session in {@code sessions} from the weekly sessions, once for each time it appears.
+     * Each session must exist in the weekly sessions at least that many times; if any does not, nothing is deleted.
+     */
+    void removeSessions(Collection<Session> sessions);
+
     Optional<Session> getOverlappingSession(Session session);
 
 
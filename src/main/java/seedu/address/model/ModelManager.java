@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -12,6 +14,7 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.FilterAppliedEvent;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Session;
 
@@ -24,6 +27,7 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final UndoHistory undoHistory;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -31,11 +35,12 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredPersons = new FilteredList<>(this.addressBook.getPersonList(), PREDICATE_SHOW_ALL_PERSONS);
+        undoHistory = new UndoHistory(this.addressBook, PREDICATE_SHOW_ALL_PERSONS);
     }
 
     public ModelManager() {
@@ -84,6 +89,12 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public void mergeAddressBook(AddressBookDiff diff) {
+        requireNonNull(diff);
+        diff.applyTo(addressBook);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return addressBook;
@@ -103,7 +114,6 @@ public class ModelManager implements Model {
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
@@ -113,6 +123,50 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void setPersons(Map<Person, Person> edits) {
+        requireNonNull(edits);
+        addressBook.setPersons(edits);
+    }
+
+    @Override
+    public void deletePersons(Collection<Person> targets) {
+        requireNonNull(targets);
+        addressBook.removePersons(targets);
+    }
+
+    @Override
+    public void commitAddressBook() {
+        undoHistory.commit(filteredPersons.getPredicate());
+    }
+
+    @Override
+    public void resetUndoHistory() {
+        undoHistory.clear(filteredPersons.getPredicate());
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return undoHistory.canUndo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        commitAddressBook();
+        filteredPersons.setPredicate(undoHistory.undo());
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return undoHistory.canRedo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        commitAddressBook();
+        filteredPersons.setPredicate(undoHistory.redo());
+    }
+
     @Override
     public boolean hasContact(Person p) {
         requireNonNull(p);
@@ -137,6 +191,12 @@ public class ModelManager implements Model {
         addressBook.removeSession(session);
     }
 
+    @Override
+    public void removeSessions(Collection<Session> sessions) {
+        requireNonNull(sessions);
+        addressBook.removeSessions(sessions);
+    }
+
     @Override
     public Optional<Session> getOverlappingSession(Session session) {
         return addressBook.getOverlappingSessions(session);
@@ -166,7 +226,25 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (predicate.equals(filteredPersons.getPredicate())) {
+            // The list already reflects this predicate, as changes to the address book are filtered incrementally
+            return;
+        }
+        FilterAppliedEvent event = new FilterAppliedEvent();
+        event.begin();
         filteredPersons.setPredicate(predicate);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setPredicateType(predicate.getClass().getName());
+            event.setMatchedCount(filteredPersons.size());
+            event.setTotalCount(addressBook.getPersonList().size());
+            event.commit();
+        }
+    }
+
+    @Override
+    public void resetFilteredPersonList() {
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
@@ -0,0 +1,113 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.NavigableMap;
+
+import javafx.beans.Observable;
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
+import seedu.address.model.util.PersistentList;
+
+/**
+ * Keeps a persistent copy of the persons and weekly sessions of an address book in step with it, so that a
+ * consistent {@link AddressBookSnapshot} can be taken at any time in O(1).
+ *
+ * Each change of the person list is replayed onto a {@link PersistentList}, which costs O(log n) per person changed
+ * and shares the rest with earlier snapshots. The session counts are bounded by the hours in a week, so they are
+ * copied whole, but only when they have changed since the last snapshot.
+ *
+ * Must only be used on the thread that changes the address book.
+ */
+public class SnapshotTracker implements ListChangeListener<Person> {
+
+    private final WeeklySessions weeklySessions;
+    private final Runnable onChange;
+    private PersistentList<Person> persons;
+    private NavigableMap<Session, Integer> sessionCounts;
+    private boolean areSessionCountsStale;
+
+    /**
+     * Creates a {@code SnapshotTracker} that follows {@code addressBook} and {@code weeklySessions}.
+     *
+     * @param onChange Run after every change has been tracked, e.g. to take and publish a new snapshot.
+     */
+    public SnapshotTracker(ReadOnlyAddressBook addressBook, WeeklySessions weeklySessions, Runnable onChange) {
+        requireAllNonNull(addressBook, weeklySessions, onChange);
+        this.weeklySessions = weeklySessions;
+        this.onChange = onChange;
+        persons = PersistentList.copyOf(addressBook.getPersonList());
+        sessionCounts = AddressBookSnapshot.copySessionCounts(weeklySessions);
+
+        addressBook.getPersonList().addListener(this);
+        weeklySessions.getSessionCounts().addListener((Observable observable) -> {
+            areSessionCountsStale = true;
+            onChange.run();
+        });
+    }
+
+    /**
+     * Returns a snapshot of the address book as it is now.
+     */
+    public AddressBookSnapshot snapshot() {
+        if (areSessionCountsStale) {
+            sessionCounts = AddressBookSnapshot.copySessionCounts(weeklySessions);
+            areSessionCountsStale = false;
+        }
+        return new AddressBookSnapshot(persons, sessionCounts);
+    }
+
+    /**
+     * Replays {@code change} of the person list onto the persistent copy.
+     */
+    @Override
+    public void onChanged(Change<? extends Person> change) {
+        if (isCheaperToRebuild(change)) {
+            persons = PersistentList.copyOf(change.getList());
+        } else {
+            change.reset();
+            while (change.next()) {
+                persons = apply(persons, change);
+            }
+        }
+        onChange.run();
+    }
+
+    /**
+     * Returns true if copying the whole list is cheaper than replaying {@code change}, as when the list is replaced
+     * or sorted. Replaying k changes costs about k log n, while copying costs n.
+     */
+    private boolean isCheaperToRebuild(Change<? extends Person> change) {
+        int size = change.getList().size();
+        int logSize = Integer.SIZE - Integer.numberOfLeadingZeros(size);
+        long replayCost = 0;
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                return true;
+            }
+            replayCost += (long) (change.getRemovedSize() + change.getAddedSize()) * logSize;
+        }
+        return replayCost > size;
+    }
+
+    private static PersistentList<Person> apply(PersistentList<Person> persons, Change<? extends Person> change) {
+        int from = change.getFrom();
+        List<? extends Person> added = change.getAddedSubList();
+        if (change.wasReplaced() && change.getRemovedSize() == added.size()) {
+            for (int i = 0; i < added.size(); i++) {
+                persons = persons.withSet(from + i, added.get(i));
+            }
+            return persons;
+        }
+
+        for (int i = 0; i < change.getRemovedSize(); i++) {
+            persons = persons.withRemoved(from);
+        }
+        for (int i = 0; i < added.size(); i++) {
+            persons = persons.withAdded(from + i, added.get(i));
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,251 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.MapChangeListener;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
+
+/**
+ * Records the changes made to an address book, one step per command, so that the steps can be undone and redone.
+ *
+ * Each step keeps only what its command changed: the persons it replaced or removed, with their positions, and the
+ * attendee counts it changed. Its memory is proportional to the change, not to the address book. Steps are undone by
+ * restoring those, in reverse order, through the same list and map the rest of the app observes, so the person list,
+ * the weekly sessions and everything following them stay in step. Undoing a step records the changes it makes as the
+ * step that redoes it.
+ *
+ * Each step also remembers the filter shown before and after its command, which undoing and redoing brings back.
+ */
+public class UndoHistory {
+    /** The number of steps that can be undone; older steps are forgotten. */
+    public static final int MAX_STEPS = 100;
+
+    private final AddressBook addressBook;
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private List<Edit> pendingEdits = new ArrayList<>();
+    private Predicate<? super Person> committedFilter;
+
+    /**
+     * Creates an {@code UndoHistory} that records the changes made to {@code addressBook} from now on.
+     *
+     * @param filter The filter shown now.
+     */
+    public UndoHistory(AddressBook addressBook, Predicate<? super Person> filter) {
+        requireAllNonNull(addressBook, filter);
+        this.addressBook = addressBook;
+        this.committedFilter = filter;
+        addressBook.getPersonList().addListener(this::recordPersonsChange);
+        addressBook.getWeeklySessions().getSessionCounts().addListener(this::recordSessionCountChange);
+    }
+
+    /**
+     * Ends the current step. The changes made since the last commit, if any, become a step that can be undone, and
+     * the steps that could be redone are forgotten.
+     *
+     * @param filter The filter shown now, at the end of the step.
+     */
+    public void commit(Predicate<? super Person> filter) {
+        if (!pendingEdits.isEmpty()) {
+            push(undoSteps, new Step(pendingEdits, committedFilter, filter));
+            redoSteps.clear();
+            pendingEdits = new ArrayList<>();
+        }
+        committedFilter = filter;
+    }
+
+    /**
+     * Forgets every step, and the changes made since the last commit, so that the address book as it is now is the
+     * earliest state that can be undone to.
+     *
+     * @param filter The filter shown now.
+     */
+    public void clear(Predicate<? super Person> filter) {
+        undoSteps.clear();
+        redoSteps.clear();
+        pendingEdits = new ArrayList<>();
+        committedFilter = filter;
+    }
+
+    public boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Undoes the last step. Must be called right after a commit, and only if {@link #canUndo()}.
+     *
+     * @return the filter shown before the step.
+     */
+    public Predicate<? super Person> undo() {
+        Step step = undoSteps.pop();
+        push(redoSteps, revert(step));
+        return step.filterBefore;
+    }
+
+    /**
+     * Redoes the last undone step. Must be called right after a commit, and only if {@link #canRedo()}.
+     *
+     * @return the filter shown after the step.
+     */
+    public Predicate<? super Person> redo() {
+        Step step = redoSteps.pop();
+        push(undoSteps, revert(step));
+        return step.filterBefore;
+    }
+
+    /**
+     * Reverts the edits of {@code step} in reverse order, and returns the step that reverts that in turn.
+     */
+    private Step revert(Step step) {
+        assert pendingEdits.isEmpty() : "Changes since the last commit would be lost";
+        for (int i = step.edits.size() - 1; i >= 0; i--) {
+            step.edits.get(i).revert(addressBook);
+        }
+        Step inverse = new Step(pendingEdits, step.filterAfter, step.filterBefore);
+        pendingEdits = new ArrayList<>();
+        committedFilter = inverse.filterAfter;
+        return inverse;
+    }
+
+    private static void push(Deque<Step> steps, Step step) {
+        steps.push(step);
+        if (steps.size() > MAX_STEPS) {
+            steps.removeLast();
+        }
+    }
+
+    private void recordPersonsChange(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                // The person now at index getPermutation(i) used to be at index i
+                List<Person> previous = new ArrayList<>();
+                for (int i = from; i < change.getTo(); i++) {
+                    previous.add(change.getList().get(change.getPermutation(i)));
+                }
+                recordReplaced(from, previous, change.getList().subList(from, change.getTo()));
+            } else if (change.getRemovedSize() == change.getAddedSize()) {
+                recordReplaced(from, change.getRemoved(), change.getAddedSubList());
+            } else {
+                pendingEdits.add(new PersonsEdit(from, from + change.getAddedSize(),
+                        List.copyOf(change.getRemoved())));
+            }
+        }
+    }
+
+    /**
+     * Records the persons in {@code previous} that differ from the ones that replaced them, which is often only a few
+     * of them when the whole list is replaced, as when the data file is loaded again.
+     */
+    private void recordReplaced(int from, List<? extends Person> previous, List<? extends Person> current) {
+        List<Integer> indexes = new ArrayList<>();
+        List<Person> replaced = new ArrayList<>();
+        for (int i = 0; i < previous.size(); i++) {
+            if (!previous.get(i).equals(current.get(i))) {
+                indexes.add(from + i);
+                replaced.add(previous.get(i));
+            }
+        }
+        if (!indexes.isEmpty()) {
+            pendingEdits.add(new ReplacedPersonsEdit(indexes, replaced));
+        }
+    }
+
+    private void recordSessionCountChange(MapChangeListener.Change<? extends Session, ? extends Integer> change) {
+        int previousCount = change.wasRemoved() ? change.getValueRemoved() : 0;
+        pendingEdits.add(new SessionCountEdit(change.getKey(), previousCount));
+    }
+
+    /**
+     * The changes made by one command, and the filters shown before and after it.
+     */
+    private static class Step {
+        private final List<Edit> edits;
+        private final Predicate<? super Person> filterBefore;
+        private final Predicate<? super Person> filterAfter;
+
+        private Step(List<Edit> edits, Predicate<? super Person> filterBefore, Predicate<? super Person> filterAfter) {
+            this.edits = edits;
+            this.filterBefore = filterBefore;
+            this.filterAfter = filterAfter;
+        }
+    }
+
+    /**
+     * A change to the address book that knows how to put back what it changed.
+     */
+    private interface Edit {
+        void revert(AddressBook addressBook);
+    }
+
+    /**
+     * Persons {@code from} (inclusive) to {@code to} (exclusive) were added in place of {@code removed}.
+     */
+    private static class PersonsEdit implements Edit {
+        private final int from;
+        private final int to;
+        private final List<Person> removed;
+
+        private PersonsEdit(int from, int to, List<Person> removed) {
+            this.from = from;
+            this.to = to;
+            this.removed = removed;
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            addressBook.restorePersons(from, to, removed);
+        }
+    }
+
+    /**
+     * The persons at {@code indexes} replaced {@code replaced}, one for one.
+     */
+    private static class ReplacedPersonsEdit implements Edit {
+        private final List<Integer> indexes;
+        private final List<Person> replaced;
+
+        private ReplacedPersonsEdit(List<Integer> indexes, List<Person> replaced) {
+            this.indexes = indexes;
+            this.replaced = replaced;
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            for (int i = 0; i < indexes.size(); i++) {
+                int index = indexes.get(i);
+                addressBook.restorePersons(index, index + 1, List.of(replaced.get(i)));
+            }
+        }
+    }
+
+    /**
+     * The number of people attending {@code session} changed from {@code previousCount}.
+     */
+    private static class SessionCountEdit implements Edit {
+        private final Session session;
+        private final int previousCount;
+
+        private SessionCountEdit(Session session, int previousCount) {
+            this.session = session;
+            this.previousCount = previousCount;
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            addressBook.getWeeklySessions().setAttendeeCount(session, previousCount);
+        }
+    }
+}
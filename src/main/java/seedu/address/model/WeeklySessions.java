@@ -2,15 +2,19 @@ package seedu.address.model;
 
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeSet;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableMap;
 import seedu.address.model.person.Session;
 
 /**
@@ -32,7 +36,8 @@ public class WeeklySessions {
     private static final DayOfWeek END_OF_WEEK = DayOfWeek.SUNDAY;
 
     private TreeSet<Session> weeklySessions;
-    private Map<Session, Integer> sessionCounts;
+    private ObservableMap<Session, Integer> sessionCounts;
+    private ObservableMap<Session, Integer> sessionCountsUnmodifiable;
 
     /**
      * Comparator for ordering sessions by day of week and time.
@@ -54,7 +59,8 @@ public class WeeklySessions {
      */
     public WeeklySessions() {
         weeklySessions = new TreeSet<>(new SessionComparator());
-        sessionCounts = new HashMap<>();
+        sessionCounts = FXCollections.observableHashMap();
+        sessionCountsUnmodifiable = FXCollections.unmodifiableObservableMap(sessionCounts);
     }
 
     /**
@@ -91,6 +97,38 @@ public class WeeklySessions {
         }
     }
 
+    /**
+     * Returns the number of people attending {@code session}, or 0 if it is not in the weekly schedule.
+     */
+    public int getAttendeeCount(Session session) {
+        requireNonNull(session);
+        return sessionCounts.getOrDefault(session, 0);
+    }
+
+    /**
+     * Sets the number of people attending {@code session} to {@code count}, removing it if {@code count} is 0, to
+     * restore an earlier state of the weekly sessions or bring in a later one.
+     */
+    void setAttendeeCount(Session session, int count) {
+        requireNonNull(session);
+        if (count > 0) {
+            weeklySessions.add(session);
+            sessionCounts.put(session, count);
+        } else if (sessionCounts.containsKey(session)) {
+            weeklySessions.remove(session);
+            sessionCounts.remove(session);
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the number of people attending each session.
+     * Listeners are told about every session whose attendee count changes, and that view is never replaced,
+     * so it stays valid after {@link #set(WeeklySessions)}.
+     */
+    public ObservableMap<Session, Integer> getSessionCounts() {
+        return sessionCountsUnmodifiable;
+    }
+
     /**
      * Finds the earliest available time slot in the week that can accommodate the given duration.
      * Searches from Monday 08:00 onwards, checking for conflicts with existing sessions.
@@ -99,13 +137,23 @@ public class WeeklySessions {
      * @return A formatted string indicating the earliest free time slot, or "No free time" if none available.
      */
     public String getEarliestFreeTime(int duration) {
+        return findEarliestFreeTime(weeklySessions, duration);
+    }
+
+    /**
+     * Finds the earliest available time slot of {@code duration} hours in the week around {@code sortedSessions},
+     * which must be sorted by day and time.
+     *
+     * @see #getEarliestFreeTime(int)
+     */
+    static String findEarliestFreeTime(Iterable<Session> sortedSessions, int duration) {
         DayOfWeek currentDay = START_OF_WEEK;
 
         while (currentDay.getValue() <= END_OF_WEEK.getValue()) {
             LocalTime candidateStart = EARLIEST_START;
             LocalTime candidateEnd = candidateStart.plusHours(duration);
 
-            for (Session session : weeklySessions) {
+            for (Session session : sortedSessions) {
                 // Sessions are sorted - if we hit a later day, we're done with current day
                 if (session.getDayOfWeek().getValue() > currentDay.getValue()) {
                     break;
@@ -147,7 +195,7 @@ public class WeeklySessions {
      * @param end The end time of the slot.
      * @return true if the slot fits within the day, false otherwise.
      */
-    private boolean fitsInDay(LocalTime start, LocalTime end) {
+    private static boolean fitsInDay(LocalTime start, LocalTime end) {
         return !end.isAfter(LATEST_END) && !end.isBefore(start);
     }
 
@@ -158,7 +206,7 @@ public class WeeklySessions {
      * @param time The start time.
      * @return A formatted string describing the free time slot.
      */
-    private String formatResult(DayOfWeek day, LocalTime time) {
+    private static String formatResult(DayOfWeek day, LocalTime time) {
         return day.toString() + " " + time.toString();
     }
 
@@ -198,6 +246,37 @@ public class WeeklySessions {
 
     }
 
+    /**
+     * Removes every session in {@code sessions} from the weekly sessions, once for each time it appears.
+     * The attendee count of each distinct session is only updated once, however many times it appears.
+     *
+     * @param sessions The sessions to remove.
+     * @throws IllegalArgumentException if any session does not exist in the weekly sessions as many times as it
+     *     appears in {@code sessions}, in which case nothing is removed.
+     */
+    public void removeAll(Collection<Session> sessions) {
+        requireAllNonNull(sessions);
+        Map<Session, Integer> removedCounts = new HashMap<>();
+        for (Session session : sessions) {
+            removedCounts.merge(session, 1, Integer::sum);
+        }
+        for (Map.Entry<Session, Integer> entry : removedCounts.entrySet()) {
+            if (entry.getValue() > getAttendeeCount(entry.getKey())) {
+                throw new IllegalArgumentException("Session does not exist in weekly sessions");
+            }
+        }
+
+        removedCounts.forEach((session, removedCount) -> {
+            int participantCount = sessionCounts.get(session) - removedCount;
+            if (participantCount == 0) {
+                weeklySessions.remove(session);
+                sessionCounts.remove(session);
+            } else {
+                sessionCounts.put(session, participantCount);
+            }
+        });
+    }
+
     /**
      * Returns true if both WeeklySessions have the same set of sessions.
      * This defines a weaker notion of equality between two WeeklySessions.
@@ -76,7 +76,8 @@ public class Email {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        // consistent with equals, which ignores case
+        return value.toLowerCase().hashCode();
     }
 
 }
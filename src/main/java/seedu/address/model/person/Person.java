@@ -2,13 +2,19 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.SessionTag;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.subject.Subject;
 
 /**
  * Represents a Person in the address book.
@@ -27,18 +33,17 @@ public class Person {
     private final Set<Tag> tags = new HashSet<>();
     private final Payment payment;
 
+    // Views of the tag set, split by kind once at construction so callers need not re-partition tags
+    private final Set<Subject> subjects = EnumSet.noneOf(Subject.class);
+    private final long subjectMask;
+    private final List<Tag> subjectTags;
+    private final List<SessionTag> sessionTags;
+
     /**
      * Every field must be present and not null.
      */
     public Person(Name name, StudyYear studyYear, Phone phone, Email email, Address address, Set<Tag> tags) {
-        requireAllNonNull(name, studyYear, phone, email, address, tags);
-        this.name = name;
-        this.studyYear = studyYear;
-        this.phone = phone;
-        this.email = email;
-        this.address = address;
-        this.tags.addAll(tags);
-        this.payment = new Payment("PENDING"); // Default payment status
+        this(name, studyYear, phone, email, address, tags, new Payment("PENDING")); // Default payment status
     }
 
     /**
@@ -55,6 +60,27 @@ public class Person {
         this.address = address;
         this.tags.addAll(tags);
         this.payment = payment;
+
+        List<Tag> subjectTags = new ArrayList<>();
+        List<SessionTag> sessionTags = new ArrayList<>();
+        long subjectMask = 0;
+        for (Tag tag : this.tags) {
+            if (tag.isSessionTag()) {
+                sessionTags.add((SessionTag) tag);
+                continue;
+            }
+            subjectTags.add(tag);
+            Subject subject = Subject.of(tag.tagName);
+            if (subject != null) {
+                subjects.add(subject);
+                subjectMask |= subject.mask();
+            }
+        }
+        subjectTags.sort(Comparator.comparing(tag -> tag.tagName));
+        sessionTags.sort(Comparator.comparing(SessionTag::getSession));
+        this.subjectMask = subjectMask;
+        this.subjectTags = Collections.unmodifiableList(subjectTags);
+        this.sessionTags = Collections.unmodifiableList(sessionTags);
     }
 
     public Name getName() {
@@ -85,6 +111,52 @@ public class Person {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns the subjects taken by this person, as an immutable set in {@code Subject} declaration order.
+     */
+    public Set<Subject> getSubjects() {
+        return Collections.unmodifiableSet(subjects);
+    }
+
+    /**
+     * Returns the subjects taken by this person packed into a bitmask of {@link Subject#mask()} bits.
+     */
+    public long getSubjectMask() {
+        return subjectMask;
+    }
+
+    /**
+     * Returns true if this person takes {@code subject}.
+     */
+    public boolean hasSubject(Subject subject) {
+        return (subjectMask & subject.mask()) != 0;
+    }
+
+    /**
+     * Returns the non-session tags of this person as an immutable list sorted by tag name.
+     */
+    public List<Tag> getSubjectTags() {
+        return subjectTags;
+    }
+
+    /**
+     * Returns the session tags of this person as an immutable list in chronological order.
+     */
+    public List<SessionTag> getSessionTags() {
+        return sessionTags;
+    }
+
+    /**
+     * Returns the sessions attended by this person in chronological order.
+     */
+    public List<Session> getSessions() {
+        List<Session> sessions = new ArrayList<>(sessionTags.size());
+        for (SessionTag sessionTag : sessionTags) {
+            sessions.add(sessionTag.getSession());
+        }
+        return sessions;
+    }
+
     public Payment getPayment() {
         return payment;
     }
@@ -3,10 +3,18 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicateContactException;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -19,22 +27,26 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. Duplicate checks are answered from hash indexes of the identity, phone
+ * and email of every person, so they take constant time regardless of the size of the list.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final PersonList internalList = new PersonList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<List<Object>, Person> personsByIdentity = new HashMap<>();
+    private final Map<Phone, Integer> phoneCounts = new HashMap<>();
+    private final Map<Email, Integer> emailCounts = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByIdentity.containsKey(identityOf(toCheck));
     }
 
     /**
@@ -42,8 +54,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean contactPresent(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream()
-                .anyMatch(person -> toCheck.hasSameEmail(person) || toCheck.hasSameNumber(person));
+        return phoneCounts.containsKey(toCheck.getPhone()) || emailCounts.containsKey(toCheck.getEmail());
     }
 
     /**
@@ -52,10 +63,13 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean contactPresentExcluding(Person toCheck, Person toExclude) {
         requireAllNonNull(toCheck, toExclude);
-        return internalList.stream()
-                .filter(person -> !person.equals(toExclude))
-                .anyMatch(person -> toCheck.hasSameEmail(person) || toCheck.hasSameNumber(person));
+        boolean isExcludedPresent = toExclude.equals(personsByIdentity.get(identityOf(toExclude)));
+        int excludedSamePhone = isExcludedPresent && toCheck.hasSameNumber(toExclude) ? 1 : 0;
+        int excludedSameEmail = isExcludedPresent && toCheck.hasSameEmail(toExclude) ? 1 : 0;
+        return phoneCounts.getOrDefault(toCheck.getPhone(), 0) > excludedSamePhone
+                || emailCounts.getOrDefault(toCheck.getEmail(), 0) > excludedSameEmail;
     }
+
     /**
      * Adds a person to the list.
      * The person must not already exist in the list.
@@ -68,9 +82,41 @@ public class UniquePersonList implements Iterable<Person> {
         if (contactPresent(toAdd)) {
             throw new DuplicateContactException();
         }
+        index(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds every person in {@code toAdd} to the end of the list, as a single change to the list.
+     * The persons must not clash in identity or contact details with one another or with the persons in the list.
+     * If any of them does, the list is left unchanged.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        if (toAdd.isEmpty()) {
+            return;
+        }
+
+        List<Person> indexedPersons = new ArrayList<>();
+        try {
+            for (Person person : toAdd) {
+                if (contains(person)) {
+                    throw new DuplicatePersonException();
+                }
+                if (contactPresent(person)) {
+                    throw new DuplicateContactException();
+                }
+                index(person);
+                indexedPersons.add(person);
+            }
+        } catch (DuplicatePersonException | DuplicateContactException e) {
+            indexedPersons.forEach(this::unindex);
+            throw e;
+        }
+
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -89,14 +135,12 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         // Check for duplicate contacts, but exclude the target person being edited
-        boolean hasDuplicateContact = internalList.stream()
-                .filter(person -> !person.equals(target))
-                .anyMatch(person -> editedPerson.hasSameEmail(person) || editedPerson.hasSameNumber(person));
-
-        if (hasDuplicateContact) {
+        if (contactPresentExcluding(editedPerson, target)) {
             throw new DuplicateContactException();
         }
 
+        unindex(target);
+        index(editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -109,10 +153,97 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        unindex(toRemove);
+    }
+
+    /**
+     * Replaces every person that is a key of {@code edits} with the person it maps to, as a single change to the list
+     * that replaces only the edited persons.
+     * Every key must exist in the list. The edited persons must not clash in identity or contact details with one
+     * another or with the persons that are not edited. If any of them does, the list is left unchanged.
+     */
+    public void setPersons(Map<Person, Person> edits) {
+        requireAllNonNull(edits.keySet());
+        requireAllNonNull(edits.values());
+        if (edits.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, Person> replacements = new LinkedHashMap<>();
+        for (int i = 0; i < internalList.size(); i++) {
+            Person editedPerson = edits.get(internalList.get(i));
+            if (editedPerson != null) {
+                replacements.put(i, editedPerson);
+            }
+        }
+        if (replacements.size() < edits.size()) {
+            throw new PersonNotFoundException();
+        }
+
+        edits.keySet().forEach(this::unindex);
+        List<Person> indexedPersons = new ArrayList<>();
+        try {
+            for (Person editedPerson : edits.values()) {
+                if (contains(editedPerson)) {
+                    throw new DuplicatePersonException();
+                }
+                if (contactPresent(editedPerson)) {
+                    throw new DuplicateContactException();
+                }
+                index(editedPerson);
+                indexedPersons.add(editedPerson);
+            }
+        } catch (DuplicatePersonException | DuplicateContactException e) {
+            indexedPersons.forEach(this::unindex);
+            edits.keySet().forEach(this::index);
+            throw e;
+        }
+
+        internalList.setEach(replacements);
+    }
+
+    /**
+     * Removes every person in {@code toRemove} from the list, as a single change to the list.
+     * Every person must exist in the list; if any does not, the list is left unchanged.
+     */
+    public void removePersons(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Person> personsToRemove = new HashSet<>(toRemove);
+        for (Person person : personsToRemove) {
+            if (!person.equals(personsByIdentity.get(identityOf(person)))) {
+                throw new PersonNotFoundException();
+            }
+        }
+
+        internalList.removeAll(personsToRemove);
+        personsToRemove.forEach(this::unindex);
+    }
+
+    /**
+     * Replaces the persons from index {@code from} (inclusive) to {@code to} (exclusive) with {@code persons},
+     * without checking them for duplicates. Only for restoring the list to an earlier state, in which the persons
+     * were known to be unique.
+     */
+    public void restorePersons(int from, int to, List<Person> persons) {
+        requireAllNonNull(persons);
+        List<Person> replaced = internalList.subList(from, to);
+        replaced.forEach(this::unindex);
+        persons.forEach(this::index);
+        if (persons.size() == replaced.size()) {
+            for (int i = 0; i < persons.size(); i++) {
+                internalList.set(from + i, persons.get(i));
+            }
+            return;
+        }
+        if (to > from) {
+            internalList.remove(from, to);
+        }
+        internalList.addAll(from, persons);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        reindex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -126,6 +257,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        reindex(persons);
         internalList.setAll(persons);
     }
 
@@ -170,13 +302,125 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
+        Set<List<Object>> identities = new HashSet<>();
+        for (Person person : persons) {
+            if (!identities.add(identityOf(person))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void index(Person person) {
+        personsByIdentity.put(identityOf(person), person);
+        phoneCounts.merge(person.getPhone(), 1, Integer::sum);
+        emailCounts.merge(person.getEmail(), 1, Integer::sum);
+    }
+
+    private void unindex(Person person) {
+        // Only if it is still this person's, as restoring persons may index another with its identity first
+        personsByIdentity.remove(identityOf(person), person);
+        phoneCounts.computeIfPresent(person.getPhone(), (phone, count) -> count == 1 ? null : count - 1);
+        emailCounts.computeIfPresent(person.getEmail(), (email, count) -> count == 1 ? null : count - 1);
+    }
+
+    private void reindex(List<Person> persons) {
+        personsByIdentity.clear();
+        phoneCounts.clear();
+        emailCounts.clear();
+        persons.forEach(this::index);
+    }
+
+    /**
+     * Returns the identity fields of {@code person}, which are equal for persons that are
+     * {@link Person#isSamePerson(Person) the same person}, for use as a key.
+     */
+    public static List<Object> identityOf(Person person) {
+        return List.of(person.getName(), person.getStudyYear(), person.getPhone(), person.getEmail(),
+                person.getAddress());
+    }
+
+    /**
+     * The observable list of persons behind a {@code UniquePersonList}. Unlike the list returned by
+     * {@link FXCollections#observableArrayList()}, it can replace persons at many indexes as a single change, and it
+     * still removes many persons, or a range of them, in one pass over the list.
+     */
+    private static class PersonList extends ModifiableObservableListBase<Person> {
+        private List<Person> persons = new ArrayList<>();
+
+        /**
+         * Replaces the person at each index of {@code replacements} with the person it maps to, as a single change.
+         */
+        void setEach(Map<Integer, Person> replacements) {
+            beginChange();
+            try {
+                replacements.forEach(this::set);
+            } finally {
+                endChange();
+            }
+        }
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> toRemove) {
+            beginChange();
+            try {
+                List<Person> kept = new ArrayList<>(persons.size());
+                for (Person person : persons) {
+                    if (toRemove.contains(person)) {
+                        nextRemove(kept.size(), person);
+                    } else {
+                        kept.add(person);
+                    }
+                }
+                if (kept.size() == persons.size()) {
                     return false;
                 }
+                persons = kept;
+                modCount++;
+                return true;
+            } finally {
+                endChange();
             }
         }
-        return true;
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            beginChange();
+            try {
+                List<Person> removed = persons.subList(fromIndex, toIndex);
+                nextRemove(fromIndex, new ArrayList<>(removed));
+                removed.clear();
+                modCount++;
+            } finally {
+                endChange();
+            }
+        }
+
+        @Override
+        protected void doAdd(int index, Person element) {
+            persons.add(index, element);
+            modCount++;
+        }
+
+        @Override
+        protected Person doSet(int index, Person element) {
+            return persons.set(index, element);
+        }
+
+        @Override
+        protected Person doRemove(int index) {
+            modCount++;
+            return persons.remove(index);
+        }
     }
 }
@@ -8,6 +8,13 @@ public enum Subject {
     HIST, GEOG, LIT, CHI, MALAY, TAMIL,
     POA, ECONS, ART, MUSIC, COMSCI;
 
+    /**
+     * Returns the single-bit mask of this subject, for packing a set of subjects into a {@code long}.
+     */
+    public long mask() {
+        return 1L << ordinal();
+    }
+
     /**
      * Parses a string to a Subject (case-insensitive, trims).
      * Returns null if not a valid subject.
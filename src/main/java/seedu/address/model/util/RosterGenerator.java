@@ -0,0 +1,176 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Payment;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.StudyYear;
+import seedu.address.model.tag.SessionTag;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.subject.Subject;
+
+/**
+ * Generates large rosters of valid students for benchmarks, soak tests and manual checks of the UI.
+ *
+ * The same seed always produces the same roster, and the student at a given index does not depend on the roster size,
+ * so a roster of 10,000 students is a prefix of a roster of 1,000,000 students with the same seed.
+ * Students never clash with one another: every phone number and email is unique. Sessions are drawn from a fixed grid
+ * of slots within 0800 to 2200 that never overlap, so two students either share a session or have disjoint ones.
+ */
+public class RosterGenerator {
+    public static final int MAX_ROSTER_SIZE = 10_000_000;
+    public static final String MESSAGE_INVALID_SIZE = "Roster size must be between 0 and " + MAX_ROSTER_SIZE;
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ling", "Jun Jie", "Siti", "Arjun",
+        "Priya", "Ethan", "Chloe", "Muhammad", "Nurul", "Ryan", "Hui Min", "Kumar", "Grace", "Marcus"
+    };
+    private static final String[] LAST_NAMES = {
+        "Tan", "Lim", "Lee", "Ng", "Wong", "Goh", "Chua", "Koh", "Teo", "Ong",
+        "Yeoh", "Ibrahim", "Balakrishnan", "Rahman", "Pillai", "Oliveiro", "Li", "Yu", "Chen", "Singh"
+    };
+    private static final String[] STREETS = {
+        "Geylang Street 29", "Lorong 3 Serangoon Gardens", "Ang Mo Kio Street 74", "Tampines Street 20",
+        "Aljunied Street 85", "Clementi Avenue 3", "Bedok North Road", "Jurong West Street 42", "Woodlands Drive 16"
+    };
+    private static final String[] EMAIL_DOMAINS = {"example.com", "mail.example.com", "school.example.edu"};
+    private static final char[] PHONE_PREFIXES = {'8', '9', '6'};
+
+    /** Study years weighted towards secondary school, where most tuition students are. */
+    private static final String[] STUDY_YEARS = {
+        "PRI1", "PRI2", "PRI3", "PRI4", "PRI4", "PRI5", "PRI5", "PRI6", "PRI6", "PRI6",
+        "SEC1", "SEC1", "SEC2", "SEC2", "SEC3", "SEC3", "SEC3", "SEC4", "SEC4", "SEC4", "SEC4", "SEC5",
+        "JC1", "JC1", "JC2", "JC2", "JC2", "POLY1", "POLY2", "POLY3", "UNI1", "UNI2", "UNI3", "UNI4", "UNI5"
+    };
+
+    /** Subjects weighted towards the core subjects. */
+    private static final Subject[] SUBJECTS = {
+        Subject.MATH, Subject.MATH, Subject.MATH, Subject.MATH, Subject.ENG, Subject.ENG, Subject.ENG,
+        Subject.SCI, Subject.SCI, Subject.PHY, Subject.PHY, Subject.CHEM, Subject.CHEM, Subject.BIO,
+        Subject.HIST, Subject.GEOG, Subject.LIT, Subject.CHI, Subject.CHI, Subject.MALAY, Subject.TAMIL,
+        Subject.POA, Subject.ECONS, Subject.ART, Subject.MUSIC, Subject.COMSCI
+    };
+
+    /** Payment statuses weighted 60% paid, 30% pending and 10% overdue. */
+    private static final String[] PAYMENT_STATUSES = {
+        "PAID", "PAID", "PAID", "PAID", "PAID", "PAID", "PENDING", "PENDING", "PENDING", "OVERDUE"
+    };
+
+    private static final int SESSION_LENGTH_MINUTES = 90;
+
+    /** Session slots: weekday lessons after school, weekend lessons all day. */
+    private static final List<Session> SESSION_SLOTS = createSessionSlots();
+
+    private final long seed;
+
+    /**
+     * Creates a generator whose rosters are fully determined by {@code seed}.
+     */
+    public RosterGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the student at {@code index} of the roster.
+     * The result only depends on the seed and {@code index}.
+     */
+    public Person generatePerson(int index) {
+        checkArgument(index >= 0 && index < MAX_ROSTER_SIZE, MESSAGE_INVALID_SIZE);
+        SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + index);
+
+        String firstName = pick(random, FIRST_NAMES);
+        String lastName = pick(random, LAST_NAMES);
+        Name name = new Name(firstName + " " + lastName);
+        StudyYear studyYear = new StudyYear(pick(random, STUDY_YEARS));
+        // The index makes every phone number and email unique
+        Phone phone = new Phone(PHONE_PREFIXES[random.nextInt(PHONE_PREFIXES.length)] + String.format("%07d", index));
+        Email email = new Email(toEmailLocalPart(firstName) + "." + toEmailLocalPart(lastName) + index
+                + "@" + pick(random, EMAIL_DOMAINS));
+        Address address = new Address("Blk " + (random.nextInt(999) + 1) + " " + pick(random, STREETS)
+                + ", #" + String.format("%02d-%02d", random.nextInt(25) + 1, random.nextInt(99) + 1));
+
+        Set<Tag> tags = new HashSet<>();
+        int subjectCount = 1 + random.nextInt(3);
+        while (tags.size() < subjectCount) {
+            tags.add(new Tag(pick(random, SUBJECTS).name()));
+        }
+        int sessionCount = random.nextInt(3);
+        for (int i = 0; i < sessionCount; i++) {
+            Session session = pick(random, SESSION_SLOTS);
+            tags.add(new SessionTag(session.toString(), session));
+        }
+
+        return new Person(name, studyYear, phone, email, address, tags, generatePayment(random));
+    }
+
+    /**
+     * Returns the first {@code size} students of the roster.
+     */
+    public List<Person> generatePersons(int size) {
+        checkArgument(size >= 0 && size <= MAX_ROSTER_SIZE, MESSAGE_INVALID_SIZE);
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(generatePerson(i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book of the first {@code size} students of the roster, with their sessions scheduled.
+     */
+    public AddressBook generateAddressBook(int size) {
+        AddressBook addressBook = new AddressBook();
+        List<Person> persons = generatePersons(size);
+        addressBook.setPersons(persons);
+        persons.forEach(person -> person.getSessions().forEach(addressBook::addSession));
+        return addressBook;
+    }
+
+    private Payment generatePayment(SplittableRandom random) {
+        String status = pick(random, PAYMENT_STATUSES);
+        // Most tutors bill on the 1st; the rest spread over the month, including the short-month edge days
+        int billingStartDay = random.nextInt(2) == 0 ? Payment.DEFAULT_BILLING_START_DAY : 1 + random.nextInt(31);
+        return new Payment(status, billingStartDay);
+    }
+
+    private static <T> T pick(SplittableRandom random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static <T> T pick(SplittableRandom random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static String toEmailLocalPart(String namePart) {
+        return namePart.toLowerCase().replace(" ", "");
+    }
+
+    private static List<Session> createSessionSlots() {
+        List<Session> slots = new ArrayList<>();
+        for (String day : Session.DAY_OF_WEEKS) {
+            boolean isWeekend = day.equals("SAT") || day.equals("SUN");
+            int firstStart = (isWeekend ? 8 : 14) * 60;
+            for (int start = firstStart; start + SESSION_LENGTH_MINUTES <= 22 * 60;
+                    start += SESSION_LENGTH_MINUTES) {
+                slots.add(new Session(day, toHhmm(start), toHhmm(start + SESSION_LENGTH_MINUTES)));
+            }
+        }
+        return List.copyOf(slots);
+    }
+
+    private static String toHhmm(int minutes) {
+        return String.format("%02d%02d", minutes / 60, minutes % 60);
+    }
+}
@@ -75,11 +75,7 @@ public class SampleDataUtil {
     public static ReadOnlyAddressBook getSampleAddressBook() {
         AddressBook sampleAb = new AddressBook();
         for (Person samplePerson : getSamplePersons()) {
-            for (Tag tag : samplePerson.getTags()) {
-                if (tag.isSessionTag()) {
-                    sampleAb.addSession(((SessionTag) tag).getSession());
-                }
-            }
+            samplePerson.getSessions().forEach(sampleAb::addSession);
             sampleAb.addPerson(samplePerson);
         }
         return sampleAb;
@@ -0,0 +1,401 @@
+package seedu.address.server;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandExecutionService;
+import seedu.address.logic.CommandMetrics;
+import seedu.address.logic.Logic;
+import seedu.address.logic.ScriptRunner;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FreeCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
+import seedu.address.storage.JsonAdaptedPerson;
+
+/**
+ * Serves the address book to other programs on this computer over HTTP, with JSON responses.
+ *
+ * Reads are answered from the latest {@link AddressBookSnapshot}, so any number of them run at once without waiting
+ * for commands. Writes are commands, which are submitted to the same {@link CommandExecutionService} as the ones
+ * typed into the window, so they are executed and saved one at a time in the order they arrive. Requests are handled
+ * on a pool of threads, and no thread waits for a command to finish: its response is sent when its result arrives.
+ *
+ * Only this computer can connect, but so can any web page open in a browser on it. Requests must therefore name this
+ * server in their {@code Host} header, which a page that rebinds its own name to this computer cannot do, and must not
+ * carry an {@code Origin} header, which browsers add to requests made by pages. Commands must also carry the token
+ * made for each server in an {@code Authorization: Bearer TOKEN} header.
+ *
+ * Commands pick persons by their index in the list the window shows when they run, as if typed into the window.
+ * Commands that only change that list are refused.
+ *
+ * <ul>
+ *     <li>{@code GET /api/persons}, optionally with {@code ?q=KEYWORDS} to find persons by name</li>
+ *     <li>{@code GET /api/sessions}</li>
+ *     <li>{@code GET /api/free?hours=DURATION}</li>
+ *     <li>{@code POST /api/commands} with the command as the body</li>
+ * </ul>
+ */
+public class ApiServer {
+    public static final String PATH_PERSONS = "/api/persons";
+    public static final String PATH_SESSIONS = "/api/sessions";
+    public static final String PATH_FREE = "/api/free";
+    public static final String PATH_COMMANDS = "/api/commands";
+    public static final String PARAMETER_QUERY = "q";
+    public static final String PARAMETER_HOURS = "hours";
+    public static final String HEADER_HOST = "Host";
+    public static final String HEADER_ORIGIN = "Origin";
+    public static final String HEADER_AUTHORIZATION = "Authorization";
+    public static final String TOKEN_PREFIX = "Bearer ";
+
+    public static final String MESSAGE_NOT_FOUND = "No such endpoint.";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s is not supported here.";
+    public static final String MESSAGE_MISSING_QUERY = "The search keywords cannot be blank.";
+    public static final String MESSAGE_BUSY = "Too many commands are waiting, please try again shortly.";
+    public static final String MESSAGE_CANCELLED = "The command was cancelled before it ran.";
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED = "%1$s cannot be used through the API.";
+    public static final String MESSAGE_VIEW_COMMAND_NOT_ALLOWED =
+            "%1$s only changes the list shown in the window, use GET " + PATH_PERSONS + " instead.";
+    public static final String MESSAGE_FOREIGN_HOST = "Requests must be made to 127.0.0.1 or localhost.";
+    public static final String MESSAGE_FOREIGN_ORIGIN = "Requests from web pages are not accepted.";
+    public static final String MESSAGE_UNAUTHORIZED = "Commands need the token the API was started with.";
+
+    public static final int STATUS_OK = 200;
+    public static final int STATUS_BAD_REQUEST = 400;
+    public static final int STATUS_UNAUTHORIZED = 401;
+    public static final int STATUS_FORBIDDEN = 403;
+    public static final int STATUS_NOT_FOUND = 404;
+    public static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    public static final int STATUS_UNAVAILABLE = 503;
+
+    /** Commands waiting to run beyond this are refused, so a flood of writes cannot hold up the window's commands. */
+    static final int MAX_PENDING_COMMANDS = 256;
+
+    private static final int MAX_PORT = 65535;
+    private static final Set<String> READ_PATHS = Set.of(PATH_PERSONS, PATH_SESSIONS, PATH_FREE);
+    /** Commands that change which persons the window shows, which is not the API's to change. */
+    private static final Set<Class<? extends Command>> VIEW_COMMANDS = Set.of(FindCommand.class, ListCommand.class);
+    private static final int HANDLER_THREAD_COUNT = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+    private static final int STOP_DELAY_SECONDS = 1;
+    private static final int TOKEN_BYTES = 24;
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Logic logic;
+    private final CommandExecutionService commandExecutionService;
+    private final HttpServer server;
+    private final ExecutorService handlers;
+    private final String token;
+    private final Set<String> allowedHosts;
+
+    /**
+     * Creates an {@code ApiServer} on {@code port} of the loopback address, or on any free port if {@code port} is 0.
+     * It does not accept requests until it is started. Commands must carry a token made for this server alone.
+     *
+     * @param logic Parses the commands, which are recorded in its metrics, and supplies the latest snapshot of the
+     *     address book.
+     * @throws IOException if the port cannot be used.
+     */
+    public ApiServer(Logic logic, CommandExecutionService commandExecutionService, int port) throws IOException {
+        requireAllNonNull(logic, commandExecutionService);
+        this.logic = logic;
+        this.commandExecutionService = commandExecutionService;
+
+        // JDK 17 has no virtual threads, so requests share a fixed pool; none of them block on the model
+        handlers = Executors.newFixedThreadPool(HANDLER_THREAD_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "api-handler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(handlers);
+        server.createContext("/", this::handle);
+
+        byte[] tokenBytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(tokenBytes);
+        token = Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes);
+        allowedHosts = Set.of("127.0.0.1:" + getPort(), "localhost:" + getPort());
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("API server listening on port " + getPort() + ", commands need the token " + token);
+    }
+
+    /**
+     * Stops accepting requests, giving the ones being handled a moment to finish.
+     */
+    public void stop() {
+        server.stop(STOP_DELAY_SECONDS);
+        handlers.shutdown();
+        try {
+            handlers.awaitTermination(STOP_DELAY_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("API server stopped");
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the token that commands must carry, which is made anew for each server.
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Returns the port number in {@code port}.
+     *
+     * @throws NumberFormatException if {@code port} is not a port number from 0 to 65535.
+     */
+    public static int parsePort(String port) {
+        int portNumber = Integer.parseInt(port.strip());
+        if (portNumber < 0 || portNumber > MAX_PORT) {
+            throw new NumberFormatException("Port out of range: " + port);
+        }
+        return portNumber;
+    }
+
+    private void handle(HttpExchange exchange) {
+        try {
+            String host = exchange.getRequestHeaders().getFirst(HEADER_HOST);
+            if (host == null || !allowedHosts.contains(host.toLowerCase(Locale.ROOT))) {
+                sendError(exchange, STATUS_FORBIDDEN, MESSAGE_FOREIGN_HOST);
+                return;
+            }
+            if (exchange.getRequestHeaders().containsKey(HEADER_ORIGIN)) {
+                sendError(exchange, STATUS_FORBIDDEN, MESSAGE_FOREIGN_ORIGIN);
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            boolean isRead = READ_PATHS.contains(path);
+            if (!isRead && !path.equals(PATH_COMMANDS)) {
+                sendError(exchange, STATUS_NOT_FOUND, MESSAGE_NOT_FOUND);
+                return;
+            }
+            if (!method.equals(isRead ? "GET" : "POST")) {
+                sendError(exchange, STATUS_METHOD_NOT_ALLOWED, String.format(MESSAGE_METHOD_NOT_ALLOWED, method));
+                return;
+            }
+            if (!isRead && !hasToken(exchange)) {
+                sendError(exchange, STATUS_UNAUTHORIZED, MESSAGE_UNAUTHORIZED);
+                return;
+            }
+
+            Map<String, String> parameters = parseQuery(exchange.getRequestURI().getRawQuery());
+            switch (path) {
+            case PATH_PERSONS:
+                handlePersons(exchange, parameters, logic.getSnapshot());
+                break;
+            case PATH_SESSIONS:
+                handleSessions(exchange, logic.getSnapshot());
+                break;
+            case PATH_FREE:
+                handleFree(exchange, parameters, logic.getSnapshot());
+                break;
+            default:
+                handleCommand(exchange);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to handle API request: " + StringUtil.getDetails(e));
+            exchange.close();
+        }
+    }
+
+    /**
+     * Answers with every person in {@code snapshot}, or the ones whose names contain the keywords in the query.
+     */
+    private void handlePersons(HttpExchange exchange, Map<String, String> parameters, AddressBookSnapshot snapshot)
+            throws IOException {
+        List<Person> persons = snapshot.getPersonList();
+        if (parameters.containsKey(PARAMETER_QUERY)) {
+            String query = parameters.get(PARAMETER_QUERY).strip();
+            if (query.isEmpty()) {
+                sendError(exchange, STATUS_BAD_REQUEST, MESSAGE_MISSING_QUERY);
+                return;
+            }
+            NameContainsKeywordsPredicate predicate =
+                    new NameContainsKeywordsPredicate(Arrays.asList(query.split("\\s+")));
+            persons = persons.stream().filter(predicate).collect(Collectors.toList());
+        }
+        send(exchange, STATUS_OK, Map.of("persons",
+                persons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList())));
+    }
+
+    /**
+     * Answers with every weekly session in {@code snapshot} and its number of attendees.
+     */
+    private void handleSessions(HttpExchange exchange, AddressBookSnapshot snapshot) throws IOException {
+        send(exchange, STATUS_OK, Map.of("sessions", snapshot.getSessionCounts().entrySet().stream()
+                .map(entry -> toJson(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList())));
+    }
+
+    /**
+     * Answers with the earliest free time slot in {@code snapshot} of the number of hours in the query.
+     */
+    private void handleFree(HttpExchange exchange, Map<String, String> parameters, AddressBookSnapshot snapshot)
+            throws IOException {
+        int hours;
+        try {
+            hours = Integer.parseInt(parameters.getOrDefault(PARAMETER_HOURS, "").strip());
+        } catch (NumberFormatException e) {
+            hours = -1;
+        }
+        if (hours < FreeCommand.SMALLEST_DURATION || hours > FreeCommand.LARGEST_DURATION) {
+            sendError(exchange, STATUS_BAD_REQUEST, FreeCommand.MESSAGE_INVALID_DURATION.strip());
+            return;
+        }
+
+        Map<String, Object> freeTime = new LinkedHashMap<>();
+        freeTime.put("hours", hours);
+        freeTime.put("earliest", snapshot.getEarliestFreeTime(hours));
+        send(exchange, STATUS_OK, freeTime);
+    }
+
+    /**
+     * Submits the command in the body of {@code exchange} and answers once it has been executed and saved.
+     */
+    private void handleCommand(HttpExchange exchange) throws IOException {
+        String commandText;
+        try (InputStream body = exchange.getRequestBody()) {
+            commandText = new String(body.readAllBytes(), StandardCharsets.UTF_8).strip();
+        }
+
+        // The command is submitted as parsed here, so that what runs is the command that was checked
+        Command command;
+        try {
+            command = logic.parseUnattendedCommand(commandText);
+        } catch (ParseException e) {
+            sendError(exchange, STATUS_BAD_REQUEST, e.getMessage());
+            return;
+        }
+        if (!ScriptRunner.canRunUnattended(command)) {
+            sendError(exchange, STATUS_FORBIDDEN, String.format(MESSAGE_COMMAND_NOT_ALLOWED,
+                    CommandMetrics.commandWordOf(command)));
+            return;
+        }
+        if (VIEW_COMMANDS.contains(command.getClass())) {
+            sendError(exchange, STATUS_FORBIDDEN, String.format(MESSAGE_VIEW_COMMAND_NOT_ALLOWED,
+                    CommandMetrics.commandWordOf(command)));
+            return;
+        }
+
+        if (commandExecutionService.getPendingCount() >= MAX_PENDING_COMMANDS) {
+            sendError(exchange, STATUS_UNAVAILABLE, MESSAGE_BUSY);
+            return;
+        }
+
+        commandExecutionService.submit(commandText, command).whenCompleteAsync((commandResult, error) -> {
+            try {
+                if (error == null) {
+                    send(exchange, STATUS_OK, Map.of("feedback", commandResult.getFeedbackToUser()));
+                } else if (error instanceof CancellationException) {
+                    sendError(exchange, STATUS_UNAVAILABLE, MESSAGE_CANCELLED);
+                } else {
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    sendError(exchange, STATUS_BAD_REQUEST, cause.getMessage());
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to answer API command: " + StringUtil.getDetails(e));
+                exchange.close();
+            }
+        }, handlers);
+    }
+
+    /**
+     * Returns true if {@code exchange} carries the token of this server.
+     */
+    private boolean hasToken(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst(HEADER_AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(TOKEN_PREFIX)) {
+            return false;
+        }
+        // Compared in constant time, so that the token cannot be guessed from how long a refusal takes
+        return MessageDigest.isEqual(authorization.substring(TOKEN_PREFIX.length()).getBytes(StandardCharsets.UTF_8),
+                token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, Object> toJson(Session session, int attendeeCount) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("day", session.getDayOfWeek().toString());
+        json.put("start", session.getStartTime().toString());
+        json.put("end", session.getEndTime().toString());
+        json.put("attendees", attendeeCount);
+        return json;
+    }
+
+    /**
+     * Returns the parameters in {@code rawQuery}, which may be null.
+     */
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.putIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        send(exchange, status, Map.of("error", message));
+    }
+
+    private static void send(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = JsonUtil.toJsonString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+}
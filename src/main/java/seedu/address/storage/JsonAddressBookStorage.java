@@ -1,30 +1,58 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import javax.crypto.SecretKey;
+
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.AddressBookLoadedEvent;
+import seedu.address.commons.events.AddressBookSavedEvent;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.KeyFile;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
- * A class to access AddressBook data stored as a json file on the hard disk.
+ * A class to access AddressBook data stored as a json file on the hard disk, optionally gzip compressed and encrypted.
+ * Compressed and encrypted files are recognised from their first bytes, so any file can be read whatever the
+ * compression level, and a plain file can be read with a key.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final int compressionLevel;
+    private final KeyFile keyFile;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, FileUtil.NO_COMPRESSION);
+    }
+
+    public JsonAddressBookStorage(Path filePath, int compressionLevel) {
+        this(filePath, compressionLevel, null);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that saves to {@code filePath} compressed at {@code compressionLevel},
+     * or uncompressed if it is {@link FileUtil#NO_COMPRESSION}, and encrypted with the key in {@code keyFile}, or
+     * unencrypted if it is null.
+     */
+    public JsonAddressBookStorage(Path filePath, int compressionLevel, KeyFile keyFile) {
+        checkArgument(FileUtil.isValidCompressionLevel(compressionLevel));
         this.filePath = filePath;
+        this.compressionLevel = compressionLevel;
+        this.keyFile = keyFile;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +73,24 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
+        AddressBookLoadedEvent event = new AddressBookLoadedEvent();
+        event.begin();
         Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
+                filePath, JsonSerializableAddressBook.class, readKey(keyFile));
         if (!jsonAddressBook.isPresent()) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            ReadOnlyAddressBook addressBook = jsonAddressBook.get().toModelType();
+            event.end();
+            if (event.shouldCommit()) {
+                event.setFile(filePath.toString());
+                event.setBytes(sizeOf(filePath));
+                event.setPersons(addressBook.getPersonList().size());
+                event.commit();
+            }
+            return Optional.of(addressBook);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +111,51 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        AddressBookSavedEvent event = new AddressBookSavedEvent();
+        event.begin();
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath, compressionLevel,
+                keyFile == null ? null : keyFile.getKey());
+        event.end();
+        if (event.shouldCommit()) {
+            event.setFile(filePath.toString());
+            event.setBytes(sizeOf(filePath));
+            event.setPersons(addressBook.getPersonList().size());
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the key in {@code keyFile} for reading data, or null if it is null or does not exist yet, in which case
+     * only data that is not encrypted can be read.
+     *
+     * @throws DataLoadingException if the key file cannot be read.
+     */
+    static SecretKey readKey(KeyFile keyFile) throws DataLoadingException {
+        if (keyFile == null) {
+            return null;
+        }
+        try {
+            return keyFile.readKey();
+        } catch (NoSuchFileException e) {
+            logger.info("Key file " + keyFile.getFilePath() + " does not exist yet, so only data that is not encrypted"
+                    + " can be read. It is created when the data is next saved.");
+            return null;
+        } catch (IOException e) {
+            logger.warning("Error reading key file " + keyFile.getFilePath() + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the size of the file at {@code filePath}, or -1 if it cannot be read. Only used for diagnostics.
+     */
+    private static long sizeOf(Path filePath) {
+        try {
+            return Files.size(filePath);
+        } catch (IOException e) {
+            return -1;
+        }
     }
 
 }
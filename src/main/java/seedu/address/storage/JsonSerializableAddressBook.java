@@ -13,8 +13,6 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicateContactException;
-import seedu.address.model.tag.SessionTag;
-import seedu.address.model.tag.Tag;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -49,9 +47,21 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
+            modelPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        return toAddressBook(modelPersons);
+    }
+
+    /**
+     * Returns an address book of {@code persons}, in order, with the weekly sessions they attend.
+     *
+     * @throws IllegalValueException if any of the persons are duplicates.
+     */
+    static AddressBook toAddressBook(List<Person> persons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
             if (addressBook.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
@@ -62,12 +72,7 @@ class JsonSerializableAddressBook {
             }
 
             // Rebuild WeeklySessions from SessionTags
-            for (Tag tag : person.getTags()) {
-                if (tag.isSessionTag()) {
-                    SessionTag sessionTag = (SessionTag) tag;
-                    addressBook.addSession(sessionTag.getSession());
-                }
-            }
+            person.getSessions().forEach(addressBook::addSession);
         }
         return addressBook;
     }
@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * One shard of an address book stored by {@link ShardedAddressBookStorage}, serializable to JSON format.
+ * Each person is stored with their position, which orders them among the persons of every shard.
+ */
+class JsonSerializableShard {
+
+    public static final String MESSAGE_INVALID_POSITIONS =
+            "Shard positions must be positive, increasing and one for each person.";
+
+    private final List<Long> positions = new ArrayList<>();
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableShard} with the given positions and persons.
+     */
+    @JsonCreator
+    public JsonSerializableShard(@JsonProperty("positions") List<Long> positions,
+                                 @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        if (positions != null) {
+            this.positions.addAll(positions);
+        }
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Converts the persons of a shard, and their positions, into this class for Jackson use.
+     */
+    public JsonSerializableShard(List<Person> persons, long[] positions) {
+        for (int i = 0; i < persons.size(); i++) {
+            this.positions.add(positions[i]);
+            this.persons.add(new JsonAdaptedPerson(persons.get(i)));
+        }
+    }
+
+    /**
+     * Returns the positions of the persons in this shard, in the same order as {@link #toModelType()}.
+     *
+     * @throws IllegalValueException if the positions are not positive and increasing, or do not match the persons.
+     */
+    public long[] toPositions() throws IllegalValueException {
+        if (positions.size() != persons.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_POSITIONS);
+        }
+        long[] modelPositions = new long[positions.size()];
+        long previous = 0;
+        for (int i = 0; i < modelPositions.length; i++) {
+            Long position = positions.get(i);
+            if (position == null || position <= previous) {
+                throw new IllegalValueException(MESSAGE_INVALID_POSITIONS);
+            }
+            modelPositions[i] = position;
+            previous = position;
+        }
+        return modelPositions;
+    }
+
+    /**
+     * Converts the persons in this shard into the model's {@code Person} objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<Person> toModelType() throws IllegalValueException {
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            modelPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        return modelPersons;
+    }
+
+}
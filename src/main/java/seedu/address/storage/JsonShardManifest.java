@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * The manifest of an address book stored by {@link ShardedAddressBookStorage}, serializable to JSON format.
+ * It names the file holding each shard, or {@code null} for an empty shard, and counts the saves that wrote it.
+ */
+class JsonShardManifest {
+
+    public static final String MESSAGE_INVALID_SHARD_FILE = "Manifest names an invalid shard file: %1$s";
+
+    private final long generation;
+    private final List<String> shards = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given generation and shard files.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("generation") long generation,
+                             @JsonProperty("shards") List<String> shards) {
+        this.generation = generation;
+        if (shards != null) {
+            this.shards.addAll(shards);
+        }
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the file names of the shards, each {@code null} if its shard is empty.
+     *
+     * @throws IllegalValueException if a file name is not that of a shard, e.g. one naming another folder.
+     */
+    public List<String> getShardFiles() throws IllegalValueException {
+        for (String shard : shards) {
+            if (shard != null && !ShardedAddressBookStorage.isShardFileName(shard)) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_SHARD_FILE, shard));
+            }
+        }
+        return Collections.unmodifiableList(shards);
+    }
+
+}
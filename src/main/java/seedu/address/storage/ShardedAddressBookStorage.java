@@ -0,0 +1,559 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import javax.crypto.SecretKey;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.AddressBookLoadedEvent;
+import seedu.address.commons.events.AddressBookSavedEvent;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.KeyFile;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as a folder of json shard files.
+ *
+ * Each person is kept in one of {@link #SHARD_COUNT} shards, picked by the hash of their name, and a manifest names
+ * the file holding each shard. A save writes only the shards whose persons changed since the last save or load, each
+ * to a new file, and then replaces the manifest, so that the folder always holds either the old or the new address
+ * book. Editing one person therefore writes one small file rather than the whole address book. Shards are loaded in
+ * parallel.
+ *
+ * Shards can be gzip compressed and encrypted, which are recognised from their first bytes. The manifest, which only
+ * names the shard files, is neither.
+ *
+ * Paths ending in {@code .json} are read and written as a single json file instead, as by
+ * {@link JsonAddressBookStorage}, which is how address books are exported and imported.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+    public static final int SHARD_COUNT = 64;
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    /** The gap left between the positions of persons, so that persons put between them keep the others' positions. */
+    static final long POSITION_GAP = 1L << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private static final String SINGLE_FILE_EXTENSION = ".json";
+    private static final String SHARD_FILE_FORMAT = "shard-%02d-%d.json";
+    private static final Pattern SHARD_FILE_PATTERN = Pattern.compile("shard-\\d+-\\d+\\.json");
+    private static final String TEMPORARY_MANIFEST_FILE_NAME = MANIFEST_FILE_NAME + ".tmp";
+
+    private final Path directoryPath;
+    private final int compressionLevel;
+    private final KeyFile keyFile;
+
+    /** What the folder last read or saved holds, against which the next save to it is compared. */
+    private SavedShards saved;
+
+    public ShardedAddressBookStorage(Path directoryPath) {
+        this(directoryPath, FileUtil.NO_COMPRESSION);
+    }
+
+    public ShardedAddressBookStorage(Path directoryPath, int compressionLevel) {
+        this(directoryPath, compressionLevel, null);
+    }
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} that saves to {@code directoryPath} with its shards, or its single
+     * file, compressed at {@code compressionLevel}, or uncompressed if it is {@link FileUtil#NO_COMPRESSION}, and
+     * encrypted with the key in {@code keyFile}, or unencrypted if it is null.
+     */
+    public ShardedAddressBookStorage(Path directoryPath, int compressionLevel, KeyFile keyFile) {
+        checkArgument(FileUtil.isValidCompressionLevel(compressionLevel));
+        this.directoryPath = directoryPath;
+        this.compressionLevel = compressionLevel;
+        this.keyFile = keyFile;
+    }
+
+    public Path getAddressBookFilePath() {
+        return directoryPath;
+    }
+
+    /**
+     * Returns true if {@code path} is read and written as a single json file rather than a folder of shards.
+     */
+    public static boolean isSingleFile(Path path) {
+        Path fileName = path.getFileName();
+        return fileName != null && fileName.toString().endsWith(SINGLE_FILE_EXTENSION);
+    }
+
+    static boolean isShardFileName(String fileName) {
+        return SHARD_FILE_PATTERN.matcher(fileName).matches();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(directoryPath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param directoryPath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path directoryPath)
+            throws DataLoadingException {
+        requireNonNull(directoryPath);
+        if (isSingleFile(directoryPath)) {
+            return new JsonAddressBookStorage(directoryPath, compressionLevel, keyFile).readAddressBook();
+        }
+
+        AddressBookLoadedEvent event = new AddressBookLoadedEvent();
+        event.begin();
+        Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(
+                directoryPath.resolve(MANIFEST_FILE_NAME), JsonShardManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            List<String> shardFiles = manifest.get().getShardFiles();
+            List<Shard> shards = readShards(directoryPath, shardFiles, JsonAddressBookStorage.readKey(keyFile));
+            ReadOnlyAddressBook addressBook = JsonSerializableAddressBook.toAddressBook(merge(shards));
+
+            long generation = manifest.get().getGeneration();
+            saved = shards.size() == SHARD_COUNT
+                    ? new SavedShards(directoryPath, generation, shardFiles.toArray(String[]::new),
+                            shards.toArray(Shard[]::new), true)
+                    // Shards of another size are bucketed differently, so all of them are rewritten on the next save
+                    : SavedShards.none(directoryPath, generation);
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.setFile(directoryPath.toString());
+                event.setBytes(sizeOf(directoryPath, shardFiles));
+                event.setPersons(addressBook.getPersonList().size());
+                event.commit();
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the shards in {@code shardFiles} in parallel, since converting persons takes longer than reading them.
+     */
+    private static List<Shard> readShards(Path directoryPath, List<String> shardFiles, SecretKey key)
+            throws DataLoadingException, IllegalValueException {
+        try {
+            return shardFiles.parallelStream()
+                    .map(shardFile -> readShard(directoryPath, shardFile, key))
+                    .collect(Collectors.toList());
+        } catch (ShardLoadingException e) {
+            if (e.getCause() instanceof IllegalValueException) {
+                throw (IllegalValueException) e.getCause();
+            }
+            throw new DataLoadingException((IOException) e.getCause());
+        }
+    }
+
+    private static Shard readShard(Path directoryPath, String shardFile, SecretKey key) {
+        if (shardFile == null) {
+            return new Shard(0);
+        }
+        try {
+            JsonSerializableShard jsonShard = JsonUtil.deserializeObjectFromJsonFile(
+                    directoryPath.resolve(shardFile), JsonSerializableShard.class, key);
+            List<Person> persons = jsonShard.toModelType();
+            long[] positions = jsonShard.toPositions();
+            Shard shard = new Shard(persons.size());
+            for (int i = 0; i < persons.size(); i++) {
+                shard.add(persons.get(i), positions[i]);
+            }
+            return shard;
+        } catch (IOException | IllegalValueException e) {
+            throw new ShardLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the persons of all {@code shards}, ordered by their positions.
+     */
+    private static List<Person> merge(List<Shard> shards) {
+        int size = shards.stream().mapToInt(shard -> shard.size).sum();
+        int[] next = new int[shards.size()];
+        PriorityQueue<Integer> heads = new PriorityQueue<>(Math.max(1, shards.size()),
+                (first, second) -> Long.compare(shards.get(first).positions[next[first]],
+                        shards.get(second).positions[next[second]]));
+        for (int i = 0; i < shards.size(); i++) {
+            if (shards.get(i).size > 0) {
+                heads.add(i);
+            }
+        }
+
+        List<Person> persons = new ArrayList<>(size);
+        while (!heads.isEmpty()) {
+            int i = heads.poll();
+            persons.add(shards.get(i).persons[next[i]]);
+            next[i]++;
+            if (next[i] < shards.get(i).size) {
+                heads.add(i);
+            }
+        }
+        return persons;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directoryPath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param directoryPath location of the data. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path directoryPath)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(directoryPath);
+        if (isSingleFile(directoryPath)) {
+            new JsonAddressBookStorage(directoryPath, compressionLevel, keyFile).saveAddressBook(addressBook);
+            return;
+        }
+
+        AddressBookSavedEvent event = new AddressBookSavedEvent();
+        event.begin();
+        SavedShards previous = saved != null && saved.directoryPath.equals(directoryPath)
+                ? saved
+                : SavedShards.none(directoryPath, readGeneration(directoryPath));
+        saved = null;
+
+        SecretKey key = keyFile == null ? null : keyFile.getKey();
+        List<Person> persons = addressBook.getPersonList();
+        Shard[] shards = toShards(persons, assignPositions(persons, previous.positions));
+        long generation = previous.generation + 1;
+        String[] shardFiles = previous.shardFiles.clone();
+        boolean[] isChanged = new boolean[SHARD_COUNT];
+        boolean hasChanged = !previous.isOnDisk;
+        long bytes = 0;
+        Files.createDirectories(directoryPath);
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            if (shards[i].isSameAs(previous.shards[i], previous.isRead)) {
+                continue;
+            }
+            isChanged[i] = true;
+            hasChanged = true;
+            shardFiles[i] = null;
+            if (shards[i].size > 0) {
+                shardFiles[i] = String.format(SHARD_FILE_FORMAT, i, generation);
+                Path shardPath = directoryPath.resolve(shardFiles[i]);
+                JsonUtil.saveJsonFile(new JsonSerializableShard(shards[i].getPersons(), shards[i].positions),
+                        shardPath, compressionLevel, key);
+                bytes += Files.size(shardPath);
+            }
+        }
+
+        if (!hasChanged) {
+            saved = previous.isRead ? previous.updatedTo(previous.generation, shardFiles, shards, isChanged) : previous;
+            return;
+        }
+        writeManifest(directoryPath, new JsonShardManifest(generation, Arrays.asList(shardFiles)));
+        deleteUnusedShardFiles(directoryPath, shardFiles);
+        saved = previous.updatedTo(generation, shardFiles, shards, isChanged);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.setFile(directoryPath.toString());
+            event.setBytes(bytes);
+            event.setPersons(persons.size());
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the position of each of {@code persons}, increasing along the list. Persons keep their
+     * {@code previousPositions} where those are still in order, and new or moved persons are put between them, so
+     * that only the shards holding those persons change. If there is no room between the positions around them, all
+     * persons are given new positions.
+     */
+    static long[] assignPositions(List<Person> persons, Map<Person, Long> previousPositions) {
+        int size = persons.size();
+        long[] positions = new long[size];
+        boolean[] isKept = new boolean[size];
+        long last = 0;
+        for (int i = 0; i < size; i++) {
+            Long previous = previousPositions.get(persons.get(i));
+            if (previous != null && previous > last) {
+                positions[i] = previous;
+                isKept[i] = true;
+                last = previous;
+            }
+        }
+
+        int start = 0;
+        while (start < size) {
+            if (isKept[start]) {
+                start++;
+                continue;
+            }
+            int end = start;
+            while (end < size && !isKept[end]) {
+                end++;
+            }
+            long low = start == 0 ? 0 : positions[start - 1];
+            long step = end == size
+                    ? Math.min(POSITION_GAP, (Long.MAX_VALUE - low) / (end - start + 1))
+                    : (positions[end] - low) / (end - start + 1);
+            if (step == 0) {
+                return renumber(size);
+            }
+            for (int i = start; i < end; i++) {
+                positions[i] = low + step * (i - start + 1);
+            }
+            start = end;
+        }
+        return positions;
+    }
+
+    private static long[] renumber(int size) {
+        long[] positions = new long[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = POSITION_GAP * (i + 1);
+        }
+        return positions;
+    }
+
+    private static Shard[] toShards(List<Person> persons, long[] positions) {
+        int[] shardOf = new int[persons.size()];
+        int[] sizes = new int[SHARD_COUNT];
+        for (int i = 0; i < shardOf.length; i++) {
+            shardOf[i] = Math.floorMod(persons.get(i).getName().hashCode(), SHARD_COUNT);
+            sizes[shardOf[i]]++;
+        }
+
+        Shard[] shards = new Shard[SHARD_COUNT];
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards[i] = new Shard(sizes[i]);
+        }
+        for (int i = 0; i < shardOf.length; i++) {
+            shards[shardOf[i]].add(persons.get(i), positions[i]);
+        }
+        return shards;
+    }
+
+    /**
+     * Returns the generation of the manifest in {@code directoryPath}, or 0 if there is none that can be read, so
+     * that a save never overwrites the files it names.
+     */
+    private static long readGeneration(Path directoryPath) {
+        try {
+            return JsonUtil.readJsonFile(directoryPath.resolve(MANIFEST_FILE_NAME), JsonShardManifest.class)
+                    .map(JsonShardManifest::getGeneration)
+                    .orElse(0L);
+        } catch (DataLoadingException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Replaces the manifest in {@code directoryPath} in one step, so that it is never left half written.
+     */
+    private static void writeManifest(Path directoryPath, JsonShardManifest manifest) throws IOException {
+        Path temporaryPath = directoryPath.resolve(TEMPORARY_MANIFEST_FILE_NAME);
+        JsonUtil.saveJsonFile(manifest, temporaryPath);
+        Path manifestPath = directoryPath.resolve(MANIFEST_FILE_NAME);
+        try {
+            Files.move(temporaryPath, manifestPath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryPath, manifestPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Deletes the shard files in {@code directoryPath} that are not in {@code shardFiles}, which includes those left
+     * by a save that did not finish. A file that cannot be deleted is only logged, since the data is already saved.
+     */
+    private static void deleteUnusedShardFiles(Path directoryPath, String[] shardFiles) {
+        Set<String> used = new HashSet<>(Arrays.asList(shardFiles));
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directoryPath, "shard-*.json")) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (isShardFileName(fileName) && !used.contains(fileName)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Could not delete unused shard files in " + directoryPath + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the total size of the shard files in {@code directoryPath}, or -1 if one cannot be read. Only used for
+     * diagnostics.
+     */
+    private static long sizeOf(Path directoryPath, List<String> shardFiles) {
+        long bytes = 0;
+        try {
+            for (String shardFile : shardFiles) {
+                if (shardFile != null) {
+                    bytes += Files.size(directoryPath.resolve(shardFile));
+                }
+            }
+            return bytes;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * The persons of one shard and their positions, in increasing order of position.
+     */
+    private static class Shard {
+        private final Person[] persons;
+        private final long[] positions;
+        private int size;
+
+        private Shard(int capacity) {
+            persons = new Person[capacity];
+            positions = new long[capacity];
+        }
+
+        private void add(Person person, long position) {
+            persons[size] = person;
+            positions[size] = position;
+            size++;
+        }
+
+        private List<Person> getPersons() {
+            return Arrays.asList(persons).subList(0, size);
+        }
+
+        /**
+         * Returns true if {@code other} holds the same person objects at the same positions, which persons being
+         * immutable means that it would be written the same. If {@code isOtherRead}, the persons of {@code other}
+         * were read rather than saved, so they are only equal to the persons saved and are compared as such.
+         */
+        private boolean isSameAs(Shard other, boolean isOtherRead) {
+            if (size != other.size) {
+                return false;
+            }
+            for (int i = 0; i < size; i++) {
+                if (persons[i] != other.persons[i] && !(isOtherRead && persons[i].equals(other.persons[i]))
+                        || positions[i] != other.positions[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The shards held by a folder, and the files holding them.
+     */
+    private static class SavedShards {
+        private final Path directoryPath;
+        private final long generation;
+        private final String[] shardFiles;
+        private final Shard[] shards;
+        private final boolean isOnDisk;
+        /**
+         * True if the persons of these shards were read, so that the address book saved next holds persons equal to
+         * them rather than the same objects, such as when changes to the folder made outside the app are merged in.
+         * Persons are then looked up by equality until the next save, which replaces them with the persons it saved.
+         */
+        private final boolean isRead;
+        private final Map<Person, Long> positions;
+
+        /**
+         * Creates the saved shards of a folder that holds {@code shards}.
+         */
+        private SavedShards(Path directoryPath, long generation, String[] shardFiles, Shard[] shards, boolean isRead) {
+            this(directoryPath, generation, shardFiles, shards, true, isRead,
+                    isRead ? new HashMap<>() : new IdentityHashMap<>());
+            for (Shard shard : shards) {
+                for (int i = 0; i < shard.size; i++) {
+                    positions.put(shard.persons[i], shard.positions[i]);
+                }
+            }
+        }
+
+        private SavedShards(Path directoryPath, long generation, String[] shardFiles, Shard[] shards,
+                boolean isOnDisk, boolean isRead, Map<Person, Long> positions) {
+            this.directoryPath = directoryPath;
+            this.generation = generation;
+            this.shardFiles = shardFiles;
+            this.shards = shards;
+            this.isOnDisk = isOnDisk;
+            this.isRead = isRead;
+            this.positions = positions;
+        }
+
+        /**
+         * Returns the saved shards of a folder that holds none yet, or none that can be kept.
+         */
+        private static SavedShards none(Path directoryPath, long generation) {
+            Shard[] shards = new Shard[SHARD_COUNT];
+            Arrays.fill(shards, new Shard(0));
+            return new SavedShards(directoryPath, generation, new String[SHARD_COUNT], shards, false, false,
+                    new IdentityHashMap<>());
+        }
+
+        /**
+         * Returns these saved shards after {@code shards} were saved over them, updating the positions of only the
+         * shards that changed. These saved shards must not be used afterwards.
+         */
+        private SavedShards updatedTo(long generation, String[] shardFiles, Shard[] shards, boolean[] isChanged) {
+            if (isRead) {
+                // Every shard is replaced, so that the persons saved are looked up by identity from now on
+                return new SavedShards(directoryPath, generation, shardFiles, shards, false);
+            }
+            for (int i = 0; i < SHARD_COUNT; i++) {
+                if (isChanged[i]) {
+                    for (int j = 0; j < this.shards[i].size; j++) {
+                        positions.remove(this.shards[i].persons[j]);
+                    }
+                }
+            }
+            // Only after all removals, since a person may have moved from one shard to another
+            for (int i = 0; i < SHARD_COUNT; i++) {
+                if (isChanged[i]) {
+                    for (int j = 0; j < shards[i].size; j++) {
+                        positions.put(shards[i].persons[j], shards[i].positions[j]);
+                    }
+                }
+            }
+            return new SavedShards(directoryPath, generation, shardFiles, shards, true, false, positions);
+        }
+    }
+
+    /**
+     * Carries an exception from reading a shard out of a parallel stream.
+     */
+    private static class ShardLoadingException extends RuntimeException {
+        private ShardLoadingException(Exception cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that also watches its data file for changes made outside the app, such as by an editor
+ * or by restoring a backup, and reads the changed address book back on a background thread.
+ *
+ * The folder holding the data file is watched with a {@link WatchService}; for a folder of shards, the folder itself
+ * is watched for its manifest, which is written last. A change is only read once the file has been quiet for
+ * {@link #QUIET_PERIOD_MILLIS}, so that a file is not read while it is being written. The app saves through this
+ * storage, which remembers the attributes of the file each save leaves behind, so the app's own saves are told apart
+ * from other changes without reading them back.
+ */
+public class WatchedAddressBookStorage implements AddressBookStorage {
+    /** How long the data file must go unchanged before a change to it is read. */
+    static final long QUIET_PERIOD_MILLIS = 300;
+
+    private static final Logger logger = LogsCenter.getLogger(WatchedAddressBookStorage.class);
+    private static final long STOP_TIMEOUT_MILLIS = 1000;
+
+    private final AddressBookStorage storage;
+    private final Path watchedDirectory;
+    private final Path watchedFile;
+    private final Object lock = new Object();
+
+    /** The attributes of the data file as last read or saved, or null if there was no file. Guarded by lock. */
+    private List<Object> lastVersion;
+    private WatchService watchService;
+    private Thread watcher;
+
+    /**
+     * Creates a {@code WatchedAddressBookStorage} that reads and saves through {@code storage}. It does not watch the
+     * data file until it is started.
+     */
+    public WatchedAddressBookStorage(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        Path filePath = storage.getAddressBookFilePath().toAbsolutePath();
+        if (ShardedAddressBookStorage.isSingleFile(filePath)) {
+            watchedDirectory = filePath.getParent();
+            watchedFile = filePath;
+        } else {
+            watchedDirectory = filePath;
+            watchedFile = filePath.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        }
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return storage.readAddressBook(filePath);
+        }
+        // Taken before reading, so that a change made while reading is read again
+        List<Object> version = readVersion();
+        Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook(filePath);
+        synchronized (lock) {
+            lastVersion = version;
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        if (!filePath.equals(getAddressBookFilePath())) {
+            storage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        synchronized (lock) {
+            storage.saveAddressBook(addressBook, filePath);
+            lastVersion = readVersion();
+        }
+    }
+
+    /**
+     * Starts watching the data file, passing each address book changed outside the app to {@code onChange} on a
+     * background thread. A changed file that cannot be read, or has been deleted, is logged and left for the next
+     * save to overwrite.
+     *
+     * @throws IOException if the folder holding the data file cannot be created or watched.
+     */
+    public void startWatching(Consumer<ReadOnlyAddressBook> onChange) throws IOException {
+        requireNonNull(onChange);
+        assert watcher == null : "Already watching the data file";
+        Files.createDirectories(watchedDirectory);
+        watchService = watchedDirectory.getFileSystem().newWatchService();
+        try {
+            watchedDirectory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        } catch (IOException | RuntimeException e) {
+            watchService.close();
+            throw e;
+        }
+
+        watcher = new Thread(() -> watch(onChange), "data-file-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        logger.info("Watching " + watchedFile + " for changes made outside the app");
+    }
+
+    /**
+     * Stops watching the data file, waiting briefly for a change that is being read to be passed on.
+     */
+    public void stopWatching() {
+        if (watcher == null) {
+            return;
+        }
+        try {
+            watchService.close();
+            watcher.join(STOP_TIMEOUT_MILLIS);
+        } catch (IOException e) {
+            logger.warning("Could not stop watching the data file: " + StringUtil.getDetails(e));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        watcher = null;
+    }
+
+    /**
+     * Waits for changes to the data file and reads each one once it is quiet. Runs on the watcher thread.
+     */
+    private void watch(Consumer<ReadOnlyAddressBook> onChange) {
+        try {
+            while (true) {
+                boolean isChanged = takeEvents(watchService.take());
+                // A file is usually written in several steps, each of which is reported
+                WatchKey key;
+                while ((key = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    isChanged |= takeEvents(key);
+                }
+                if (isChanged) {
+                    readIfChanged(onChange);
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // Stopped watching
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IllegalStateException e) {
+            logger.warning("Stopped watching the data file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns true if the events of {@code key} may have changed the data file, and readies it for more events.
+     *
+     * @throws IllegalStateException if the folder holding the data file can no longer be watched.
+     */
+    private boolean takeEvents(WatchKey key) {
+        boolean isChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            // Events are dropped when too many happen at once, so any of them may have been the data file's
+            isChanged |= event.kind() == OVERFLOW || watchedFile.getFileName().equals(event.context());
+        }
+        if (!key.reset()) {
+            throw new IllegalStateException(watchedDirectory + " can no longer be watched");
+        }
+        return isChanged;
+    }
+
+    /**
+     * Reads the data file and passes it to {@code onChange} if it is not as last read or saved.
+     */
+    private void readIfChanged(Consumer<ReadOnlyAddressBook> onChange) {
+        synchronized (lock) {
+            if (Objects.equals(readVersion(), lastVersion)) {
+                return;
+            }
+        }
+
+        logger.info("Data file changed outside the app, reading it back: " + watchedFile);
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = readAddressBook();
+            if (addressBook.isPresent()) {
+                onChange.accept(addressBook.get());
+            } else {
+                logger.warning("Data file deleted outside the app, it will be written again on the next save");
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Data file changed outside the app could not be read, it will be overwritten on the next"
+                    + " save: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the attributes of the data file that change whenever it is written, or null if there is no such file.
+     */
+    private List<Object> readVersion() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(watchedFile, BasicFileAttributes.class);
+            // The file key changes when a file is replaced, which a quick second write may not show in the others
+            return Arrays.asList(attributes.lastModifiedTime(), attributes.size(), attributes.fileKey());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
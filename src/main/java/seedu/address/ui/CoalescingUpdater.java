@@ -0,0 +1,60 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * Applies only the latest of a burst of updates, at most once per JavaFX pulse.
+ *
+ * Each update is a {@code Supplier} that is only called when the update is applied, so it can read state that
+ * is not final yet when it is submitted, e.g. the selection of a list that has not handled a key press yet.
+ * Must only be used on the JavaFX application thread.
+ */
+class CoalescingUpdater<T> {
+    private final Consumer<? super T> renderer;
+    private final AnimationTimer nextPulse = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            stop();
+            applyPendingUpdate();
+        }
+    };
+
+    private Supplier<? extends T> pendingUpdate;
+
+    /**
+     * Creates an updater that passes the value of the latest update to {@code renderer}.
+     */
+    CoalescingUpdater(Consumer<? super T> renderer) {
+        this.renderer = requireNonNull(renderer);
+    }
+
+    /**
+     * Applies {@code update} on the next pulse, unless another update is submitted before then.
+     */
+    void submit(Supplier<? extends T> update) {
+        requireNonNull(update);
+        boolean isScheduled = pendingUpdate != null;
+        pendingUpdate = update;
+        if (!isScheduled) {
+            nextPulse.start();
+        }
+    }
+
+    /**
+     * Applies the pending update now, if there is one.
+     */
+    void applyPendingUpdate() {
+        if (pendingUpdate == null) {
+            return;
+        }
+        Supplier<? extends T> update = pendingUpdate;
+        pendingUpdate = null;
+        nextPulse.stop();
+        renderer.accept(update.get());
+    }
+}
@@ -1,19 +1,25 @@
 package seedu.address.ui;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.ArrayList;
+import java.util.List;
 
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Region;
 import seedu.address.model.person.Person;
-import seedu.address.model.tag.Tag;
+import seedu.address.model.person.Session;
 
 /**
  * Panel containing the detailed view of a selected person.
  */
 public class DetailedView extends UiPart<Region> {
 
+    public static final String MESSAGE_NO_PERSON_SELECTED = "Select a contact";
+    public static final String CONTACT_NAME_STYLE_CLASS = "contact-name-large";
+    public static final String MESSAGE_NO_SESSIONS = "No sessions added yet";
+
     private static final String FXML = "DetailedView.fxml";
 
     @FXML
@@ -37,6 +43,8 @@ public class DetailedView extends UiPart<Region> {
     @FXML
     private FlowPane sessionsList;
 
+    private Person person;
+
     /**
      * Creates an empty detailed view panel with no contact selected.
      */
@@ -48,9 +56,14 @@ public class DetailedView extends UiPart<Region> {
     }
 
     /**
-     * Displays the details of the given person.
+     * Displays the details of the given person, or the empty state if {@code person} is null.
+     * Does nothing if the person is already displayed.
      */
     public void setPerson(Person person) {
+        if (person != null && person == this.person) {
+            return;
+        }
+        this.person = person;
         if (person == null) {
             showEmptyState();
             return;
@@ -68,60 +81,54 @@ public class DetailedView extends UiPart<Region> {
         paymentStatusLabel.setText(person.getPayment().toString());
         billingStartLabel.setText("Day " + person.getPayment().getBillingStartDay() + " of each month");
 
-        // Clear previous tags
-        subjectTags.getChildren().clear();
-        sessionsList.getChildren().clear();
+        List<String> subjectNames = new ArrayList<>();
+        List<String> subjectStyleClasses = new ArrayList<>();
+        person.getSubjectTags().forEach(tag -> {
+            subjectNames.add(tag.tagName);
+            // Colour by the subject (e.g. "MATH" -> "tag-math")
+            subjectStyleClasses.add("tag-" + tag.tagName.toLowerCase());
+        });
+        setLabels(subjectTags, subjectNames, "tag", subjectStyleClasses);
+
+        List<String> sessionNames = new ArrayList<>();
+        List<String> sessionStyleClasses = new ArrayList<>();
+        person.getSessionTags().forEach(tag -> {
+            sessionNames.add(tag.tagName);
+            // Colour by the day of the session (e.g. "MON 0900 - 1200" -> "session-mon")
+            int day = tag.getSession().getDayOfWeek().getValue();
+            sessionStyleClasses.add("session-" + Session.DAY_OF_WEEKS.get(day - 1).toLowerCase());
+        });
+        if (sessionNames.isEmpty()) {
+            setLabels(sessionsList, List.of(MESSAGE_NO_SESSIONS), "session-placeholder", List.of(""));
+        } else {
+            setLabels(sessionsList, sessionNames, "session-tag", sessionStyleClasses);
+        }
+    }
 
-        // Separate subject tags and session tags
-        AtomicBoolean hasSessionTags = new AtomicBoolean(false);
+    /**
+     * Shows a label for each of {@code texts} in {@code pane}, styled with {@code styleClass} and the matching
+     * entry of {@code extraStyleClasses} unless it is empty.
+     * Existing labels are reused, so showing another person does not create new nodes unless it has more tags.
+     */
+    private static void setLabels(FlowPane pane, List<String> texts, String styleClass,
+            List<String> extraStyleClasses) {
+        List<Node> labels = pane.getChildren();
+        if (labels.size() > texts.size()) {
+            labels.subList(texts.size(), labels.size()).clear();
+        }
+        while (labels.size() < texts.size()) {
+            labels.add(new Label());
+        }
 
-        person.getTags().forEach(tag -> {
-            if (tag.isSessionTag()) {
-                // This is a session tag - add to sessions list
-                hasSessionTags.set(true);
+        for (int i = 0; i < texts.size(); i++) {
+            Label label = (Label) labels.get(i);
+            label.setText(texts.get(i));
+            String extraStyleClass = extraStyleClasses.get(i);
+            if (extraStyleClass.isEmpty()) {
+                label.getStyleClass().setAll(styleClass);
             } else {
-                // This is a subject tag - add to subject tags
-                Label tagLabel = new Label(tag.tagName);
-                tagLabel.getStyleClass().add("tag");
-                // Add color-specific style class based on tag name
-                tagLabel.getStyleClass().add("tag-" + tag.tagName.toLowerCase());
-                subjectTags.getChildren().add(tagLabel);
+                label.getStyleClass().setAll(styleClass, extraStyleClass);
             }
-        });
-
-        // Add session tags to sessions list
-        person.getTags().stream()
-                .filter(Tag::isSessionTag)
-                .forEach(tag -> {
-                    Label sessionLabel = new Label(tag.tagName);
-                    sessionLabel.getStyleClass().add("session-tag");
-
-                    // Extract day from tag name (e.g., "MON 0900 - 1200" -> "MON")
-                    String tagText = tag.tagName.toUpperCase();
-                    if (tagText.startsWith("MON")) {
-                        sessionLabel.getStyleClass().add("session-mon");
-                    } else if (tagText.startsWith("TUE")) {
-                        sessionLabel.getStyleClass().add("session-tue");
-                    } else if (tagText.startsWith("WED")) {
-                        sessionLabel.getStyleClass().add("session-wed");
-                    } else if (tagText.startsWith("THU")) {
-                        sessionLabel.getStyleClass().add("session-thu");
-                    } else if (tagText.startsWith("FRI")) {
-                        sessionLabel.getStyleClass().add("session-fri");
-                    } else if (tagText.startsWith("SAT")) {
-                        sessionLabel.getStyleClass().add("session-sat");
-                    } else if (tagText.startsWith("SUN")) {
-                        sessionLabel.getStyleClass().add("session-sun");
-                    }
-
-                    sessionsList.getChildren().add(sessionLabel);
-                });
-
-        // Add placeholder if no sessions
-        if (!hasSessionTags.get()) {
-            Label sessionPlaceholder = new Label("No sessions added yet");
-            sessionPlaceholder.getStyleClass().add("session-placeholder");
-            sessionsList.getChildren().add(sessionPlaceholder);
         }
     }
 
@@ -129,7 +136,7 @@ public class DetailedView extends UiPart<Region> {
      * Shows empty state when no contact is selected.
      */
     private void showEmptyState() {
-        contactName.setText("Select a contact");
+        contactName.setText(MESSAGE_NO_PERSON_SELECTED);
         nameLabel.setText("-");
         studyYearLabel.setText("-");
         phoneLabel.setText("-");
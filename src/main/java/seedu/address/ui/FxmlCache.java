@@ -0,0 +1,53 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the contents of every FXML document that has been loaded, so that each one is only read from the
+ * application's resources once, however many {@code UiPart}s are built from it.
+ *
+ * JavaFX cannot copy a scene graph, so each {@code UiPart} still builds its own nodes from the cached document.
+ * The cache is safe to fill from any thread, e.g. by {@link FxmlPreloader} while the JavaFX toolkit starts.
+ */
+class FxmlCache {
+    private static final Map<String, byte[]> documentsByLocation = new ConcurrentHashMap<>();
+
+    private FxmlCache() {}
+
+    /**
+     * Returns the contents of the FXML document at {@code location}, reading it only if it has not been read before.
+     * The returned array is shared and must not be modified.
+     *
+     * @throws IOException if the document has not been read before and cannot be read.
+     */
+    static byte[] getDocument(URL location) throws IOException {
+        requireNonNull(location);
+        try {
+            return documentsByLocation.computeIfAbsent(location.toExternalForm(), unused -> read(location));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Returns true if the document at {@code location} has been read.
+     */
+    static boolean contains(URL location) {
+        return documentsByLocation.containsKey(location.toExternalForm());
+    }
+
+    private static byte[] read(URL location) {
+        try (InputStream documentStream = location.openStream()) {
+            return documentStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
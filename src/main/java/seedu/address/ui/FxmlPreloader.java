@@ -0,0 +1,86 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.MainApp;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Reads the application's FXML documents into the {@link FxmlCache} and loads the classes they import,
+ * so that building the UI later does not have to.
+ *
+ * Safe to run on any thread: classes are only loaded and linked, not initialized, so no JavaFX static
+ * initializer runs before the JavaFX toolkit has started.
+ */
+public class FxmlPreloader {
+    /** The FXML documents built on startup or soon after, in the order they are usually needed. */
+    public static final List<String> STARTUP_FXML_FILES = List.of("MainWindow.fxml", "PersonListPanel.fxml",
+            "PersonListCard.fxml", "ResultDisplay.fxml", "StatusBarFooter.fxml", "TimetablePanel.fxml",
+            "CommandBox.fxml", "DetailedView.fxml", "HelpWindow.fxml");
+
+    private static final Logger logger = LogsCenter.getLogger(FxmlPreloader.class);
+    private static final Pattern IMPORT_PATTERN = Pattern.compile("<\\?import\\s+([\\w.]+)\\s*\\?>");
+
+    private FxmlPreloader() {}
+
+    /**
+     * Preloads every FXML document in {@link #STARTUP_FXML_FILES}.
+     * Returns the number of classes loaded.
+     */
+    public static int preloadStartupFxmlFiles() {
+        int loadedCount = 0;
+        for (String fxmlFileName : STARTUP_FXML_FILES) {
+            loadedCount += preload(fxmlFileName);
+        }
+        return loadedCount;
+    }
+
+    /**
+     * Reads the FXML document {@code fxmlFileName} within {@link UiPart#FXML_FILE_FOLDER} into the cache and loads
+     * the classes it imports. Returns the number of classes loaded.
+     * Problems are only logged, as they are reported again when the document is actually loaded.
+     */
+    public static int preload(String fxmlFileName) {
+        requireNonNull(fxmlFileName);
+        URL location = MainApp.class.getResource(UiPart.FXML_FILE_FOLDER + fxmlFileName);
+        if (location == null) {
+            logger.warning("FXML file to preload not found: " + fxmlFileName);
+            return 0;
+        }
+
+        String document;
+        try {
+            document = new String(FxmlCache.getDocument(location), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Could not preload FXML file " + fxmlFileName + ": " + e.getMessage());
+            return 0;
+        }
+
+        int loadedCount = 0;
+        Matcher matcher = IMPORT_PATTERN.matcher(document);
+        while (matcher.find()) {
+            if (loadClass(matcher.group(1))) {
+                loadedCount++;
+            }
+        }
+        return loadedCount;
+    }
+
+    private static boolean loadClass(String className) {
+        try {
+            Class.forName(className, false, FxmlPreloader.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            logger.fine(() -> "Could not preload " + className + ": " + e);
+            return false;
+        }
+    }
+}
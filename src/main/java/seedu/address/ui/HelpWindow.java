@@ -24,7 +24,11 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FreeCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.SetPaymentCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 
 /**
  * Controller for a help page
@@ -132,6 +136,10 @@ public class HelpWindow extends UiPart<Stage> {
         registeredCommands.add(HelpCommand.class);
         registeredCommands.add(ExitCommand.class);
         registeredCommands.add(SetPaymentCommand.class);
+        registeredCommands.add(StatsCommand.class);
+        registeredCommands.add(RunCommand.class);
+        registeredCommands.add(UndoCommand.class);
+        registeredCommands.add(RedoCommand.class);
 
         return getCommandUsage(registeredCommands);
     }
@@ -1,9 +1,14 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
 import javafx.fxml.FXML;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
@@ -11,10 +16,10 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandExecutionService;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookDiff;
 import seedu.address.model.person.Person;
 
 /**
@@ -23,18 +28,26 @@ import seedu.address.model.person.Person;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_ADDRESS_BOOK_LOADING =
+            "The data file is still loading, please try again shortly.";
+    public static final String MESSAGE_DATA_FILE_MERGED =
+            "Loaded changes made to the data file outside Zenith: %1$d added, %2$d edited, %3$d removed.";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandExecutionService commandExecutionService;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
     private ResultDisplay resultDisplay;
     private CommandBox commandBox;
-    private HelpWindow helpWindow;
+    private StatusBarFooter statusBarFooter;
+    private TimetablePanel timetablePanel;
+    private HelpWindow helpWindow; // built when first opened
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -55,27 +68,34 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private StackPane detailedViewPlaceholder;
 
+    @FXML
+    private StackPane timetablePlaceholder;
+
     @FXML
     private javafx.scene.control.SplitPane splitPane;
 
-    private DetailedView detailedView;
+    private DetailedView detailedView; // built when a person is first shown
+    private final CoalescingUpdater<Person> detailedViewUpdater = new CoalescingUpdater<>(this::showInDetailedView);
+
+    /** Commands are refused until the address book has been loaded, so they cannot overwrite it. */
+    private boolean isAddressBookLoaded;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, which runs commands through
+     * {@code commandExecutionService}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, CommandExecutionService commandExecutionService) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandExecutionService = commandExecutionService;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
 
         setAccelerators();
-
-        helpWindow = new HelpWindow();
     }
 
     public Stage getPrimaryStage() {
@@ -124,11 +144,22 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        detailedView = new DetailedView();
-        detailedViewPlaceholder.getChildren().add(detailedView.getRoot());
+        commandExecutionService.setProgressListener(statusBarFooter::setCommandProgress);
+        if (!isAddressBookLoaded) {
+            statusBarFooter.setLoading(true);
+        }
+
+        // A plain label stands in for the detailed view until there is a person to show
+        Label detailedViewEmptyState = new Label(DetailedView.MESSAGE_NO_PERSON_SELECTED);
+        detailedViewEmptyState.getStyleClass().add(DetailedView.CONTACT_NAME_STYLE_CLASS);
+        StackPane.setAlignment(detailedViewEmptyState, Pos.TOP_LEFT);
+        detailedViewPlaceholder.getChildren().add(detailedViewEmptyState);
+
+        timetablePanel = new TimetablePanel(logic.getSessionCounts());
+        timetablePlaceholder.getChildren().add(timetablePanel.getRoot());
 
         commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
@@ -150,6 +181,16 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
             KeyCode keyCode = event.getCode();
 
+            // Esc cancels commands that are still waiting to run
+            if (keyCode == KeyCode.ESCAPE && commandExecutionService.getPendingCount() > 0) {
+                int cancelled = commandExecutionService.cancelPending();
+                if (cancelled > 0) {
+                    resultDisplay.setFeedbackToUser("Cancelled " + cancelled + " pending command(s).");
+                }
+                event.consume();
+                return;
+            }
+
             // Handle UP/DOWN arrows from anywhere
             if (keyCode == KeyCode.UP || keyCode == KeyCode.DOWN) {
                 focusPersonListSmart(keyCode);
@@ -295,6 +336,9 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleHelp() {
+        if (helpWindow == null) {
+            helpWindow = new HelpWindow();
+        }
         if (!helpWindow.isShowing()) {
             helpWindow.show();
         } else {
@@ -329,23 +373,63 @@ public class MainWindow extends UiPart<Stage> {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
-        helpWindow.hide();
+        if (helpWindow != null) {
+            helpWindow.hide();
+        }
         primaryStage.hide();
     }
 
+    /**
+     * Stops accepting commands, waiting briefly for a command that is being saved.
+     */
+    void stop() {
+        if (commandExecutionService != null) {
+            commandExecutionService.shutdown();
+        }
+    }
+
+    /**
+     * Starts accepting commands, now that the address book has been loaded.
+     */
+    void setAddressBookLoaded() {
+        isAddressBookLoaded = true;
+        if (statusBarFooter != null) {
+            statusBarFooter.setLoading(false);
+        }
+    }
+
+    /**
+     * Tells the user that the changes in {@code diff}, made to the data file outside the app, have been loaded.
+     */
+    void showDataFileMerged(AddressBookDiff diff) {
+        resultDisplay.setFeedbackToUser(String.format(MESSAGE_DATA_FILE_MERGED, diff.getAdded().size(),
+                diff.getEdits().size(), diff.getRemoved().size()));
+        updateDetailedView(personListPanel.getSelectedPerson());
+    }
+
     public PersonListPanel getPersonListPanel() {
         return personListPanel;
     }
 
     /**
-     * Executes the command and returns the result.
+     * Starts executing the command in the background and returns a future of the result.
+     * The result is shown once the command finishes, on the JavaFX application thread.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.CommandExecutionService#submit(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        if (!isAddressBookLoaded) {
+            resultDisplay.setFeedbackToUser(MESSAGE_ADDRESS_BOOK_LOADING);
+            return CompletableFuture.failedFuture(new IllegalStateException(MESSAGE_ADDRESS_BOOK_LOADING));
+        }
+
+        return commandExecutionService.submit(commandText).whenComplete((commandResult, error) -> {
+            if (error != null) {
+                handleCommandFailure(commandText, error);
+                return;
+            }
+
+            logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
             if (commandResult.isShowHelp()) {
@@ -359,22 +443,54 @@ public class MainWindow extends UiPart<Stage> {
             Platform.runLater(() -> {
                 personListPanel.requestFocus();
             });
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            // Return focus to person list even on error
-            Platform.runLater(() -> {
-                personListPanel.requestFocus();
-            });
-            throw e;
+        });
+    }
+
+    /**
+     * Shows why the command {@code commandText} did not complete.
+     */
+    private void handleCommandFailure(String commandText, Throwable error) {
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        if (cause instanceof CancellationException) {
+            logger.info(() -> "Command cancelled: " + commandText);
+            return;
         }
+
+        logger.info(() -> "An error occurred while executing command: " + commandText);
+        resultDisplay.setFeedbackToUser(cause.getMessage());
+        // Return focus to person list even on error
+        Platform.runLater(() -> {
+            personListPanel.requestFocus();
+        });
     }
 
     /**
-     * Updates the detailed view with the selected person's information.
+     * Shows {@code person} in the detailed view on the next pulse.
+     * If this is called several times in one pulse, e.g. while an arrow key is held down, only the last person
+     * is shown.
      */
     public void updateDetailedView(Person person) {
+        detailedViewUpdater.submit(() -> person);
+    }
+
+    /**
+     * Shows the person selected in the person list in the detailed view on the next pulse,
+     * once the list has finished handling the current event.
+     *
+     * @see #updateDetailedView(Person)
+     */
+    public void updateDetailedViewToSelection() {
+        detailedViewUpdater.submit(personListPanel::getSelectedPerson);
+    }
+
+    private void showInDetailedView(Person person) {
+        if (detailedView == null) {
+            if (person == null) {
+                return;
+            }
+            detailedView = new DetailedView();
+            detailedViewPlaceholder.getChildren().setAll(detailedView.getRoot());
+        }
         detailedView.setPerson(person);
     }
 }
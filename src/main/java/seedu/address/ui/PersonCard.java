@@ -1,13 +1,15 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import java.util.List;
 
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
  * A UI component that displays information of a {@code Person}.
@@ -24,8 +26,9 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
     private final MainWindow mainWindow;
+    private Person person;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -44,6 +47,18 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
+    /**
+     * Creates an empty {@code PersonCard} to be filled in later via {@link #setPerson(Person, int)}.
+     * This lets a list cell load the FXML once and reuse the card for every person it shows.
+     *
+     * @param mainWindow The main window used to update the detailed view on click.
+     */
+    public PersonCard(MainWindow mainWindow) {
+        super(FXML);
+        this.mainWindow = mainWindow;
+        setupClickHandler();
+    }
+
     /**
      * Creates a {@code PersonCard} with the given {@code Person} and index to display.
      *
@@ -52,19 +67,56 @@ public class PersonCard extends UiPart<Region> {
      * @param mainWindow The main window used to update the detailed view on click.
      */
     public PersonCard(Person person, int displayedIndex, MainWindow mainWindow) {
-        super(FXML);
+        this(mainWindow);
+        setPerson(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Rebinds this card to display {@code person} at {@code displayedIndex}.
+     * Existing tag labels are reused, so rebinding does not create new nodes unless the person has more tags.
+     *
+     * @param person The person whose information is to be displayed.
+     * @param displayedIndex The index shown on the card.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        if (person == this.person && displayedIndex == this.displayedIndex) {
+            return;
+        }
         this.person = person;
-        this.mainWindow = mainWindow;
+        this.displayedIndex = displayedIndex;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         studyYear.setText(person.getStudyYear().value);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        setupClickHandler();
+        setTags(person);
+    }
+
+    /**
+     * Shows the subject tags then the session tags of {@code person}, both already sorted by {@code Person}.
+     */
+    private void setTags(Person person) {
+        List<Node> labels = tags.getChildren();
+        int tagCount = person.getSubjectTags().size() + person.getSessionTags().size();
+        if (labels.size() > tagCount) {
+            labels.subList(tagCount, labels.size()).clear();
+        }
+        while (labels.size() < tagCount) {
+            labels.add(new Label());
+        }
+
+        int i = 0;
+        for (Tag tag : person.getSubjectTags()) {
+            ((Label) labels.get(i++)).setText(tag.tagName);
+        }
+        for (Tag tag : person.getSessionTags()) {
+            ((Label) labels.get(i++)).setText(tag.tagName);
+        }
     }
 
     /**
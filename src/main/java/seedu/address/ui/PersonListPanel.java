@@ -2,14 +2,18 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Scene;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.PersonListRefreshedEvent;
 import seedu.address.model.person.Person;
 
 /**
@@ -20,6 +24,13 @@ public class PersonListPanel extends UiPart<Region> {
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
 
     private final MainWindow mainWindow;
+    private final Runnable commitRefresh = this::commitRefresh;
+
+    // The refresh being timed until the panel is next laid out, if any
+    private PersonListRefreshedEvent pendingRefresh;
+    private Scene pendingRefreshScene;
+    private int pendingAddedCount;
+    private int pendingRemovedCount;
 
     @FXML
     private ListView<Person> personListView;
@@ -32,9 +43,49 @@ public class PersonListPanel extends UiPart<Region> {
         this.mainWindow = mainWindow;
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
+        personList.addListener(this::recordRefresh);
         setupKeyboardNavigation();
     }
 
+    /**
+     * Begins a {@code PersonListRefreshedEvent} for a change to the displayed persons, if Flight Recorder wants it,
+     * to be committed once the panel has been laid out again. Changes made before then are counted in the same event.
+     */
+    private void recordRefresh(ListChangeListener.Change<? extends Person> change) {
+        if (pendingRefresh == null) {
+            PersonListRefreshedEvent event = new PersonListRefreshedEvent();
+            Scene scene = personListView.getScene();
+            if (!event.isEnabled() || scene == null) {
+                return; // not recorded, or not shown
+            }
+            event.begin();
+            pendingRefresh = event;
+            pendingRefreshScene = scene;
+            pendingAddedCount = 0;
+            pendingRemovedCount = 0;
+            scene.addPostLayoutPulseListener(commitRefresh);
+            Platform.requestNextPulse();
+        }
+
+        while (change.next()) {
+            pendingAddedCount += change.getAddedSize();
+            pendingRemovedCount += change.getRemovedSize();
+        }
+    }
+
+    /**
+     * Commits the pending {@code PersonListRefreshedEvent}, after the pulse that laid out the changed persons.
+     */
+    private void commitRefresh() {
+        pendingRefreshScene.removePostLayoutPulseListener(commitRefresh);
+        pendingRefresh.setAddedCount(pendingAddedCount);
+        pendingRefresh.setRemovedCount(pendingRemovedCount);
+        pendingRefresh.setDisplayedCount(personListView.getItems().size());
+        pendingRefresh.commit();
+        pendingRefresh = null;
+        pendingRefreshScene = null;
+    }
+
     /**
      * Sets up keyboard navigation for the person list.
      */
@@ -59,14 +110,9 @@ public class PersonListPanel extends UiPart<Region> {
                 event.consume(); // Prevent default behavior
             }
         } else if (keyCode == KeyCode.UP || keyCode == KeyCode.DOWN) {
-            // Let ListView handle the navigation first
-            // Then update the detailed view after a short delay
-            javafx.application.Platform.runLater(() -> {
-                Person selectedPerson = personListView.getSelectionModel().getSelectedItem();
-                if (selectedPerson != null) {
-                    mainWindow.updateDetailedView(selectedPerson);
-                }
-            });
+            // The ListView moves the selection after this handler, so the detailed view reads it on the next pulse.
+            // Holding the key down then only shows the person the selection ends up on in that pulse.
+            mainWindow.updateDetailedViewToSelection();
         }
         // Typing key handling is now done globally in MainWindow
     }
@@ -85,12 +131,7 @@ public class PersonListPanel extends UiPart<Region> {
         personListView.requestFocus();
         if (!personListView.getItems().isEmpty()) {
             personListView.getSelectionModel().selectFirst();
-            javafx.application.Platform.runLater(() -> {
-                Person selectedPerson = personListView.getSelectionModel().getSelectedItem();
-                if (selectedPerson != null) {
-                    mainWindow.updateDetailedView(selectedPerson);
-                }
-            });
+            mainWindow.updateDetailedViewToSelection();
         }
     }
 
@@ -117,8 +158,11 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Each cell loads its card once and rebinds it as the cell is reused for other persons.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -126,9 +170,14 @@ public class PersonListPanel extends UiPart<Region> {
             if (empty || person == null) {
                 setGraphic(null);
                 setText(null);
-            } else {
-                setGraphic(new PersonCard(person, getIndex() + 1, mainWindow).getRoot());
+                return;
+            }
+
+            if (personCard == null) {
+                personCard = new PersonCard(mainWindow);
             }
+            personCard.setPerson(person, getIndex() + 1);
+            setGraphic(personCard.getRoot());
         }
     }
 
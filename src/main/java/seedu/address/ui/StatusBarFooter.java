@@ -6,6 +6,7 @@ import java.nio.file.Paths;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.logic.CommandExecutionService.Phase;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -16,6 +17,8 @@ public class StatusBarFooter extends UiPart<Region> {
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label commandStatus;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
@@ -25,4 +28,34 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows whether the data file is still being loaded.
+     */
+    public void setLoading(boolean isLoading) {
+        commandStatus.setText(isLoading ? "Loading data..." : "");
+    }
+
+    /**
+     * Shows the progress of the command {@code commandText}, which has entered {@code phase}.
+     *
+     * @param pendingCount The number of commands that have not finished.
+     */
+    public void setCommandProgress(String commandText, Phase phase, int pendingCount) {
+        switch (phase) {
+        case QUEUED:
+        case PARSING:
+            commandStatus.setText(pendingCount + " command(s) pending (Esc to cancel)");
+            break;
+        case EXECUTING:
+            commandStatus.setText("Running: " + commandText);
+            break;
+        case SAVING:
+            commandStatus.setText("Saving...");
+            break;
+        default:
+            commandStatus.setText(pendingCount > 0 ? pendingCount + " command(s) pending (Esc to cancel)" : "");
+            break;
+        }
+    }
+
 }
@@ -0,0 +1,246 @@
+package seedu.address.ui;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import javafx.application.Platform;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableMap;
+import javafx.fxml.FXML;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+import seedu.address.model.person.Session;
+
+/**
+ * A week-at-a-glance timetable of every weekly session, Monday to Sunday from 0800 to 2200.
+ *
+ * The whole week is painted onto one {@code Canvas} the size of the panel, so its cost does not grow with the
+ * number of scene graph nodes. When attendee counts change, only the cells of the sessions that changed are
+ * repainted, once per pulse; the whole week is only repainted when the panel is resized or many sessions change
+ * at once, e.g. when the address book is replaced.
+ */
+public class TimetablePanel extends UiPart<Region> {
+
+    private static final String FXML = "TimetablePanel.fxml";
+
+    private static final LocalTime FIRST_TIME = Session.EARLIEST_START_TIME;
+    private static final int MINUTES_SHOWN = minutesOf(Session.LATEST_END_TIME);
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int DAYS_SHOWN = 7;
+
+    private static final double TIME_GUTTER_WIDTH = 40;
+    private static final double DAY_HEADER_HEIGHT = 20;
+    private static final double SESSION_INSET = 1;
+    private static final double MIN_LABEL_HEIGHT = 12;
+
+    /** Beyond this many changed sessions in one pulse, repainting the whole week is cheaper. */
+    private static final int MAX_DIRTY_REGIONS = 64;
+
+    private static final Color BACKGROUND_COLOR = Color.web("#232323");
+    private static final Color GRID_COLOR = Color.web("#2e2e2e");
+    private static final Color LABEL_COLOR = Color.web("#d4d4d7");
+    private static final Color SESSION_COLOR = Color.web("#4299e1");
+    private static final Font LABEL_FONT = Font.font(10);
+
+    @FXML
+    private Canvas canvas;
+
+    private final Map<DayOfWeek, NavigableMap<Session, Integer>> sessionsByDay = new EnumMap<>(DayOfWeek.class);
+    private final List<Session> dirtySessions = new ArrayList<>();
+    private boolean isFullRepaintNeeded = true;
+    private boolean isRepaintScheduled;
+
+    /**
+     * Creates a {@code TimetablePanel} that shows {@code sessionCounts} and follows its changes.
+     */
+    public TimetablePanel(ObservableMap<Session, Integer> sessionCounts) {
+        super(FXML);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            sessionsByDay.put(day, new TreeMap<>());
+        }
+        sessionCounts.forEach((session, count) -> sessionsByDay.get(session.getDayOfWeek()).put(session, count));
+        sessionCounts.addListener(this::handleSessionCountChange);
+
+        canvas.widthProperty().bind(getRoot().widthProperty());
+        canvas.heightProperty().bind(getRoot().heightProperty());
+        canvas.widthProperty().addListener((unused1, unused2, unused3) -> requestFullRepaint());
+        canvas.heightProperty().addListener((unused1, unused2, unused3) -> requestFullRepaint());
+        requestFullRepaint();
+    }
+
+    private void handleSessionCountChange(MapChangeListener.Change<? extends Session, ? extends Integer> change) {
+        Session session = change.getKey();
+        NavigableMap<Session, Integer> sessionsOnDay = sessionsByDay.get(session.getDayOfWeek());
+        if (change.wasAdded()) {
+            sessionsOnDay.put(session, change.getValueAdded());
+        } else {
+            sessionsOnDay.remove(session);
+        }
+
+        if (!isFullRepaintNeeded) {
+            if (dirtySessions.size() < MAX_DIRTY_REGIONS) {
+                dirtySessions.add(session);
+            } else {
+                isFullRepaintNeeded = true;
+                dirtySessions.clear();
+            }
+        }
+        scheduleRepaint();
+    }
+
+    private void requestFullRepaint() {
+        isFullRepaintNeeded = true;
+        dirtySessions.clear();
+        scheduleRepaint();
+    }
+
+    /**
+     * Repaints once all the changes made in this pulse are in.
+     */
+    private void scheduleRepaint() {
+        if (isRepaintScheduled) {
+            return;
+        }
+        isRepaintScheduled = true;
+        Platform.runLater(this::repaint);
+    }
+
+    private void repaint() {
+        isRepaintScheduled = false;
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        if (isFullRepaintNeeded) {
+            isFullRepaintNeeded = false;
+            paintWeek(gc);
+            return;
+        }
+
+        for (Session session : dirtySessions) {
+            paintTimeRange(gc, session.getDayOfWeek(), minutesOf(session.getStartTime()),
+                    minutesOf(session.getEndTime()));
+        }
+        dirtySessions.clear();
+    }
+
+    private void paintWeek(GraphicsContext gc) {
+        gc.setFill(BACKGROUND_COLOR);
+        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        if (getDayWidth() <= 0 || getMinuteHeight() <= 0) {
+            return;
+        }
+
+        gc.setFont(LABEL_FONT);
+        gc.setFill(LABEL_COLOR);
+        gc.setTextBaseline(VPos.CENTER);
+        gc.setTextAlign(TextAlignment.CENTER);
+        for (int day = 0; day < DAYS_SHOWN; day++) {
+            gc.fillText(Session.DAY_OF_WEEKS.get(day), xOf(day) + getDayWidth() / 2, DAY_HEADER_HEIGHT / 2);
+        }
+        gc.setTextAlign(TextAlignment.RIGHT);
+        for (int minutes = 0; minutes < MINUTES_SHOWN; minutes += MINUTES_PER_HOUR) {
+            gc.fillText(FIRST_TIME.plusMinutes(minutes).format(Session.SESSION_FORMATTER),
+                    TIME_GUTTER_WIDTH - 4, yOf(minutes) + LABEL_FONT.getSize() / 2);
+        }
+
+        for (DayOfWeek day : DayOfWeek.values()) {
+            paintTimeRange(gc, day, 0, MINUTES_SHOWN);
+        }
+    }
+
+    /**
+     * Repaints the cell of {@code day} from {@code fromMinutes} to {@code toMinutes} after the first time shown,
+     * including every session that shows within it.
+     */
+    private void paintTimeRange(GraphicsContext gc, DayOfWeek day, int fromMinutes, int toMinutes) {
+        double x = xOf(day.getValue() - 1);
+        double top = Math.max(DAY_HEADER_HEIGHT, yOf(fromMinutes) - SESSION_INSET);
+        double bottom = Math.min(canvas.getHeight(), yOf(toMinutes) + SESSION_INSET);
+        if (getDayWidth() <= 0 || bottom <= top) {
+            return;
+        }
+
+        gc.save();
+        gc.beginPath();
+        gc.rect(x, top, getDayWidth(), bottom - top);
+        gc.clip();
+
+        gc.setFill(BACKGROUND_COLOR);
+        gc.fillRect(x, top, getDayWidth(), bottom - top);
+        gc.setStroke(GRID_COLOR);
+        gc.setLineWidth(1);
+        gc.strokeLine(x + 0.5, top, x + 0.5, bottom);
+        for (int minutes = 0; minutes <= MINUTES_SHOWN; minutes += MINUTES_PER_HOUR) {
+            double y = Math.floor(yOf(minutes)) + 0.5;
+            if (y >= top && y <= bottom) {
+                gc.strokeLine(x, y, x + getDayWidth(), y);
+            }
+        }
+
+        for (Map.Entry<Session, Integer> entry : sessionsByDay.get(day).entrySet()) {
+            Session session = entry.getKey();
+            double sessionTop = yOf(minutesOf(session.getStartTime()));
+            if (sessionTop > bottom) {
+                break; // sessions are in order of start time
+            }
+            if (yOf(minutesOf(session.getEndTime())) >= top) {
+                paintSession(gc, session, entry.getValue());
+            }
+        }
+        gc.restore();
+    }
+
+    private void paintSession(GraphicsContext gc, Session session, int attendeeCount) {
+        double x = xOf(session.getDayOfWeek().getValue() - 1) + SESSION_INSET;
+        double y = yOf(minutesOf(session.getStartTime())) + SESSION_INSET;
+        double width = getDayWidth() - 2 * SESSION_INSET;
+        double height = yOf(minutesOf(session.getEndTime())) - SESSION_INSET - y;
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+
+        // More attendees, more opaque
+        gc.setFill(SESSION_COLOR.deriveColor(0, 1, 1, Math.min(1, 0.35 + 0.15 * attendeeCount)));
+        gc.fillRect(x, y, width, height);
+
+        if (height < MIN_LABEL_HEIGHT) {
+            return;
+        }
+        gc.setFont(LABEL_FONT);
+        gc.setFill(LABEL_COLOR);
+        gc.setTextAlign(TextAlignment.LEFT);
+        gc.setTextBaseline(VPos.TOP);
+        String label = session.getStartTime().format(Session.SESSION_FORMATTER) + " (" + attendeeCount + ")";
+        gc.fillText(label, x + 2, y + 1, width - 4);
+    }
+
+    private double getDayWidth() {
+        return (canvas.getWidth() - TIME_GUTTER_WIDTH) / DAYS_SHOWN;
+    }
+
+    private double getMinuteHeight() {
+        return (canvas.getHeight() - DAY_HEADER_HEIGHT) / MINUTES_SHOWN;
+    }
+
+    private double xOf(int dayIndex) {
+        return TIME_GUTTER_WIDTH + dayIndex * getDayWidth();
+    }
+
+    private double yOf(int minutes) {
+        return DAY_HEADER_HEIGHT + minutes * getMinuteHeight();
+    }
+
+    private static int minutesOf(LocalTime time) {
+        return (int) Duration.between(FIRST_TIME, time).toMinutes();
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.ui;
 
 import javafx.stage.Stage;
+import seedu.address.model.AddressBookDiff;
 
 /**
  * API of UI component
@@ -10,4 +11,18 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /**
+     * Lets the user run commands now that the address book has been loaded in the background.
+     * Warns the user first if {@code hasFileLoadError}, i.e. the app started with an empty address book instead.
+     */
+    void showAddressBookLoaded(boolean hasFileLoadError);
+
+    /**
+     * Tells the user that the changes in {@code diff}, made to the data file outside the app, have been loaded.
+     */
+    void showDataFileMerged(AddressBookDiff diff);
+
+    /** Stops the UI, letting any command that is being saved finish. */
+    void stop();
+
 }
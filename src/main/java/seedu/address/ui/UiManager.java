@@ -11,7 +11,9 @@ import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandExecutionService;
 import seedu.address.logic.Logic;
+import seedu.address.model.AddressBookDiff;
 
 /**
  * The manager of the UI component.
@@ -24,15 +26,16 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
     private Logic logic;
+    private CommandExecutionService commandExecutionService;
     private MainWindow mainWindow;
-    private boolean hasFileLoadError;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, which runs commands through
+     * {@code commandExecutionService}.
      */
-    public UiManager(Logic logic, boolean hasFileLoadError) {
+    public UiManager(Logic logic, CommandExecutionService commandExecutionService) {
         this.logic = logic;
-        this.hasFileLoadError = hasFileLoadError;
+        this.commandExecutionService = commandExecutionService;
     }
 
     @Override
@@ -43,22 +46,44 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, commandExecutionService);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
-
-            if (hasFileLoadError) {
-                showAlertDialogAndWait(AlertType.WARNING, "File Load Error", "",
-                        "An error was encountered while loading the data file, "
-                        + "the app will be initialised with an empty address book.");
-            }
-
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
             showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
         }
     }
 
+    @Override
+    public void showAddressBookLoaded(boolean hasFileLoadError) {
+        if (mainWindow == null) {
+            return;
+        }
+        mainWindow.setAddressBookLoaded();
+
+        if (hasFileLoadError) {
+            showAlertDialogAndWait(AlertType.WARNING, "File Load Error", "",
+                    "An error was encountered while loading the data file, "
+                    + "the app will be initialised with an empty address book.");
+        }
+    }
+
+    @Override
+    public void showDataFileMerged(AddressBookDiff diff) {
+        if (mainWindow == null) {
+            return;
+        }
+        mainWindow.showDataFileMerged(diff);
+    }
+
+    @Override
+    public void stop() {
+        if (mainWindow != null) {
+            mainWindow.stop();
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.URL;
 
@@ -11,6 +12,7 @@ import seedu.address.MainApp;
 /**
  * Represents a distinct part of the UI. e.g. Windows, dialogs, panels, status bars, etc.
  * It contains a scene graph with a root node of type {@code T}.
+ * The FXML document is read from {@link FxmlCache}, so parts built from the same document only read it once.
  */
 public abstract class UiPart<T> {
 
@@ -69,7 +71,7 @@ public abstract class UiPart<T> {
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
         try {
-            fxmlLoader.load();
+            fxmlLoader.load(new ByteArrayInputStream(FxmlCache.getDocument(location)));
         } catch (IOException e) {
             throw new AssertionError(e);
         }
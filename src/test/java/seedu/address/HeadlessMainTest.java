@@ -0,0 +1,197 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.ScriptException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonUtil;
+
+public class HeadlessMainTest {
+
+    // add commands do not carry tags
+    private static final Person AMY_UNTAGGED = new PersonBuilder(AMY).withTags().build();
+    private static final Person BOB_UNTAGGED = new PersonBuilder(BOB).withTags().build();
+
+    @TempDir
+    public Path testFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private Path configFile;
+    private Path dataFile;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        configFile = testFolder.resolve("config.json");
+        dataFile = testFolder.resolve("data.json");
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(testFolder.resolve("preferences.json"));
+        ConfigUtil.saveConfig(config, configFile);
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(dataFile);
+        new JsonUserPrefsStorage(config.getUserPrefsFilePath()).saveUserPrefs(userPrefs);
+
+        new JsonAddressBookStorage(dataFile).saveAddressBook(getTypicalAddressBook());
+    }
+
+    @Test
+    public void run_noCommand_printsUsage() {
+        assertEquals(HeadlessMain.EXIT_USAGE, run());
+        assertEquals(HeadlessMain.EXIT_USAGE, run(HeadlessMain.OPTION_CONFIG + configFile));
+        assertEquals(HeadlessMain.EXIT_USAGE, run(HeadlessMain.OPTION_CONFIG + configFile,
+                HeadlessMain.OPTION_SCRIPT));
+        assertEquals(HeadlessMain.EXIT_USAGE, run(HeadlessMain.OPTION_CONFIG + configFile,
+                HeadlessMain.OPTION_SCRIPT, "script.txt", "extra"));
+        assertEquals(HeadlessMain.EXIT_USAGE, run(HeadlessMain.OPTION_CONFIG + configFile,
+                HeadlessMain.OPTION_SERVE));
+        assertEquals(HeadlessMain.EXIT_USAGE, run(HeadlessMain.OPTION_CONFIG + configFile,
+                HeadlessMain.OPTION_SERVE, "http"));
+        assertEquals(HeadlessMain.EXIT_USAGE, run(HeadlessMain.OPTION_CONFIG + configFile,
+                HeadlessMain.OPTION_EXPORT));
+        assertTrue(errText().startsWith(HeadlessMain.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void run_validCommand_printsResultAndSaves() throws Exception {
+        assertEquals(HeadlessMain.EXIT_SUCCESS, run(HeadlessMain.OPTION_CONFIG + configFile, ListCommand.COMMAND_WORD));
+        assertEquals(ListCommand.MESSAGE_SUCCESS, outText().strip());
+
+        String[] addCommand = PersonUtil.getAddCommand(AMY_UNTAGGED).split(" ");
+        String[] args = new String[addCommand.length + 1];
+        args[0] = HeadlessMain.OPTION_CONFIG + configFile;
+        System.arraycopy(addCommand, 0, args, 1, addCommand.length);
+        assertEquals(HeadlessMain.EXIT_SUCCESS, run(args));
+        assertTrue(readDataFile().getPersonList().contains(AMY_UNTAGGED));
+    }
+
+    @Test
+    public void run_query_doesNotRewriteDataFile() throws Exception {
+        FileTime lastModified = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(dataFile, lastModified);
+
+        assertEquals(HeadlessMain.EXIT_SUCCESS, run(HeadlessMain.OPTION_CONFIG + configFile, ListCommand.COMMAND_WORD));
+        assertEquals(lastModified, Files.getLastModifiedTime(dataFile));
+    }
+
+    @Test
+    public void run_invalidCommand_printsErrorAndLeavesDataFile() throws Exception {
+        String before = Files.readString(dataFile);
+        assertEquals(HeadlessMain.EXIT_FAILURE, run(HeadlessMain.OPTION_CONFIG + configFile, "notacommand"));
+        assertEquals(Messages.MESSAGE_UNKNOWN_COMMAND, errText().strip());
+        assertEquals(before, Files.readString(dataFile));
+    }
+
+    @Test
+    public void run_script_runsEveryCommand() throws Exception {
+        Path script = Files.write(testFolder.resolve("script.txt"),
+                List.of(PersonUtil.getAddCommand(AMY_UNTAGGED), PersonUtil.getAddCommand(BOB_UNTAGGED)));
+
+        assertEquals(HeadlessMain.EXIT_SUCCESS, run(HeadlessMain.OPTION_CONFIG + configFile,
+                HeadlessMain.OPTION_SCRIPT, script.toString()));
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2, script), outText().strip());
+
+        List<Person> persons = readDataFile().getPersonList();
+        assertTrue(persons.contains(AMY_UNTAGGED));
+        assertTrue(persons.contains(BOB_UNTAGGED));
+    }
+
+    @Test
+    public void run_failingScript_keepsEarlierChangesAndFails() throws Exception {
+        Path script = Files.write(testFolder.resolve("script.txt"),
+                List.of(PersonUtil.getAddCommand(AMY_UNTAGGED), "notacommand", PersonUtil.getAddCommand(BOB_UNTAGGED)));
+
+        assertEquals(HeadlessMain.EXIT_FAILURE, run(HeadlessMain.OPTION_CONFIG + configFile,
+                HeadlessMain.OPTION_SCRIPT, script.toString()));
+        String lineFailure = String.format(ScriptException.MESSAGE_LINE_FAILED, 2, Messages.MESSAGE_UNKNOWN_COMMAND);
+        assertEquals(String.format(RunCommand.MESSAGE_STOPPED, 1, script, lineFailure), errText().strip());
+        assertEquals("", outText());
+
+        List<Person> persons = readDataFile().getPersonList();
+        assertTrue(persons.contains(AMY_UNTAGGED));
+        assertFalse(persons.contains(BOB_UNTAGGED));
+    }
+
+    @Test
+    public void run_failingAtomicScript_keepsNoChanges() throws Exception {
+        Path script = Files.write(testFolder.resolve("script.txt"),
+                List.of(PersonUtil.getAddCommand(AMY_UNTAGGED), "notacommand"));
+
+        assertEquals(HeadlessMain.EXIT_FAILURE, run(HeadlessMain.OPTION_CONFIG + configFile,
+                HeadlessMain.OPTION_SCRIPT, script.toString(), HeadlessMain.OPTION_ATOMIC));
+        assertFalse(readDataFile().getPersonList().contains(AMY_UNTAGGED));
+    }
+
+    @Test
+    public void run_unreadableDataFile_changesNothing() throws Exception {
+        Files.writeString(dataFile, "not json");
+
+        assertEquals(HeadlessMain.EXIT_FAILURE, run(HeadlessMain.OPTION_CONFIG + configFile, ListCommand.COMMAND_WORD));
+        assertEquals(String.format(HeadlessMain.MESSAGE_LOAD_ERROR, dataFile), errText().strip());
+        assertEquals("not json", Files.readString(dataFile));
+    }
+
+    @Test
+    public void run_export_writesFileAndFolder() throws Exception {
+        Path exportFile = testFolder.resolve("export.json");
+        assertEquals(HeadlessMain.EXIT_SUCCESS, run(HeadlessMain.OPTION_CONFIG + configFile,
+                HeadlessMain.OPTION_EXPORT, exportFile.toString()));
+        int size = getTypicalAddressBook().getPersonList().size();
+        assertEquals(String.format(HeadlessMain.MESSAGE_EXPORTED, size, exportFile), outText().strip());
+        assertEquals(getTypicalAddressBook().getPersonList(),
+                new JsonAddressBookStorage(exportFile).readAddressBook().orElseThrow().getPersonList());
+
+        Path exportFolder = testFolder.resolve("export");
+        assertEquals(HeadlessMain.EXIT_SUCCESS, run(HeadlessMain.OPTION_CONFIG + configFile,
+                HeadlessMain.OPTION_EXPORT, exportFolder.toString()));
+        assertEquals(getTypicalAddressBook().getPersonList(),
+                new ShardedAddressBookStorage(exportFolder).readAddressBook().orElseThrow().getPersonList());
+    }
+
+    private int run(String... args) {
+        return HeadlessMain.run(args, new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    private String outText() {
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private String errText() {
+        return err.toString(StandardCharsets.UTF_8);
+    }
+
+    private ReadOnlyAddressBook readDataFile() throws Exception {
+        return new JsonAddressBookStorage(dataFile).readAddressBook().orElseThrow();
+    }
+}
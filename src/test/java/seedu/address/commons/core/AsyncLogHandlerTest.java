@@ -0,0 +1,143 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogHandler(0));
+    }
+
+    @Test
+    public void flush_publishedRecords_writtenInOrderOnWriterThread() {
+        RecordingHandler delegate = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(128, delegate);
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(100, delegate.messages().size());
+        assertEquals("message 0", delegate.messages().get(0));
+        assertEquals("message 99", delegate.messages().get(99));
+        assertTrue(delegate.isFlushed);
+        assertNotEquals(Thread.currentThread().getName(), delegate.writerThreadName);
+        handler.close();
+    }
+
+    @Test
+    public void publish_bufferFull_dropsInfoKeepsWarningsAndReportsDrops() throws Exception {
+        BlockingHandler delegate = new BlockingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(1, delegate);
+
+        handler.publish(new LogRecord(Level.INFO, "taken by writer"));
+        assertTrue(delegate.isWriting.await(5, TimeUnit.SECONDS));
+        handler.publish(new LogRecord(Level.INFO, "buffered"));
+        handler.publish(new LogRecord(Level.INFO, "dropped"));
+        assertEquals(1, handler.getDroppedCount());
+
+        // A warning waits for space instead of being dropped
+        Thread warningThread = new Thread(() -> handler.publish(new LogRecord(Level.WARNING, "warning")));
+        warningThread.start();
+        delegate.release.countDown();
+        warningThread.join(5000);
+        handler.close();
+
+        List<String> messages = delegate.messages();
+        assertEquals("taken by writer", messages.get(0));
+        assertEquals("buffered", messages.get(2));
+        assertTrue(messages.get(1).startsWith("Dropped 1 log record(s)"));
+        assertTrue(messages.contains("warning"));
+        assertTrue(!messages.contains("dropped"));
+    }
+
+    @Test
+    public void close_bufferedRecords_writesThemBeforeClosingDelegates() {
+        RecordingHandler delegate = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, delegate);
+        handler.publish(new LogRecord(Level.INFO, "last words"));
+        handler.close();
+
+        assertEquals(List.of("last words"), delegate.messages());
+        assertTrue(delegate.isClosed);
+
+        // records published after closing are ignored
+        handler.publish(new LogRecord(Level.SEVERE, "too late"));
+        handler.flush();
+        assertEquals(List.of("last words"), delegate.messages());
+    }
+
+    @Test
+    public void publish_belowHandlerLevel_ignored() {
+        RecordingHandler delegate = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, delegate);
+        handler.setLevel(Level.WARNING);
+        handler.publish(new LogRecord(Level.INFO, "ignored"));
+        handler.close();
+        assertTrue(delegate.messages().isEmpty());
+    }
+
+    /**
+     * Remembers the records it is given.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        private volatile String writerThreadName;
+        private volatile boolean isFlushed;
+        private volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            writerThreadName = Thread.currentThread().getName();
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+            isFlushed = true;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+
+        List<String> messages() {
+            return records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Blocks while writing its first record until released.
+     */
+    private static class BlockingHandler extends RecordingHandler {
+        private final CountDownLatch isWriting = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void publish(LogRecord record) {
+            super.publish(record);
+            isWriting.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
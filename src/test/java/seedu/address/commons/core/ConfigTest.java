@@ -6,13 +6,17 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.FileUtil;
+
 public class ConfigTest {
 
     @Test
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", dataCompressionLevel=" + config.getDataCompressionLevel()
+                + ", dataKeyFilePath=" + config.getDataKeyFilePath().orElse(null) + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -23,5 +27,20 @@ public class ConfigTest {
         assertTrue(defaultConfig.equals(defaultConfig));
     }
 
+    @Test
+    public void getDataCompressionLevel() {
+        Config config = new Config();
+        assertEquals(FileUtil.NO_COMPRESSION, config.getDataCompressionLevel());
+
+        config.setDataCompressionLevel(9);
+        assertEquals(9, config.getDataCompressionLevel());
+
+        // out of range -> uncompressed
+        config.setDataCompressionLevel(10);
+        assertEquals(FileUtil.NO_COMPRESSION, config.getDataCompressionLevel());
+        config.setDataCompressionLevel(-1);
+        assertEquals(FileUtil.NO_COMPRESSION, config.getDataCompressionLevel());
+    }
+
 
 }
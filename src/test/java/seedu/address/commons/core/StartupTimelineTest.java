@@ -0,0 +1,55 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupTimelineTest {
+
+    @Test
+    public void time_supplier_returnsResultAndRecordsPhase() {
+        StartupTimeline timeline = new StartupTimeline();
+        int result = timeline.time("answer", () -> 42);
+        assertEquals(42, result);
+        assertEquals(List.of("answer"), timeline.getFinishedPhaseNames());
+    }
+
+    @Test
+    public void time_stepThrows_stillRecordsPhase() {
+        StartupTimeline timeline = new StartupTimeline();
+        assertThrows(IllegalStateException.class, () -> timeline.time("failing", () -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(List.of("failing"), timeline.getFinishedPhaseNames());
+    }
+
+    @Test
+    public void getFinishedPhaseNames_phasesOnSeveralThreads_orderedByStart() throws Exception {
+        StartupTimeline timeline = new StartupTimeline();
+        long outerStart = System.nanoTime();
+        Thread background = new Thread(() -> timeline.time("background", () -> { }));
+        background.start();
+        background.join();
+        timeline.time("after", () -> { });
+        timeline.finish("outer", outerStart);
+
+        assertEquals(List.of("outer", "background", "after"), timeline.getFinishedPhaseNames());
+    }
+
+    @Test
+    public void summarize_listsEveryPhaseWithItsThread() {
+        StartupTimeline timeline = new StartupTimeline();
+        timeline.time("config", () -> { });
+        timeline.time("user prefs", () -> { });
+
+        String summary = timeline.summarize();
+        assertTrue(summary.contains("config"));
+        assertTrue(summary.contains("user prefs"));
+        assertTrue(summary.contains("[" + Thread.currentThread().getName() + "]"));
+        assertTrue(summary.indexOf("config") < summary.indexOf("user prefs"));
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexSelectionTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> IndexSelection.of(null));
+    }
+
+    @Test
+    public void range_lastBeforeFirst_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                IndexSelection.range(Index.fromOneBased(2), Index.fromOneBased(1)));
+    }
+
+    @Test
+    public void isSingle() {
+        assertTrue(IndexSelection.of(Index.fromOneBased(2)).isSingle());
+        assertTrue(IndexSelection.range(Index.fromOneBased(2), Index.fromOneBased(2)).isSingle());
+        assertFalse(IndexSelection.range(Index.fromOneBased(2), Index.fromOneBased(3)).isSingle());
+        assertFalse(IndexSelection.all().isSingle());
+    }
+
+    @Test
+    public void isWithin() {
+        IndexSelection second = IndexSelection.of(Index.fromOneBased(2));
+        assertTrue(second.isWithin(2));
+        assertFalse(second.isWithin(1));
+
+        IndexSelection secondToFourth = IndexSelection.range(Index.fromOneBased(2), Index.fromOneBased(4));
+        assertTrue(secondToFourth.isWithin(4));
+        assertFalse(secondToFourth.isWithin(3));
+
+        // every entry of any list, even an empty one
+        assertTrue(IndexSelection.all().isWithin(0));
+        assertTrue(IndexSelection.all().isWithin(5));
+    }
+
+    @Test
+    public void resolve() {
+        assertEquals(List.of(Index.fromOneBased(2)), IndexSelection.of(Index.fromOneBased(2)).resolve(3));
+        assertEquals(List.of(Index.fromOneBased(1), Index.fromOneBased(2), Index.fromOneBased(3)),
+                IndexSelection.all().resolve(3));
+        assertEquals(List.of(), IndexSelection.all().resolve(0));
+        assertEquals(List.of(Index.fromOneBased(2), Index.fromOneBased(3)),
+                IndexSelection.range(Index.fromOneBased(2), Index.fromOneBased(3)).resolve(5));
+    }
+
+    @Test
+    public void equals() {
+        IndexSelection first = IndexSelection.of(Index.fromOneBased(1));
+
+        // same values -> returns true
+        assertTrue(first.equals(IndexSelection.of(Index.fromZeroBased(0))));
+        assertTrue(IndexSelection.all().equals(IndexSelection.all()));
+        assertTrue(first.equals(IndexSelection.range(Index.fromOneBased(1), Index.fromOneBased(1))));
+
+        // same object -> returns true
+        assertTrue(first.equals(first));
+
+        // null -> returns false
+        assertFalse(first.equals(null));
+
+        // different types -> returns false
+        assertFalse(first.equals(Index.fromOneBased(1)));
+
+        // different values -> returns false
+        assertFalse(first.equals(IndexSelection.of(Index.fromOneBased(2))));
+        assertFalse(first.equals(IndexSelection.all()));
+        assertFalse(first.equals(IndexSelection.range(Index.fromOneBased(1), Index.fromOneBased(2))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Index index = Index.fromOneBased(1);
+        assertEquals(IndexSelection.class.getCanonicalName() + "{index=" + index + "}",
+                IndexSelection.of(index).toString());
+        assertEquals(IndexSelection.class.getCanonicalName() + "{index=all}", IndexSelection.all().toString());
+        Index last = Index.fromOneBased(3);
+        assertEquals(IndexSelection.class.getCanonicalName() + "{first=" + index + ", last=" + last + "}",
+                IndexSelection.range(index, last).toString());
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.commons.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class FlightRecorderEventsTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void execute_findCommand_emitsCommandFilterSaveAndLoadEvents() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        LogicManager logic = new LogicManager(new ModelManager(getTypicalAddressBook(), new UserPrefs()), storage);
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(CommandExecutedEvent.class);
+            recording.enable(FilterAppliedEvent.class);
+            recording.enable(AddressBookSavedEvent.class);
+            recording.enable(AddressBookLoadedEvent.class);
+            recording.start();
+
+            logic.execute(FindCommand.COMMAND_WORD + " Meier");
+            addressBookStorage.readAddressBook();
+
+            recording.stop();
+            Path recordingFile = temporaryFolder.resolve("events.jfr");
+            recording.dump(recordingFile);
+            events = RecordingFile.readAllEvents(recordingFile);
+        }
+
+        RecordedEvent commandExecuted = onlyEvent(events, "seedu.address.CommandExecuted");
+        assertEquals(FindCommand.COMMAND_WORD, commandExecuted.getString("commandWord"));
+        assertTrue(commandExecuted.getBoolean("succeeded"));
+        assertTrue(commandExecuted.getInt("resultSize") > 0);
+
+        RecordedEvent filterApplied = onlyEvent(events, "seedu.address.FilterApplied");
+        assertEquals(2, filterApplied.getInt("matchedCount"));
+        assertEquals(getTypicalAddressBook().getPersonList().size(), filterApplied.getInt("totalCount"));
+
+        int personCount = getTypicalAddressBook().getPersonList().size();
+        RecordedEvent saved = onlyEvent(events, "seedu.address.AddressBookSaved");
+        assertEquals(personCount, saved.getInt("persons"));
+        assertTrue(saved.getLong("bytes") > 0);
+        RecordedEvent loaded = onlyEvent(events, "seedu.address.AddressBookLoaded");
+        assertEquals(personCount, loaded.getInt("persons"));
+        assertEquals(saved.getLong("bytes"), loaded.getLong("bytes"));
+    }
+
+    private static RecordedEvent onlyEvent(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+        assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class EncryptionUtilTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void openForEncrypting_variousLengths_readBackUnchanged() throws IOException {
+        SecretKey key = new KeyFile(testFolder.resolve("key")).getKey();
+        int[] lengths = {0, 1, EncryptionUtil.CHUNK_SIZE, EncryptionUtil.CHUNK_SIZE + 1,
+            3 * EncryptionUtil.CHUNK_SIZE + 100};
+        for (int length : lengths) {
+            byte[] content = content(length);
+            Path file = testFolder.resolve(length + ".json");
+            write(file, key, content);
+            assertTrue(EncryptionUtil.isEncrypted(file));
+            assertArrayEquals(content, read(file, key));
+            // The file is read the same through FileUtil, which tells it is encrypted
+            try (InputStream in = FileUtil.openForReading(file, key)) {
+                assertArrayEquals(content, in.readAllBytes());
+            }
+        }
+    }
+
+    @Test
+    public void isEncrypted_plainFile_returnsFalse() throws IOException {
+        assertFalse(EncryptionUtil.isEncrypted(Files.write(testFolder.resolve("plain.json"), content(100))));
+        assertFalse(EncryptionUtil.isEncrypted(Files.write(testFolder.resolve("empty.json"), new byte[0])));
+    }
+
+    @Test
+    public void openForDecrypting_wrongKey_throwsIOException() throws IOException {
+        Path file = testFolder.resolve("data.json");
+        write(file, new KeyFile(testFolder.resolve("key")).getKey(), content(100));
+        SecretKey otherKey = new KeyFile(testFolder.resolve("otherKey")).getKey();
+        assertThrows(IOException.class, () -> read(file, otherKey));
+    }
+
+    @Test
+    public void openForDecrypting_changedFile_throwsIOException() throws IOException {
+        SecretKey key = new KeyFile(testFolder.resolve("key")).getKey();
+        Path file = testFolder.resolve("data.json");
+        write(file, key, content(2 * EncryptionUtil.CHUNK_SIZE));
+
+        // One byte changed
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 1;
+        Path changed = Files.write(testFolder.resolve("changed.json"), bytes);
+        assertThrows(IOException.class, () -> read(changed, key));
+
+        // The salt the file's key is derived from changed, in the header after the magic and version
+        bytes = Files.readAllBytes(file);
+        bytes[5] ^= 1;
+        Path changedSalt = Files.write(testFolder.resolve("changedSalt.json"), bytes);
+        assertThrows(IOException.class, () -> read(changedSalt, key));
+
+        // Cut off after the first chunk, which was not encrypted as the last one
+        Path truncated = Files.copy(file, testFolder.resolve("truncated.json"));
+        try (FileChannel channel = FileChannel.open(truncated, StandardOpenOption.WRITE)) {
+            // Each frame holds the chunk's length, the chunk and a 16 byte tag
+            channel.truncate(Files.size(file) - (Integer.BYTES + EncryptionUtil.CHUNK_SIZE + 16));
+        }
+        assertThrows(IOException.class, () -> read(truncated, key));
+    }
+
+    @Test
+    public void openForReading_encryptedWithoutKey_throwsIOException() throws IOException {
+        Path file = testFolder.resolve("data.json");
+        write(file, new KeyFile(testFolder.resolve("key")).getKey(), content(100));
+        assertThrows(IOException.class, () -> FileUtil.openForReading(file));
+    }
+
+    private static byte[] content(int length) {
+        byte[] content = new byte[length];
+        new Random(length).nextBytes(content);
+        return content;
+    }
+
+    private static void write(Path file, SecretKey key, byte[] content) throws IOException {
+        try (OutputStream out = EncryptionUtil.openForEncrypting(file, key)) {
+            out.write(content);
+        }
+    }
+
+    private static byte[] read(Path file, SecretKey key) throws IOException {
+        try (InputStream in = EncryptionUtil.openForDecrypting(file, key)) {
+            return in.readAllBytes();
+        }
+    }
+
+}
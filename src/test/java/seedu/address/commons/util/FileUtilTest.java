@@ -2,12 +2,27 @@ package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    private static final byte[] CONTENT = "{ \"persons\" : [ ] }".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +35,51 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void openForWriting_compressed_readBackDecompressed() throws IOException {
+        Path file = testFolder.resolve("compressed.json");
+        write(file, 6);
+        assertTrue(FileUtil.isCompressed(file));
+        assertTrue(Files.size(file) < CONTENT.length);
+        assertArrayEquals(CONTENT, read(file));
+    }
+
+    @Test
+    public void openForWriting_noCompression_readBackUnchanged() throws IOException {
+        Path file = testFolder.resolve("plain.json");
+        write(file, FileUtil.NO_COMPRESSION);
+        assertFalse(FileUtil.isCompressed(file));
+        assertArrayEquals(CONTENT, Files.readAllBytes(file));
+        assertArrayEquals(CONTENT, read(file));
+    }
+
+    @Test
+    public void openForReading_shortFiles_readUnchanged() throws IOException {
+        Path empty = Files.write(testFolder.resolve("empty.json"), new byte[0]);
+        assertArrayEquals(new byte[0], read(empty));
+        Path oneByte = Files.write(testFolder.resolve("one.json"), new byte[] {0x1f});
+        assertArrayEquals(new byte[] {0x1f}, read(oneByte));
+    }
+
+    @Test
+    public void openForWriting_invalidLevel_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> FileUtil.openForWriting(testFolder.resolve("a.json"), 10));
+        assertFalse(FileUtil.isValidCompressionLevel(-1));
+        assertTrue(FileUtil.isValidCompressionLevel(FileUtil.NO_COMPRESSION));
+        assertTrue(FileUtil.isValidCompressionLevel(9));
+        assertEquals(0, FileUtil.NO_COMPRESSION);
+    }
+
+    private static void write(Path file, int compressionLevel) throws IOException {
+        try (OutputStream out = FileUtil.openForWriting(file, compressionLevel)) {
+            out.write(CONTENT);
+        }
+    }
+
+    private static byte[] read(Path file) throws IOException {
+        try (InputStream in = FileUtil.openForReading(file)) {
+            return in.readAllBytes();
+        }
+    }
+
 }
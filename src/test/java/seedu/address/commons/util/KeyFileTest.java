@@ -0,0 +1,59 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class KeyFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getKey_missingFile_createsKeyUsedAfterwards() throws IOException {
+        Path file = testFolder.resolve("data.key");
+        byte[] key = new KeyFile(file).getKey().getEncoded();
+        assertTrue(Files.exists(file));
+        assertEquals(KeyFile.KEY_LENGTH, key.length);
+        assertArrayEquals(key, new KeyFile(file).getKey().getEncoded());
+
+        if (Files.getFileAttributeView(file, PosixFileAttributeView.class) != null) {
+            assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(file));
+        }
+    }
+
+    @Test
+    public void readKey_missingFile_throwsNoSuchFileException() {
+        Path file = testFolder.resolve("data.key");
+        assertThrows(NoSuchFileException.class, () -> new KeyFile(file).readKey());
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void readKey_existingFile_returnsKeyCreatedBefore() throws IOException {
+        Path file = testFolder.resolve("data.key");
+        byte[] key = new KeyFile(file).getKey().getEncoded();
+        assertArrayEquals(key, new KeyFile(file).readKey().getEncoded());
+    }
+
+    @Test
+    public void getKey_invalidFile_throwsIOException() throws IOException {
+        Path notBase64 = Files.writeString(testFolder.resolve("notBase64.key"), "not a key!");
+        assertThrows(IOException.class, () -> new KeyFile(notBase64).getKey());
+        Path tooShort = Files.writeString(testFolder.resolve("tooShort.key"), "AAAA");
+        assertThrows(IOException.class, () -> new KeyFile(tooShort).getKey());
+    }
+
+}
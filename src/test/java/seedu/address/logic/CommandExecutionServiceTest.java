@@ -0,0 +1,177 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.CommandExecutionService.Phase;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDiff;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandExecutionServiceTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    // Stands in for the JavaFX application thread: tasks run when the test drains the queue
+    private final LinkedBlockingQueue<Runnable> modelThreadTasks = new LinkedBlockingQueue<>();
+    private final List<Phase> phases = new ArrayList<>();
+    private LogicManager logic;
+    private CommandExecutionService service;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(new ModelManager(), storage);
+        service = new CommandExecutionService(logic, modelThreadTasks::add);
+        service.setProgressListener((commandText, phase, pendingCount) -> phases.add(phase));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    public void submit_validCommand_completesWithResult() throws Exception {
+        CompletableFuture<CommandResult> result = service.submit(ListCommand.COMMAND_WORD);
+        runModelThreadUntilDone(result);
+
+        assertEquals(ListCommand.MESSAGE_SUCCESS, result.get().getFeedbackToUser());
+        assertEquals(List.of(Phase.QUEUED, Phase.PARSING, Phase.EXECUTING, Phase.SAVING, Phase.DONE), phases);
+        assertTrue(temporaryFolder.resolve("addressBook.json").toFile().exists());
+    }
+
+    @Test
+    public void submit_invalidCommand_completesWithParseException() throws Exception {
+        CompletableFuture<CommandResult> result = service.submit("uicfhmowqewca");
+        runModelThreadUntilDone(result);
+
+        assertFailedWith(result, ParseException.class, MESSAGE_UNKNOWN_COMMAND);
+        assertEquals(Phase.FAILED, phases.get(phases.size() - 1));
+    }
+
+    @Test
+    public void submit_commandExecutionError_completesWithCommandException() throws Exception {
+        CompletableFuture<CommandResult> result = service.submit("delete 9");
+        runModelThreadUntilDone(result);
+
+        assertFailedWith(result, CommandException.class, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void submit_parsedCommand_executesItWithoutParsingAgain() throws Exception {
+        // Parsed again, the text would be taken as the answer to the confirmation
+        ClearCommand.setAwaitingConfirmation(true);
+        try {
+            CompletableFuture<CommandResult> result = service.submit(ListCommand.COMMAND_WORD, new ListCommand());
+            runModelThreadUntilDone(result);
+
+            assertEquals(ListCommand.MESSAGE_SUCCESS, result.get().getFeedbackToUser());
+            assertEquals(List.of(Phase.QUEUED, Phase.EXECUTING, Phase.SAVING, Phase.DONE), phases);
+        } finally {
+            ClearCommand.setAwaitingConfirmation(false);
+        }
+    }
+
+    @Test
+    public void cancelPending_commandsNotYetExecuting_cancelsOnlyThose() throws Exception {
+        CompletableFuture<CommandResult> first = service.submit(ListCommand.COMMAND_WORD);
+
+        // Wait until the worker hands the first command to the model thread, so it can no longer be cancelled
+        while (!phases.contains(Phase.EXECUTING)) {
+            modelThreadTasks.take().run();
+        }
+        CompletableFuture<CommandResult> second = service.submit(ListCommand.COMMAND_WORD);
+
+        assertEquals(1, service.cancelPending());
+        assertTrue(second.isCancelled());
+
+        runModelThreadUntilDone(first);
+        assertEquals(ListCommand.MESSAGE_SUCCESS, first.get().getFeedbackToUser());
+        assertEquals(0, service.getPendingCount());
+    }
+
+    @Test
+    public void shutdown_commandWaitingForModelThread_doesNotWaitForIt() throws Exception {
+        CompletableFuture<CommandResult> result = service.submit(ListCommand.COMMAND_WORD);
+        // Progress reports for queueing, parsing and executing, then the command itself
+        while (modelThreadTasks.size() < 4) {
+            Thread.sleep(10);
+        }
+
+        long start = System.nanoTime();
+        service.shutdown();
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+
+        for (Runnable task = modelThreadTasks.poll(); task != null; task = modelThreadTasks.poll()) {
+            task.run();
+        }
+        assertTrue(result.isCompletedExceptionally());
+    }
+
+    @Test
+    public void submitMerge_changedAddressBook_mergesAndSaves() throws Exception {
+        AddressBook changedAddressBook = getTypicalAddressBook();
+        CompletableFuture<AddressBookDiff> result = service.submitMerge(logic.diffAddressBook(changedAddressBook));
+        runModelThreadUntilDone(result);
+
+        assertEquals(changedAddressBook.getPersonList().size(), result.get().getAdded().size());
+        assertEquals(changedAddressBook, logic.getAddressBook());
+        assertTrue(temporaryFolder.resolve("addressBook.json").toFile().exists());
+    }
+
+    /**
+     * Runs tasks handed to the model thread until {@code result} is done.
+     */
+    private void runModelThreadUntilDone(CompletableFuture<?> result) throws InterruptedException {
+        while (!result.isDone()) {
+            Runnable task = modelThreadTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertNotNull(task, "Timed out waiting for the command to finish");
+            task.run();
+        }
+        for (Runnable task = modelThreadTasks.poll(); task != null; task = modelThreadTasks.poll()) {
+            task.run();
+        }
+    }
+
+    private void assertFailedWith(CompletableFuture<CommandResult> result, Class<? extends Exception> expectedType,
+            String expectedMessage) throws InterruptedException {
+        try {
+            result.get();
+            throw new AssertionError("Expected the command to fail.");
+        } catch (ExecutionException e) {
+            assertEquals(expectedType, e.getCause().getClass());
+            assertEquals(expectedMessage, e.getCause().getMessage());
+        }
+    }
+}
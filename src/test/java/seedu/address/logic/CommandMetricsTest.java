@@ -0,0 +1,50 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandMetrics.Phase;
+import seedu.address.logic.commands.AddSessionCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.model.person.Session;
+import seedu.address.model.tag.SessionTag;
+
+public class CommandMetricsTest {
+
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+
+    @Test
+    public void commandWordOf_commands_matchCommandWords() {
+        assertEquals(ListCommand.COMMAND_WORD, CommandMetrics.commandWordOf(new ListCommand()));
+        assertEquals(StatsCommand.COMMAND_WORD, CommandMetrics.commandWordOf(new StatsCommand(commandMetrics)));
+        assertEquals(AddSessionCommand.COMMAND_WORD, CommandMetrics.commandWordOf(
+                new AddSessionCommand(INDEX_FIRST_PERSON,
+                        new SessionTag("MON 0900 - 1000", new Session("MON", "0900", "1000")))));
+    }
+
+    @Test
+    public void report_noCommands_returnsNoCommandsMessage() {
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, commandMetrics.report());
+    }
+
+    @Test
+    public void report_recordedCommands_listsEachCommandWordOnce() {
+        for (int i = 0; i < 3; i++) {
+            for (Phase phase : Phase.values()) {
+                commandMetrics.record("list", phase, commandMetrics.start());
+            }
+        }
+        commandMetrics.record("add", Phase.PARSE, commandMetrics.start());
+
+        String report = commandMetrics.report();
+        assertTrue(report.contains("\nadd (1x): parse "));
+        assertTrue(report.contains("\nlist (3x): parse "));
+        assertTrue(report.indexOf("\nadd") < report.indexOf("\nlist"));
+        assertTrue(commandMetrics.summarize("list").startsWith("list (3x): parse "));
+        assertTrue(commandMetrics.summarize("list").contains(" execute ") && report.contains(" save "));
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -10,10 +13,13 @@ import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.STUDY_YEAR_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,8 +28,12 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDiff;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -71,6 +81,69 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_validCommand_recordsMetrics() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertTrue(logic.getCommandMetrics().summarize(ListCommand.COMMAND_WORD).startsWith("list (2x): "));
+
+        CommandResult statsResult = logic.execute(StatsCommand.COMMAND_WORD);
+        assertTrue(statsResult.getFeedbackToUser().contains("\nlist (2x): "));
+    }
+
+    @Test
+    public void execute_changingCommand_publishesSnapshot() throws Exception {
+        AddressBookSnapshot before = logic.getSnapshot();
+        assertTrue(before.getPersonList().isEmpty());
+
+        Person amy = new PersonBuilder(AMY).withTags().build();
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY
+                + STUDY_YEAR_DESC_AMY);
+        assertEquals(List.of(amy), logic.getSnapshot().getPersonList());
+        assertTrue(before.getPersonList().isEmpty());
+
+        // queries leave the snapshot as it is
+        AddressBookSnapshot afterAdd = logic.getSnapshot();
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertSame(afterAdd, logic.getSnapshot());
+    }
+
+    @Test
+    public void execute_afterLoadingData_nothingToUndo() throws Exception {
+        model.setAddressBook(getTypicalAddressBook());
+        model.resetUndoHistory();
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(model.canUndoAddressBook());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void mergeAddressBook_changedAddressBook_mergedAsOneUndoableStep() {
+        AddressBook changed = new AddressBook();
+        changed.addPerson(AMY);
+        changed.addPerson(BOB);
+
+        AddressBookDiff merged = logic.mergeAddressBook(logic.diffAddressBook(changed));
+        assertEquals(List.of(AMY, BOB), merged.getAdded());
+        assertEquals(changed, model.getAddressBook());
+        assertEquals(changed.getPersonList(), logic.getSnapshot().getPersonList());
+
+        model.undoAddressBook();
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void mergeAddressBook_addressBookChangedSinceDiff_diffedAgain() {
+        AddressBook changed = new AddressBook();
+        changed.addPerson(AMY);
+        AddressBookDiff diff = logic.diffAddressBook(changed);
+        model.addPerson(BOB);
+
+        AddressBookDiff merged = logic.mergeAddressBook(diff);
+        assertEquals(List.of(BOB), merged.getRemoved());
+        assertEquals(changed, model.getAddressBook());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -0,0 +1,157 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.StepRunner;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.exceptions.ScriptException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonUtil;
+
+public class ScriptRunnerTest {
+
+    // add commands do not carry tags
+    private static final Person AMY_UNTAGGED = new PersonBuilder(AMY).withTags().build();
+    private static final Person BOB_UNTAGGED = new PersonBuilder(BOB).withTags().build();
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    @Test
+    public void constructor_nonPositiveLookahead_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ScriptRunner(parser::parseCommand, 0));
+    }
+
+    @Test
+    public void run_validScript_executesCommandsInOrder() throws Exception {
+        Model model = new ModelManager();
+        String script = "# add two students\n"
+                + PersonUtil.getAddCommand(AMY_UNTAGGED) + "\n"
+                + "\n"
+                + "   \n"
+                + "  " + PersonUtil.getAddCommand(BOB_UNTAGGED) + "  \n";
+
+        int executedCount = new ScriptRunner(parser::parseCommand).run(reader(script), model);
+
+        assertEquals(2, executedCount);
+        assertEquals(List.of(AMY_UNTAGGED, BOB_UNTAGGED), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void run_anyLookahead_sameResult() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        StringBuilder script = new StringBuilder();
+        for (int i = 1; i <= 20; i++) {
+            Person person = new PersonBuilder().withName("Student " + i).withPhone(String.valueOf(90000000 + i))
+                    .withEmail("student" + i + "@example.com").build();
+            persons.add(person);
+            script.append(PersonUtil.getAddCommand(person)).append('\n');
+        }
+
+        Model oneAhead = new ModelManager();
+        Model manyAhead = new ModelManager();
+        assertEquals(20, new ScriptRunner(parser::parseCommand, 1).run(reader(script.toString()), oneAhead));
+        assertEquals(20, new ScriptRunner(parser::parseCommand, 8).run(reader(script.toString()), manyAhead));
+
+        assertEquals(persons, oneAhead.getAddressBook().getPersonList());
+        assertEquals(persons, manyAhead.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void run_unparsableLine_stopsAtThatLine() {
+        Model model = new ModelManager();
+        String script = PersonUtil.getAddCommand(AMY_UNTAGGED) + "\n"
+                + "# comment\n"
+                + "notacommand\n"
+                + PersonUtil.getAddCommand(BOB_UNTAGGED) + "\n";
+
+        ScriptException e = assertThrows(ScriptException.class, () ->
+                new ScriptRunner(parser::parseCommand).run(reader(script), model));
+
+        assertEquals(3, e.getLineNumber());
+        assertEquals(1, e.getExecutedCount());
+        assertEquals(String.format(ScriptException.MESSAGE_LINE_FAILED, 3, MESSAGE_UNKNOWN_COMMAND), e.getMessage());
+        // commands before the failed line stay executed, commands after it are not
+        assertTrue(model.hasPerson(AMY_UNTAGGED));
+        assertFalse(model.hasPerson(BOB_UNTAGGED));
+    }
+
+    @Test
+    public void run_failingCommand_stopsAtThatLine() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        String script = PersonUtil.getAddCommand(AMY_UNTAGGED) + "\n"
+                + PersonUtil.getAddCommand(AMY_UNTAGGED) + "\n";
+
+        ScriptException e = assertThrows(ScriptException.class, () ->
+                new ScriptRunner(parser::parseCommand).run(reader(script), model));
+
+        assertEquals(2, e.getLineNumber());
+        assertEquals(1, e.getExecutedCount());
+        assertEquals(String.format(ScriptException.MESSAGE_LINE_FAILED, 2, AddCommand.MESSAGE_DUPLICATE_PERSON),
+                e.getMessage());
+    }
+
+    @Test
+    public void run_disallowedCommand_throwsScriptException() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        ScriptException e = assertThrows(ScriptException.class, () ->
+                new ScriptRunner(parser::parseCommand).run(reader(ClearCommand.COMMAND_WORD), model));
+
+        assertEquals(String.format(ScriptException.MESSAGE_LINE_FAILED, 1,
+                String.format(ScriptRunner.MESSAGE_COMMAND_NOT_ALLOWED, ClearCommand.COMMAND_WORD)), e.getMessage());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void run_stopRequested_stopsBeforeNextLine() {
+        Model model = new ModelManager();
+        String script = PersonUtil.getAddCommand(AMY_UNTAGGED) + "\n"
+                + PersonUtil.getAddCommand(BOB_UNTAGGED) + "\n";
+        // Asked to stop once the first line has run
+        StepRunner stepRunner = new StepRunner() {
+            @Override
+            public <T> T run(Step<T> step) throws CommandException {
+                return step.run();
+            }
+
+            @Override
+            public boolean isStopRequested() {
+                return !model.getAddressBook().getPersonList().isEmpty();
+            }
+        };
+
+        ScriptException e = assertThrows(ScriptException.class, () ->
+                new ScriptRunner(parser::parseCommand).run(reader(script), model, stepRunner));
+
+        assertEquals(2, e.getLineNumber());
+        assertEquals(1, e.getExecutedCount());
+        assertEquals(String.format(ScriptException.MESSAGE_LINE_FAILED, 2, ScriptRunner.MESSAGE_STOPPED),
+                e.getMessage());
+        assertEquals(List.of(AMY_UNTAGGED), model.getAddressBook().getPersonList());
+    }
+
+    private static BufferedReader reader(String script) {
+        return new BufferedReader(new StringReader(script));
+    }
+}
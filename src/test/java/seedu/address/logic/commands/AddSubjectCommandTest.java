@@ -9,6 +9,7 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.ArrayList;
@@ -20,6 +21,7 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
@@ -133,6 +135,69 @@ public class AddSubjectCommandTest {
         assertCommandFailure(cmd, model, expected);
     }
 
+    @Test
+    public void execute_validRangeSomeAlreadyAssigned_addsToOthersOnly() {
+        Tag subjectTag = new Tag(VALID_SUBJECT_TAG);
+        Person first = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person second = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        Person third = model.getFilteredPersonList().get(INDEX_THIRD_PERSON.getZeroBased());
+        model.setPerson(second, withTag(second, subjectTag));
+
+        Set<Tag> subjectTags = new HashSet<>();
+        subjectTags.add(subjectTag);
+        AddSubjectCommand cmd = new AddSubjectCommand(IndexSelection.range(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON),
+                subjectTags);
+
+        String expectedMessage = String.format(AddSubjectCommand.MESSAGE_SUCCESS_MULTIPLE, subjectTag, 3, 2);
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPerson(first, withTag(first, subjectTag));
+        expectedModel.setPerson(third, withTag(third, subjectTag));
+
+        assertCommandSuccess(cmd, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_rangeWithSomeSubjectsAssigned_addsOnlyMissingSubjects() {
+        Tag math = new Tag("MATH");
+        Tag physics = new Tag("PHY");
+        Person first = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person second = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        Person third = model.getFilteredPersonList().get(INDEX_THIRD_PERSON.getZeroBased());
+        model.setPerson(first, withTag(first, math));
+        model.setPerson(third, withTag(withTag(third, math), physics));
+        first = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        third = model.getFilteredPersonList().get(INDEX_THIRD_PERSON.getZeroBased());
+
+        Set<Tag> subjectTags = new HashSet<>(List.of(math, physics));
+        AddSubjectCommand cmd = new AddSubjectCommand(IndexSelection.range(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON),
+                subjectTags);
+
+        String joinedTags = subjectTags.stream().map(Tag::toString).collect(Collectors.joining(", "));
+        String expectedMessage = String.format(AddSubjectCommand.MESSAGE_SUCCESS_MULTIPLE, joinedTags, 3, 2);
+
+        // The first only gets PHY, the second gets both and the third already has both
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPerson(first, withTag(first, physics));
+        expectedModel.setPerson(second, withTag(withTag(second, math), physics));
+
+        assertCommandSuccess(cmd, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allAlreadyAssigned_failure() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Person shown = model.getFilteredPersonList().get(0);
+        model.setPerson(shown, withTag(shown, new Tag(VALID_SUBJECT_TAG)));
+
+        Set<Tag> subjectTags = new HashSet<>();
+        subjectTags.add(new Tag(VALID_SUBJECT_TAG));
+        AddSubjectCommand cmd = new AddSubjectCommand(IndexSelection.all(), subjectTags);
+        String expected = String.format(AddSubjectCommand.MESSAGE_DUPLICATE_SUBJECT_MULTIPLE, VALID_SUBJECT_TAG);
+
+        assertCommandFailure(cmd, model, expected);
+    }
+
     @Test
     public void execute_addSubjectPreservesExistingTags_success() {
         Person base = new PersonBuilder().withTags("FRIEND", "TEAMMATE").build();
@@ -196,7 +261,7 @@ public class AddSubjectCommandTest {
         subjectTags.add(subjectTag);
         AddSubjectCommand cmd = new AddSubjectCommand(targetIndex, subjectTags);
         String expected = AddSubjectCommand.class.getCanonicalName()
-                + "{targetIndex=" + targetIndex + ", subjectTags=" + subjectTags + "}";
+                + "{targetIndexes=" + IndexSelection.of(targetIndex) + ", subjectTags=" + subjectTags + "}";
         assertEquals(expected, cmd.toString());
     }
 
@@ -0,0 +1,132 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.ScriptRunner;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.exceptions.ScriptException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonUtil;
+
+public class RunCommandTest {
+
+    // add commands do not carry tags
+    private static final Person AMY_UNTAGGED = new PersonBuilder(AMY).withTags().build();
+    private static final Person BOB_UNTAGGED = new PersonBuilder(BOB).withTags().build();
+
+    @TempDir
+    public Path testFolder;
+
+    private final ScriptRunner scriptRunner = new ScriptRunner(new AddressBookParser()::parseCommand);
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_validScript_success() throws Exception {
+        Path script = writeScript(PersonUtil.getAddCommand(AMY_UNTAGGED), PersonUtil.getAddCommand(BOB_UNTAGGED));
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY_UNTAGGED);
+        expectedModel.addPerson(BOB_UNTAGGED);
+
+        assertCommandSuccess(new RunCommand(script, false, scriptRunner), model,
+                String.format(RunCommand.MESSAGE_SUCCESS, 2, script), expectedModel);
+    }
+
+    @Test
+    public void execute_failingLine_keepsEarlierChanges() throws Exception {
+        Path script = writeScript(PersonUtil.getAddCommand(AMY_UNTAGGED), "notacommand",
+                PersonUtil.getAddCommand(BOB_UNTAGGED));
+
+        CommandResult result = new RunCommand(script, false, scriptRunner).execute(model);
+
+        String lineFailure = String.format(ScriptException.MESSAGE_LINE_FAILED, 2, Messages.MESSAGE_UNKNOWN_COMMAND);
+        assertEquals(String.format(RunCommand.MESSAGE_STOPPED, 1, script, lineFailure), result.getFeedbackToUser());
+        assertTrue(result.isStopped());
+        assertTrue(model.hasPerson(AMY_UNTAGGED));
+        assertFalse(model.hasPerson(BOB_UNTAGGED));
+    }
+
+    @Test
+    public void execute_failingLineAtomic_keepsNoChanges() throws Exception {
+        Path script = writeScript(PersonUtil.getAddCommand(AMY_UNTAGGED), "notacommand",
+                PersonUtil.getAddCommand(BOB_UNTAGGED));
+
+        String lineFailure = String.format(ScriptException.MESSAGE_LINE_FAILED, 2, Messages.MESSAGE_UNKNOWN_COMMAND);
+        assertCommandFailure(new RunCommand(script, true, scriptRunner), model,
+                String.format(RunCommand.MESSAGE_ROLLED_BACK, lineFailure, script));
+        assertFalse(model.hasPerson(AMY_UNTAGGED));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path script = testFolder.resolve("missing.txt");
+        RunCommand runCommand = new RunCommand(script, false, scriptRunner);
+        assertThrows(CommandException.class, String.format(RunCommand.MESSAGE_READ_ERROR, script, script), () ->
+                runCommand.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        Path script = testFolder.resolve("script.txt");
+        RunCommand runCommand = new RunCommand(script, false, scriptRunner);
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(script, false, new ScriptRunner(
+                new AddressBookParser()::parseCommand))));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(runCommand.equals(1));
+
+        // different file -> returns false
+        assertFalse(runCommand.equals(new RunCommand(testFolder.resolve("other.txt"), false, scriptRunner)));
+
+        // different atomicity -> returns false
+        assertFalse(runCommand.equals(new RunCommand(script, true, scriptRunner)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path script = testFolder.resolve("script.txt");
+        RunCommand runCommand = new RunCommand(script, true, scriptRunner);
+        String expected = RunCommand.class.getCanonicalName() + "{scriptFile=" + script + ", isAtomic=true}";
+        assertEquals(expected, runCommand.toString());
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        return Files.write(testFolder.resolve("script.txt"), List.of(lines));
+    }
+}
@@ -9,9 +9,13 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
@@ -60,6 +64,66 @@ public class SetPaymentCommandTest {
         assertCommandSuccess(setPaymentCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_setPaymentAll_success() {
+        Map<Person, Person> edits = new LinkedHashMap<>();
+        for (Person person : model.getFilteredPersonList()) {
+            edits.put(person, new PersonBuilder(person).withPayment("OVERDUE", 15).build());
+        }
+
+        SetPaymentCommand setPaymentCommand = new SetPaymentCommand(IndexSelection.all(), "OVERDUE", 15);
+
+        String expectedMessage = String.format(SetPaymentCommand.MESSAGE_SET_PAYMENTS_SUCCESS, edits.size());
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPersons(edits);
+
+        assertCommandSuccess(setPaymentCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_setPaymentAllFilteredList_onlyDisplayedPersonsUpdated() {
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        model.updateFilteredPersonList(person -> person.equals(firstPerson));
+        Person editedPerson = new PersonBuilder(firstPerson).withPayment("PAID", 1).build();
+
+        SetPaymentCommand setPaymentCommand = new SetPaymentCommand(IndexSelection.all(), "PAID");
+
+        String expectedMessage = String.format(SetPaymentCommand.MESSAGE_SET_PAYMENTS_SUCCESS, 1);
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.updateFilteredPersonList(person -> person.equals(firstPerson));
+        expectedModel.setPerson(firstPerson, editedPerson);
+
+        assertCommandSuccess(setPaymentCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_setPaymentRange_success() {
+        Map<Person, Person> edits = new LinkedHashMap<>();
+        for (Person person : model.getFilteredPersonList().subList(0, 2)) {
+            edits.put(person, new PersonBuilder(person).withPayment("PAID", 1).build());
+        }
+
+        SetPaymentCommand setPaymentCommand = new SetPaymentCommand(
+                IndexSelection.range(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON), "PAID");
+
+        String expectedMessage = String.format(SetPaymentCommand.MESSAGE_SET_PAYMENTS_SUCCESS, 2);
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPersons(edits);
+
+        assertCommandSuccess(setPaymentCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_setPaymentAllEmptyList_throwsCommandException() {
+        model.updateFilteredPersonList(unused -> false);
+        SetPaymentCommand setPaymentCommand = new SetPaymentCommand(IndexSelection.all(), "PAID");
+
+        assertCommandFailure(setPaymentCommand, model, SetPaymentCommand.MESSAGE_NO_PERSONS_DISPLAYED);
+    }
+
     @Test
     public void execute_invalidIndex_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
@@ -127,6 +191,9 @@ public class SetPaymentCommandTest {
         // different billing day -> returns false
         assertFalse(setPaymentFirstCommand.equals(setPaymentWithBillingDay));
 
+        // every person instead of one -> returns false
+        assertFalse(setPaymentFirstCommand.equals(new SetPaymentCommand(IndexSelection.all(), "PAID")));
+
         // same values with billing day -> returns true
         SetPaymentCommand setPaymentWithBillingDayCopy = new SetPaymentCommand(INDEX_FIRST_PERSON, "PAID", 15);
         assertTrue(setPaymentWithBillingDay.equals(setPaymentWithBillingDayCopy));
@@ -137,12 +204,12 @@ public class SetPaymentCommandTest {
         Index targetIndex = Index.fromOneBased(1);
         SetPaymentCommand setPaymentCommand = new SetPaymentCommand(targetIndex, "PAID");
         String expected = SetPaymentCommand.class.getCanonicalName()
-                + "{index=" + targetIndex + ", status=PAID, billingStartDay=null}";
+                + "{selection=" + IndexSelection.of(targetIndex) + ", status=PAID, billingStartDay=null}";
         assertEquals(expected, setPaymentCommand.toString());
 
         SetPaymentCommand setPaymentCommandWithDay = new SetPaymentCommand(targetIndex, "PAID", 15);
         String expectedWithDay = SetPaymentCommand.class.getCanonicalName()
-                + "{index=" + targetIndex + ", status=PAID, billingStartDay=15}";
+                + "{selection=" + IndexSelection.of(targetIndex) + ", status=PAID, billingStartDay=15}";
         assertEquals(expectedWithDay, setPaymentCommandWithDay.toString());
     }
 }
@@ -0,0 +1,48 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandMetrics;
+import seedu.address.logic.CommandMetrics.Phase;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+    private final Model model = new ModelManager();
+    private final Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_noCommandsRecorded_showsNoCommandsMessage() {
+        assertCommandSuccess(new StatsCommand(commandMetrics), model, CommandMetrics.MESSAGE_NO_COMMANDS,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_commandsRecorded_showsReport() {
+        commandMetrics.record(ListCommand.COMMAND_WORD, Phase.PARSE, commandMetrics.start());
+        assertCommandSuccess(new StatsCommand(commandMetrics), model, commandMetrics.report(), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand statsCommand = new StatsCommand(commandMetrics);
+
+        // same object -> returns true
+        assertTrue(statsCommand.equals(statsCommand));
+
+        // same metrics -> returns true
+        assertTrue(statsCommand.equals(new StatsCommand(commandMetrics)));
+
+        // different metrics -> returns false
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandMetrics())));
+
+        // null -> returns false
+        assertFalse(statsCommand.equals(null));
+    }
+}
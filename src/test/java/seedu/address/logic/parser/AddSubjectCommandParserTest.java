@@ -9,6 +9,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.AddSubjectCommand;
 import seedu.address.model.tag.Tag;
@@ -26,6 +27,15 @@ public class AddSubjectCommandParserTest {
         assertParseSuccess(parser, "1 sub/MATH", expected);
     }
 
+    @Test
+    public void parse_rangeOrAll_returnsAddSubjectCommand() {
+        Set<Tag> expectedTags = new HashSet<>();
+        expectedTags.add(new Tag("MATH"));
+        IndexSelection secondToFifth = IndexSelection.range(Index.fromOneBased(2), Index.fromOneBased(5));
+        assertParseSuccess(parser, "2-5 sub/MATH", new AddSubjectCommand(secondToFifth, expectedTags));
+        assertParseSuccess(parser, "all sub/MATH", new AddSubjectCommand(IndexSelection.all(), expectedTags));
+    }
+
     @Test
     public void parse_validArgsWhitespaceAndCase_returnsAddSubjectCommand() {
         Set<Tag> expectedTags = new HashSet<>();
@@ -5,9 +5,11 @@ import static seedu.address.logic.Messages.MESSAGE_MISSING_INDEX;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.DeleteCommand;
 
 /**
@@ -26,6 +28,18 @@ public class DeleteCommandParserTest {
         assertParseSuccess(parser, "1", new DeleteCommand(INDEX_FIRST_PERSON));
     }
 
+    @Test
+    public void parse_rangeOrAll_returnsDeleteCommand() {
+        assertParseSuccess(parser, "1-3",
+                new DeleteCommand(IndexSelection.range(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON)));
+        assertParseSuccess(parser, "all", new DeleteCommand(IndexSelection.all()));
+    }
+
+    @Test
+    public void parse_reversedRange_throwsParseException() {
+        assertParseFailure(parser, "3-1", ParserUtil.MESSAGE_INVALID_INDEX_RANGE);
+    }
+
     @Test
     public void parse_missingArgs_throwsParseException() {
         assertParseFailure(parser, "", String.format(MESSAGE_MISSING_INDEX, DeleteCommand.MESSAGE_USAGE));
@@ -12,6 +12,8 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -58,6 +60,34 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexSelection_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseIndexSelection("all 1"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexSelection("0"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_INDEX, ()
+            -> ParserUtil.parseIndexSelection("-1"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_INDEX, ()
+            -> ParserUtil.parseIndexSelection("1-"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_INDEX, ()
+            -> ParserUtil.parseIndexSelection("0-3"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_INDEX_RANGE, ()
+            -> ParserUtil.parseIndexSelection("3-1"));
+    }
+
+    @Test
+    public void parseIndexSelection_validInput_success() throws Exception {
+        assertEquals(IndexSelection.of(INDEX_FIRST_PERSON), ParserUtil.parseIndexSelection("  1  "));
+
+        // keyword is case-insensitive
+        assertEquals(IndexSelection.all(), ParserUtil.parseIndexSelection("all"));
+        assertEquals(IndexSelection.all(), ParserUtil.parseIndexSelection("  ALL  "));
+
+        // inclusive range, with or without whitespace around the separator
+        IndexSelection firstToThird = IndexSelection.range(INDEX_FIRST_PERSON, Index.fromOneBased(3));
+        assertEquals(firstToThird, ParserUtil.parseIndexSelection("1-3"));
+        assertEquals(firstToThird, ParserUtil.parseIndexSelection(" 1 - 3 "));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
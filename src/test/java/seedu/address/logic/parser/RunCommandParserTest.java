@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.ScriptRunner;
+import seedu.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private final ScriptRunner scriptRunner = new ScriptRunner(new AddressBookParser()::parseCommand);
+    private final RunCommandParser parser = new RunCommandParser(scriptRunner);
+
+    @Test
+    public void parse_fileOnly_returnsRunCommand() {
+        assertParseSuccess(parser, " data/term 2.txt ",
+                new RunCommand(Paths.get("data/term 2.txt"), false, scriptRunner));
+    }
+
+    @Test
+    public void parse_atomic_returnsAtomicRunCommand() {
+        assertParseSuccess(parser, " script.txt atomic/",
+                new RunCommand(Paths.get("script.txt"), true, scriptRunner));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        assertParseFailure(parser, "  ",
+                String.format(RunCommandParser.MESSAGE_MISSING_FILE, RunCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " atomic/",
+                String.format(RunCommandParser.MESSAGE_MISSING_FILE, RunCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_atomicWithValue_throwsParseException() {
+        assertParseFailure(parser, " script.txt atomic/yes",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+}
@@ -5,9 +5,11 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.SetPaymentCommand;
 import seedu.address.model.person.Payment;
 
@@ -30,6 +32,22 @@ public class SetPaymentCommandParserTest {
                 new SetPaymentCommand(INDEX_FIRST_PERSON, "PAID", 15));
     }
 
+    @Test
+    public void parse_allKeyword_returnsSetPaymentCommand() {
+        assertParseSuccess(parser, "all " + PREFIX_STATUS + "PAID",
+                new SetPaymentCommand(IndexSelection.all(), "PAID"));
+
+        // keyword is case-insensitive
+        assertParseSuccess(parser, "ALL " + PREFIX_STATUS + "PAID " + PREFIX_BILLING_START + "15",
+                new SetPaymentCommand(IndexSelection.all(), "PAID", 15));
+    }
+
+    @Test
+    public void parse_range_returnsSetPaymentCommand() {
+        assertParseSuccess(parser, "1-3 " + PREFIX_STATUS + "OVERDUE",
+                new SetPaymentCommand(IndexSelection.range(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON), "OVERDUE"));
+    }
+
     @Test
     public void parse_validArgsCaseInsensitiveStatus_returnsSetPaymentCommand() {
         // Test lowercase status
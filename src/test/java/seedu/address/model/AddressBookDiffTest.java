@@ -0,0 +1,81 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookDiffTest {
+
+    private static final Session MONDAY_MORNING = new Session("MON", "0800", "1200");
+    private static final Session TUESDAY_MORNING = new Session("TUE", "0800", "1200");
+
+    @Test
+    public void between_equalAddressBooks_isEmpty() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addSession(MONDAY_MORNING);
+        AddressBookDiff diff = AddressBookDiff.between(snapshotOf(addressBook), new AddressBook(addressBook));
+        assertTrue(diff.isEmpty());
+    }
+
+    @Test
+    public void between_changedAddressBook_findsOnlyChanges() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addSession(MONDAY_MORNING);
+        addressBook.addSession(TUESDAY_MORNING);
+        AddressBook changed = changedCopyOf(addressBook);
+        Person editedBenson = changed.getPersonList().get(0);
+
+        AddressBookDiff diff = AddressBookDiff.between(snapshotOf(addressBook), changed);
+        assertEquals(List.of(ALICE), diff.getRemoved());
+        assertEquals(Map.of(BENSON, editedBenson), diff.getEdits());
+        assertEquals(List.of(AMY), diff.getAdded());
+        assertEquals(Map.of(MONDAY_MORNING, 2, TUESDAY_MORNING, 0), diff.getSessionCounts());
+    }
+
+    @Test
+    public void mergeAddressBook_changedAddressBook_becomesEqual() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.addSession(TUESDAY_MORNING);
+        AddressBook changed = changedCopyOf(model.getAddressBook());
+        List<Person> unchanged = new ArrayList<>(model.getAddressBook().getPersonList());
+
+        model.mergeAddressBook(AddressBookDiff.between(
+                AddressBookSnapshot.of(model.getAddressBook(), model.getWeeklySessions()), changed));
+        assertEquals(changed, model.getAddressBook());
+        // Persons that did not change are the same objects, so nothing observing them is told otherwise
+        assertSame(unchanged.get(2), model.getAddressBook().getPersonList().get(1));
+    }
+
+    /**
+     * Returns a copy of {@code addressBook} without ALICE, with BENSON edited and AMY added, attending MONDAY_MORNING
+     * twice and no longer TUESDAY_MORNING.
+     */
+    private static AddressBook changedCopyOf(ReadOnlyAddressBook addressBook) {
+        AddressBook changed = new AddressBook(addressBook);
+        changed.removePerson(ALICE);
+        changed.setPerson(BENSON, new PersonBuilder(BENSON).withTags("edited").build());
+        changed.addPerson(AMY);
+        changed.setWeeklySessions(new WeeklySessions());
+        changed.addSession(MONDAY_MORNING);
+        changed.addSession(MONDAY_MORNING);
+        return changed;
+    }
+
+    private static AddressBookSnapshot snapshotOf(AddressBook addressBook) {
+        return AddressBookSnapshot.of(addressBook, addressBook.getWeeklySessions());
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
+
+public class AddressBookSnapshotTest {
+
+    private static final Session MONDAY_MORNING = new Session("MON", "0800", "1200");
+
+    @Test
+    public void of_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> AddressBookSnapshot.of(null, new WeeklySessions()));
+        assertThrows(NullPointerException.class, () -> AddressBookSnapshot.of(new AddressBook(), null));
+    }
+
+    @Test
+    public void of_laterChanges_notSeen() {
+        AddressBook addressBook = getTypicalAddressBook();
+        WeeklySessions weeklySessions = new WeeklySessions();
+        weeklySessions.add(MONDAY_MORNING);
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        String freeTime = weeklySessions.getEarliestFreeTime(4);
+
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook, weeklySessions);
+        addressBook.removePerson(ALICE);
+        weeklySessions.remove(MONDAY_MORNING);
+
+        assertEquals(persons, snapshot.getPersonList());
+        assertEquals(Map.of(MONDAY_MORNING, 1), snapshot.getSessionCounts());
+        assertEquals(freeTime, snapshot.getEarliestFreeTime(4));
+    }
+
+    @Test
+    public void getters_modification_throwsUnsupportedOperationException() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(getTypicalAddressBook(), new WeeklySessions());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getSessionCounts()
+                .put(MONDAY_MORNING, 1));
+    }
+}
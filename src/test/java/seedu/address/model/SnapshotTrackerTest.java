@@ -0,0 +1,84 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
+import seedu.address.model.util.RosterGenerator;
+import seedu.address.testutil.PersonBuilder;
+
+public class SnapshotTrackerTest {
+
+    private static final Session MONDAY_MORNING = new Session("MON", "0800", "1200");
+
+    private final AtomicInteger changeCount = new AtomicInteger();
+    private AddressBook addressBook;
+    private SnapshotTracker tracker;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = new RosterGenerator(2103).generateAddressBook(1000);
+        tracker = new SnapshotTracker(addressBook, addressBook.getWeeklySessions(), changeCount::incrementAndGet);
+    }
+
+    @Test
+    public void snapshot_noChanges_sameContents() {
+        assertEquals(addressBook.getPersonList(), tracker.snapshot().getPersonList());
+        assertEquals(addressBook.getWeeklySessions().getSessionCounts(), tracker.snapshot().getSessionCounts());
+        assertEquals(0, changeCount.get());
+    }
+
+    @Test
+    public void snapshot_afterChanges_followsAddressBook() {
+        AddressBookSnapshot before = tracker.snapshot();
+        List<Person> original = new ArrayList<>(addressBook.getPersonList());
+
+        Person added = new PersonBuilder().withName("Snapshot Tracker").withPhone("91234567")
+                .withEmail("tracker@example.com").build();
+        addressBook.addPerson(added);
+        addressBook.setPerson(original.get(10), new PersonBuilder(original.get(10)).withPhone("98765432").build());
+        addressBook.removePerson(original.get(500));
+        addressBook.removePersons(List.of(original.get(0), original.get(20), original.get(999)));
+        addressBook.setPersons(Map.of(original.get(30), new PersonBuilder(original.get(30)).withPhone("90000000")
+                .build()));
+
+        assertEquals(addressBook.getPersonList(), tracker.snapshot().getPersonList());
+        assertEquals(original, before.getPersonList());
+        assertTrue(changeCount.get() >= 5);
+    }
+
+    @Test
+    public void snapshot_afterReplacingEverything_followsAddressBook() {
+        addressBook.setPersons(new RosterGenerator(1).generatePersons(100));
+        assertEquals(addressBook.getPersonList(), tracker.snapshot().getPersonList());
+
+        addressBook.setPersons(List.of());
+        assertEquals(List.of(), tracker.snapshot().getPersonList());
+    }
+
+    @Test
+    public void snapshot_sessionCounts_copiedOnlyWhenChanged() {
+        AddressBookSnapshot first = tracker.snapshot();
+        Person person = addressBook.getPersonList().get(0);
+        addressBook.setPerson(person, new PersonBuilder(person).withPhone("98765432").build());
+        assertSame(first.getSessionCounts(), tracker.snapshot().getSessionCounts());
+
+        addressBook.getWeeklySessions().add(MONDAY_MORNING);
+        AddressBookSnapshot second = tracker.snapshot();
+        assertNotSame(first.getSessionCounts(), second.getSessionCounts());
+        assertEquals(1, (int) second.getSessionCounts().get(MONDAY_MORNING));
+        assertFalse(first.getSessionCounts().containsKey(MONDAY_MORNING));
+    }
+}
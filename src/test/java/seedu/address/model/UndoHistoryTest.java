@@ -0,0 +1,158 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
+import seedu.address.testutil.PersonBuilder;
+
+public class UndoHistoryTest {
+
+    private static final Session MONDAY_MORNING = new Session("MON", "0800", "1200");
+
+    private ModelManager model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void undo_noChanges_nothingToUndo() {
+        assertFalse(model.canUndoAddressBook());
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Alice")));
+        model.commitAddressBook();
+        assertFalse(model.canUndoAddressBook());
+        assertFalse(model.canRedoAddressBook());
+    }
+
+    @Test
+    public void undoRedo_singleChanges_restoresAddressBook() {
+        AddressBook original = new AddressBook(model.getAddressBook());
+
+        model.addPerson(AMY);
+        model.commitAddressBook();
+        model.deletePerson(BENSON);
+        model.commitAddressBook();
+        model.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("91234567").build());
+        model.commitAddressBook();
+        AddressBook edited = new AddressBook(model.getAddressBook());
+
+        model.undoAddressBook();
+        model.undoAddressBook();
+        model.undoAddressBook();
+        assertEquals(original, model.getAddressBook());
+        assertFalse(model.canUndoAddressBook());
+
+        model.redoAddressBook();
+        model.redoAddressBook();
+        model.redoAddressBook();
+        assertEquals(edited, model.getAddressBook());
+        assertFalse(model.canRedoAddressBook());
+    }
+
+    @Test
+    public void undo_batchChanges_restoresOrder() {
+        List<Person> original = new ArrayList<>(model.getAddressBook().getPersonList());
+
+        model.setPersons(Map.of(BENSON, new PersonBuilder(BENSON).withPhone("91234567").build(),
+                CARL, new PersonBuilder(CARL).withPhone("97654321").build()));
+        model.deletePersons(List.of(ALICE, DANIEL));
+        model.commitAddressBook();
+
+        model.undoAddressBook();
+        assertEquals(original, model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void undo_clear_restoresEverything() {
+        model.addSession(MONDAY_MORNING);
+        model.commitAddressBook();
+        AddressBook beforeClear = new AddressBook(model.getAddressBook());
+
+        model.setAddressBook(new AddressBook());
+        model.commitAddressBook();
+        model.undoAddressBook();
+        assertEquals(beforeClear, model.getAddressBook());
+        assertEquals(1, model.getWeeklySessions().getAttendeeCount(MONDAY_MORNING));
+    }
+
+    @Test
+    public void undoRedo_sessions_restoresAttendeeCounts() {
+        model.addSession(MONDAY_MORNING);
+        model.commitAddressBook();
+        model.addSession(MONDAY_MORNING);
+        model.commitAddressBook();
+
+        model.undoAddressBook();
+        assertEquals(1, model.getWeeklySessions().getAttendeeCount(MONDAY_MORNING));
+        model.undoAddressBook();
+        assertEquals(0, model.getWeeklySessions().getAttendeeCount(MONDAY_MORNING));
+        assertTrue(model.getWeeklySessions().getSessionCounts().isEmpty());
+        assertEquals("MONDAY 08:00", model.getEarliestFreeTime(4));
+
+        model.redoAddressBook();
+        assertEquals(1, model.getWeeklySessions().getAttendeeCount(MONDAY_MORNING));
+        assertEquals("MONDAY 12:00", model.getEarliestFreeTime(4));
+    }
+
+    @Test
+    public void undoRedo_filter_restoresFilterAroundStep() {
+        NameContainsKeywordsPredicate alice = new NameContainsKeywordsPredicate(List.of("Alice"));
+        NameContainsKeywordsPredicate amy = new NameContainsKeywordsPredicate(List.of("Amy"));
+        model.updateFilteredPersonList(alice);
+        model.commitAddressBook();
+
+        model.addPerson(AMY);
+        model.updateFilteredPersonList(amy);
+        model.commitAddressBook();
+        model.resetFilteredPersonList();
+        model.commitAddressBook();
+
+        model.undoAddressBook();
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+        model.redoAddressBook();
+        assertEquals(List.of(AMY), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void commit_newChangeAfterUndo_forgetsRedo() {
+        model.addPerson(AMY);
+        model.commitAddressBook();
+        model.undoAddressBook();
+        assertTrue(model.canRedoAddressBook());
+
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        assertFalse(model.canRedoAddressBook());
+    }
+
+    @Test
+    public void commit_beyondMaxSteps_forgetsOldest() {
+        for (int i = 0; i < UndoHistory.MAX_STEPS + 1; i++) {
+            model.addSession(MONDAY_MORNING);
+            model.commitAddressBook();
+        }
+        for (int i = 0; i < UndoHistory.MAX_STEPS; i++) {
+            model.undoAddressBook();
+        }
+        assertFalse(model.canUndoAddressBook());
+        assertEquals(1, model.getWeeklySessions().getAttendeeCount(MONDAY_MORNING));
+    }
+}
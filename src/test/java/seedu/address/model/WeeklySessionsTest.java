@@ -2,12 +2,18 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableMap;
 import seedu.address.model.person.Session;
 
 public class WeeklySessionsTest {
@@ -148,6 +154,33 @@ public class WeeklySessionsTest {
         assertThrows(NullPointerException.class, () -> weeklySessions.remove(null));
     }
 
+    @Test
+    public void removeAll_repeatedSessions_updatesEachCountOnce() {
+        weeklySessions.add(monMorning);
+        weeklySessions.add(monMorning);
+        weeklySessions.add(monMorning);
+        weeklySessions.add(wedMorning);
+        List<Session> changedSessions = new ArrayList<>();
+        weeklySessions.getSessionCounts().addListener((MapChangeListener<Session, Integer>) change ->
+                changedSessions.add(change.getKey()));
+
+        weeklySessions.removeAll(List.of(monMorning, wedMorning, monMorning));
+        assertEquals(1, weeklySessions.getAttendeeCount(monMorning));
+        assertEquals(0, weeklySessions.getAttendeeCount(wedMorning));
+        assertFalse(weeklySessions.hasOverlap(wedMorning));
+        assertEquals(2, changedSessions.size());
+    }
+
+    @Test
+    public void removeAll_moreThanScheduled_throwsIllegalArgumentExceptionAndRemovesNothing() {
+        weeklySessions.add(monMorning);
+        weeklySessions.add(wedMorning);
+        assertThrows(IllegalArgumentException.class, () ->
+                weeklySessions.removeAll(List.of(wedMorning, monMorning, monMorning)));
+        assertEquals(1, weeklySessions.getAttendeeCount(monMorning));
+        assertEquals(1, weeklySessions.getAttendeeCount(wedMorning));
+    }
+
     @Test
     public void getEarliestFreeTime_emptySchedule_returnsMonday8am() {
         String result = weeklySessions.getEarliestFreeTime(2);
@@ -316,4 +349,51 @@ public class WeeklySessionsTest {
         String result = weeklySessions.toString();
         assertTrue(result.contains("MONDAY") || result.contains("MON"));
     }
+
+    @Test
+    public void getAttendeeCount_addAndRemove_tracksAttendees() {
+        assertEquals(0, weeklySessions.getAttendeeCount(monMorning));
+        weeklySessions.add(monMorning);
+        weeklySessions.add(monMorning);
+        assertEquals(2, weeklySessions.getAttendeeCount(monMorning));
+
+        weeklySessions.remove(monMorning);
+        assertEquals(1, weeklySessions.getAttendeeCount(monMorning));
+        weeklySessions.remove(monMorning);
+        assertEquals(0, weeklySessions.getAttendeeCount(monMorning));
+    }
+
+    @Test
+    public void getSessionCounts_modified_notifiesChangedSessionsOnly() {
+        weeklySessions.add(monMorning);
+        List<Session> changedSessions = new ArrayList<>();
+        weeklySessions.getSessionCounts().addListener((MapChangeListener<Session, Integer>) change ->
+                changedSessions.add(change.getKey()));
+
+        weeklySessions.add(wedMorning);
+        weeklySessions.add(wedMorning);
+        weeklySessions.remove(wedMorning);
+        assertEquals(List.of(wedMorning, wedMorning, wedMorning), changedSessions);
+        assertEquals(Integer.valueOf(1), weeklySessions.getSessionCounts().get(wedMorning));
+    }
+
+    @Test
+    public void getSessionCounts_afterSet_sameViewWithNewCounts() {
+        weeklySessions.add(monMorning);
+        ObservableMap<Session, Integer> view = weeklySessions.getSessionCounts();
+
+        WeeklySessions replacement = new WeeklySessions();
+        replacement.add(tueAllDay);
+        weeklySessions.set(replacement);
+
+        assertSame(view, weeklySessions.getSessionCounts());
+        assertFalse(view.containsKey(monMorning));
+        assertEquals(Integer.valueOf(1), view.get(tueAllDay));
+    }
+
+    @Test
+    public void getSessionCounts_modifyView_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () ->
+                weeklySessions.getSessionCounts().put(monMorning, 1));
+    }
 }
@@ -14,8 +14,15 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.tag.SessionTag;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.subject.Subject;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -26,6 +33,28 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void subjectsAndSessions_mixedTags_splitByKind() {
+        Session monday = new Session("MON", "0900", "1000");
+        Session tuesday = new Session("TUE", "0800", "0900");
+        Person person = new Person(ALICE.getName(), ALICE.getStudyYear(), ALICE.getPhone(), ALICE.getEmail(),
+                ALICE.getAddress(), Set.of(new Tag("PHY"), new Tag("MATH"), new Tag("friends"),
+                new SessionTag(tuesday.toString(), tuesday), new SessionTag(monday.toString(), monday)));
+
+        assertEquals(EnumSet.of(Subject.MATH, Subject.PHY), person.getSubjects());
+        assertEquals(Subject.MATH.mask() | Subject.PHY.mask(), person.getSubjectMask());
+        assertTrue(person.hasSubject(Subject.PHY));
+        assertFalse(person.hasSubject(Subject.CHEM));
+
+        // non-session tags sorted by name, including tags that are not subjects
+        assertEquals(List.of(new Tag("MATH"), new Tag("PHY"), new Tag("friends")), person.getSubjectTags());
+
+        // sessions in chronological order
+        assertEquals(List.of(monday, tuesday), person.getSessions());
+        assertEquals(2, person.getSessionTags().size());
+        assertThrows(UnsupportedOperationException.class, () -> person.getSubjects().add(Subject.BIO));
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -4,17 +4,28 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
+import seedu.address.model.person.exceptions.DuplicateContactException;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -58,6 +69,31 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newPersons_addsInOneChange() {
+        uniquePersonList.add(ALICE);
+        int[] changeCount = new int[1];
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Person>) unused -> changeCount[0]++);
+        uniquePersonList.addAll(Arrays.asList(BENSON, CARL));
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contactPresent(CARL));
+    }
+
+    @Test
+    public void addAll_clashingPersons_leavesListUnchanged() {
+        uniquePersonList.add(ALICE);
+        Person bensonWithCarlPhone = new PersonBuilder(BENSON).withPhone(CARL.getPhone().value).build();
+        assertThrows(DuplicateContactException.class, () ->
+                uniquePersonList.addAll(Arrays.asList(CARL, bensonWithCarlPhone)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BENSON, ALICE)));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BENSON));
+        assertFalse(uniquePersonList.contactPresent(CARL));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -127,6 +163,52 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_existingPerson_forgetsContactDetails() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contactPresent(ALICE));
+    }
+
+    @Test
+    public void contactPresent_sharedPhoneOrEmail_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contactPresent(new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build()));
+        assertTrue(uniquePersonList.contactPresent(new PersonBuilder(BOB).withEmail(ALICE.getEmail().value).build()));
+        assertFalse(uniquePersonList.contactPresent(BOB));
+    }
+
+    @Test
+    public void contactPresentExcluding_onlyExcludedPersonShares_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertFalse(uniquePersonList.contactPresentExcluding(editedAlice, ALICE));
+        assertTrue(uniquePersonList.contactPresentExcluding(editedAlice, BOB));
+
+        // excluded person not in the list -> nothing excluded
+        Person editedBob = new PersonBuilder(BOB).withAddress("Another address").build();
+        assertTrue(uniquePersonList.contactPresentExcluding(editedAlice, editedBob));
+    }
+
+    @Test
+    public void setPerson_editedPersonTakesOthersPhone_throwsDuplicateContactException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertThrows(DuplicateContactException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
+    }
+
+    @Test
+    public void setPerson_contactChanged_updatesContactIndex() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertFalse(uniquePersonList.contactPresent(ALICE));
+        assertTrue(uniquePersonList.contactPresent(BOB));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +244,88 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_map_replacesEditedPersonsInOneChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Person editedAlice = new PersonBuilder(ALICE).withPayment("PAID", 1).build();
+        Person editedCarl = new PersonBuilder(CARL).withPhone(VALID_PHONE_BOB).build();
+        Map<Person, Person> edits = new LinkedHashMap<>();
+        edits.put(ALICE, editedAlice);
+        edits.put(CARL, editedCarl);
+
+        int[] changeCount = new int[1];
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Person>) unused -> changeCount[0]++);
+        uniquePersonList.setPersons(edits);
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(editedAlice, BENSON, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contactPresent(new PersonBuilder(BOB).withPhone(CARL.getPhone().value).build()));
+        assertTrue(uniquePersonList.contactPresent(new PersonBuilder(AMY).withPhone(VALID_PHONE_BOB).build()));
+    }
+
+    @Test
+    public void setPersons_map_replacesOnlyEditedPersons() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Person editedAlice = new PersonBuilder(ALICE).withPayment("PAID", 1).build();
+        Person editedCarl = new PersonBuilder(CARL).withPayment("PAID", 1).build();
+        Map<Person, Person> edits = new LinkedHashMap<>();
+        edits.put(CARL, editedCarl);
+        edits.put(ALICE, editedAlice);
+
+        List<Person> removed = new ArrayList<>();
+        List<Person> added = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+        uniquePersonList.setPersons(edits);
+
+        assertEquals(Arrays.asList(ALICE, CARL), removed);
+        assertEquals(Arrays.asList(editedAlice, editedCarl), added);
+    }
+
+    @Test
+    public void setPersons_mapWithTargetNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Map<Person, Person> edits = new LinkedHashMap<>();
+        edits.put(ALICE, ALICE);
+        edits.put(BOB, BOB);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPersons(edits));
+    }
+
+    @Test
+    public void setPersons_mapWithClash_leavesListUnchanged() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Person editedAlice = new PersonBuilder(ALICE).withPayment("PAID", 1).build();
+        Person editedBenson = new PersonBuilder(BENSON).withPhone(CARL.getPhone().value).build();
+        Map<Person, Person> edits = new LinkedHashMap<>();
+        edits.put(ALICE, editedAlice);
+        edits.put(BENSON, editedBenson);
+
+        assertThrows(DuplicateContactException.class, () -> uniquePersonList.setPersons(edits));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contactPresent(BENSON));
+    }
+
+    @Test
+    public void removePersons_existingPersons_removesPersons() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.removePersons(Arrays.asList(CARL, ALICE));
+        assertEquals(Collections.singletonList(BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contactPresent(ALICE));
+    }
+
+    @Test
+    public void removePersons_personDoesNotExist_leavesListUnchanged() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removePersons(Arrays.asList(ALICE, BOB)));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -67,4 +67,13 @@ public class SubjectTest {
         }
     }
 
+    @Test
+    public void mask_allSubjects_distinctSingleBits() {
+        long seen = 0;
+        for (Subject subject : Subject.values()) {
+            assertEquals(1, Long.bitCount(subject.mask()), "Failed for: " + subject);
+            assertEquals(0L, seen & subject.mask(), "Failed for: " + subject);
+            seen |= subject.mask();
+        }
+    }
 }
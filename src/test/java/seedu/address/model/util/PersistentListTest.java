@@ -0,0 +1,116 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void copyOf_list_sameElements() {
+        assertEquals(List.of(), PersistentList.copyOf(List.of()));
+        assertEquals(List.of(1, 2, 3), PersistentList.copyOf(List.of(1, 2, 3)));
+
+        PersistentList<Integer> list = PersistentList.copyOf(List.of(1, 2, 3));
+        assertSame(list, PersistentList.copyOf(list));
+    }
+
+    @Test
+    public void withChanges_leavesOriginalUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(List.of("a", "b", "c"));
+
+        assertEquals(List.of("a", "x", "b", "c"), original.withAdded(1, "x"));
+        assertEquals(List.of("a", "b", "c", "x"), original.withAdded(3, "x"));
+        assertEquals(List.of("a", "x", "c"), original.withSet(1, "x"));
+        assertEquals(List.of("a", "c"), original.withRemoved(1));
+        assertEquals(List.of("a", "b", "c"), original);
+    }
+
+    @Test
+    public void invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.withAdded(2, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.withSet(1, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.<String>empty().withRemoved(0));
+    }
+
+    @Test
+    public void modification_throwsUnsupportedOperationException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+    }
+
+    @Test
+    public void iterator_exhausted_throwsNoSuchElementException() {
+        Iterator<String> iterator = PersistentList.copyOf(List.of("a")).iterator();
+        assertEquals("a", iterator.next());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void randomChanges_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation < 2) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.withAdded(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.withSet(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.withRemoved(index);
+            }
+
+            if (i % 500 == 0) {
+                versions.add(actual);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, actual);
+        assertEquals(expected, new ArrayList<>(actual));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+        assertEquals(expectedVersions, versions);
+    }
+
+    @Test
+    public void sequentialChanges_stayBalanced() {
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 100_000; i++) {
+            list = list.withAdded(list.size(), i);
+        }
+        for (int i = 0; i < 50_000; i++) {
+            list = list.withRemoved(0);
+        }
+        // An unbalanced tree this deep would overflow the stack when walked recursively
+        assertEquals(50_000, list.size());
+        assertEquals(50_000, (int) list.get(0));
+        assertEquals(99_999, (int) list.get(list.size() - 1));
+        assertTrue(list.withAdded(25_000, -1).contains(-1));
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.GenerateRoster;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class RosterGeneratorTest {
+
+    private static final int ROSTER_SIZE = 2000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void generatePersons_sameSeed_sameRoster() {
+        assertEquals(new RosterGenerator(7).generatePersons(50), new RosterGenerator(7).generatePersons(50));
+        assertNotEquals(new RosterGenerator(7).generatePersons(50), new RosterGenerator(8).generatePersons(50));
+    }
+
+    @Test
+    public void generatePersons_smallerRoster_isPrefixOfLargerRoster() {
+        RosterGenerator generator = new RosterGenerator(7);
+        assertEquals(generator.generatePersons(20), generator.generatePersons(100).subList(0, 20));
+    }
+
+    @Test
+    public void generatePersons_invalidSize_throwsIllegalArgumentException() {
+        RosterGenerator generator = new RosterGenerator(7);
+        assertThrows(IllegalArgumentException.class, () -> generator.generatePersons(-1));
+        assertThrows(IllegalArgumentException.class, () ->
+                generator.generatePersons(RosterGenerator.MAX_ROSTER_SIZE + 1));
+    }
+
+    @Test
+    public void generateAddressBook_validRoster_noClashingContactsOrSessions() {
+        AddressBook addressBook = new RosterGenerator(42).generateAddressBook(ROSTER_SIZE);
+        List<Person> persons = addressBook.getPersonList();
+        assertEquals(ROSTER_SIZE, persons.size());
+
+        Set<Object> contacts = new HashSet<>();
+        Set<Session> sessions = new HashSet<>();
+        for (Person person : persons) {
+            assertTrue(contacts.add(person.getPhone()));
+            assertTrue(contacts.add(person.getEmail()));
+            assertFalse(person.getSubjects().isEmpty());
+            sessions.addAll(person.getSessions());
+        }
+
+        // Different sessions never overlap, so students either share a session or have disjoint ones
+        for (Session session : sessions) {
+            for (Session other : sessions) {
+                assertTrue(session.equals(other) || !session.isOverlap(other));
+            }
+            assertFalse(session.getStartTime().isBefore(Session.EARLIEST_START_TIME));
+            assertFalse(session.getEndTime().isAfter(Session.LATEST_END_TIME));
+            assertTrue(addressBook.getOverlappingSessions(session).isPresent());
+        }
+    }
+
+    @Test
+    public void write_jsonStorage_roundTrips() throws Exception {
+        RosterGenerator generator = new RosterGenerator(42);
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("roster.json"));
+        GenerateRoster.write(generator, ROSTER_SIZE, storage);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(generator.generatePersons(ROSTER_SIZE), readBack.getPersonList());
+        assertEquals(generator.generateAddressBook(ROSTER_SIZE).getWeeklySessions(), readBack.getWeeklySessions());
+    }
+}
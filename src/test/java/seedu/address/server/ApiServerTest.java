@@ -0,0 +1,277 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.CommandExecutionService;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonUtil;
+
+public class ApiServerTest {
+
+    // add commands do not carry tags
+    private static final Person AMY_UNTAGGED = new PersonBuilder(AMY).withTags().build();
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Model model;
+    private JsonAddressBookStorage addressBookStorage;
+    private ExecutorService modelThread;
+    private CommandExecutionService commandExecutionService;
+    private ApiServer apiServer;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.getWeeklySessions().add(new Session("MON", "0800", "1200"));
+        addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        LogicManager logic = new LogicManager(model, storage);
+
+        modelThread = Executors.newSingleThreadExecutor();
+        commandExecutionService = new CommandExecutionService(logic, modelThread);
+        apiServer = new ApiServer(logic, commandExecutionService, 0);
+        apiServer.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        apiServer.stop();
+        commandExecutionService.shutdown();
+        modelThread.shutdown();
+    }
+
+    @Test
+    public void getPersons_noQuery_returnsEveryPerson() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PATH_PERSONS);
+        assertEquals(ApiServer.STATUS_OK, response.statusCode());
+        assertEquals(getTypicalAddressBook().getPersonList().size(), getList(response, "persons").size());
+    }
+
+    @Test
+    public void getPersons_query_returnsMatchingPersons() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PATH_PERSONS + "?q=alice");
+        List<?> persons = getList(response, "persons");
+        assertEquals(1, persons.size());
+        assertEquals(ALICE.getName().fullName, ((Map<?, ?>) persons.get(0)).get("name"));
+
+        assertEquals(ApiServer.STATUS_BAD_REQUEST, get(ApiServer.PATH_PERSONS + "?q=%20").statusCode());
+    }
+
+    @Test
+    public void getSessions_returnsSessionsWithAttendees() throws Exception {
+        List<?> sessions = getList(get(ApiServer.PATH_SESSIONS), "sessions");
+        assertEquals(1, sessions.size());
+        Map<?, ?> session = (Map<?, ?>) sessions.get(0);
+        assertEquals("MONDAY", session.get("day"));
+        assertEquals("08:00", session.get("start"));
+        assertEquals(1, session.get("attendees"));
+    }
+
+    @Test
+    public void getFree_validHours_returnsEarliestFreeTime() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PATH_FREE + "?hours=2");
+        assertEquals(ApiServer.STATUS_OK, response.statusCode());
+        assertEquals(model.getWeeklySessions().getEarliestFreeTime(2), toMap(response).get("earliest"));
+    }
+
+    @Test
+    public void getFree_invalidHours_returnsBadRequest() throws Exception {
+        assertEquals(ApiServer.STATUS_BAD_REQUEST, get(ApiServer.PATH_FREE).statusCode());
+        assertEquals(ApiServer.STATUS_BAD_REQUEST, get(ApiServer.PATH_FREE + "?hours=0").statusCode());
+        assertEquals(ApiServer.STATUS_BAD_REQUEST, get(ApiServer.PATH_FREE + "?hours=two").statusCode());
+    }
+
+    @Test
+    public void postCommand_validCommand_executesAndSaves() throws Exception {
+        HttpResponse<String> response = post(ApiServer.PATH_COMMANDS, PersonUtil.getAddCommand(AMY_UNTAGGED));
+        assertEquals(ApiServer.STATUS_OK, response.statusCode());
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(AMY_UNTAGGED)),
+                toMap(response).get("feedback"));
+
+        assertTrue(addressBookStorage.readAddressBook().orElseThrow().getPersonList().contains(AMY_UNTAGGED));
+        List<?> persons = getList(get(ApiServer.PATH_PERSONS + "?q=amy"), "persons");
+        assertEquals(1, persons.size());
+    }
+
+    @Test
+    public void postCommand_stats_reportsCommandsSentThroughApi() throws Exception {
+        post(ApiServer.PATH_COMMANDS, PersonUtil.getAddCommand(AMY_UNTAGGED));
+
+        HttpResponse<String> response = post(ApiServer.PATH_COMMANDS, StatsCommand.COMMAND_WORD);
+        assertEquals(ApiServer.STATUS_OK, response.statusCode());
+        String report = (String) toMap(response).get("feedback");
+        assertTrue(report.contains(AddCommand.COMMAND_WORD + " (1x): parse"), report);
+    }
+
+    @Test
+    public void postCommand_invalidCommand_returnsBadRequest() throws Exception {
+        HttpResponse<String> response = post(ApiServer.PATH_COMMANDS, "notacommand");
+        assertEquals(ApiServer.STATUS_BAD_REQUEST, response.statusCode());
+        assertEquals(Messages.MESSAGE_UNKNOWN_COMMAND, toMap(response).get("error"));
+
+        response = post(ApiServer.PATH_COMMANDS, "delete 99");
+        assertEquals(ApiServer.STATUS_BAD_REQUEST, response.statusCode());
+        assertEquals(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, toMap(response).get("error"));
+    }
+
+    @Test
+    public void postCommand_attendedCommand_isForbidden() throws Exception {
+        HttpResponse<String> response = post(ApiServer.PATH_COMMANDS, ClearCommand.COMMAND_WORD);
+        assertEquals(ApiServer.STATUS_FORBIDDEN, response.statusCode());
+        assertEquals(String.format(ApiServer.MESSAGE_COMMAND_NOT_ALLOWED, ClearCommand.COMMAND_WORD),
+                toMap(response).get("error"));
+        assertEquals(getTypicalAddressBook().getPersonList().size(),
+                getList(get(ApiServer.PATH_PERSONS), "persons").size());
+    }
+
+    @Test
+    public void postCommand_viewCommand_isForbidden() throws Exception {
+        model.updateFilteredPersonList(person -> person.equals(ALICE));
+
+        for (String commandText : List.of(ListCommand.COMMAND_WORD, FindCommand.COMMAND_WORD + " Benson")) {
+            HttpResponse<String> response = post(ApiServer.PATH_COMMANDS, commandText);
+            assertEquals(ApiServer.STATUS_FORBIDDEN, response.statusCode());
+            assertEquals(String.format(ApiServer.MESSAGE_VIEW_COMMAND_NOT_ALLOWED, commandText.split(" ")[0]),
+                    toMap(response).get("error"));
+        }
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void postCommand_missingOrWrongToken_isUnauthorized() throws Exception {
+        String addCommand = PersonUtil.getAddCommand(AMY_UNTAGGED);
+        HttpResponse<String> response = post(ApiServer.PATH_COMMANDS, addCommand, null);
+        assertEquals(ApiServer.STATUS_UNAUTHORIZED, response.statusCode());
+        assertEquals(ApiServer.MESSAGE_UNAUTHORIZED, toMap(response).get("error"));
+        assertEquals(ApiServer.STATUS_UNAUTHORIZED, post(ApiServer.PATH_COMMANDS, addCommand, "guess").statusCode());
+
+        assertEquals(getTypicalAddressBook().getPersonList().size(),
+                getList(get(ApiServer.PATH_PERSONS), "persons").size());
+    }
+
+    @Test
+    public void request_foreignHost_isForbidden() throws Exception {
+        assertEquals(ApiServer.STATUS_FORBIDDEN, getWithHost(ApiServer.PATH_PERSONS, "attacker.example"));
+        assertEquals(ApiServer.STATUS_FORBIDDEN,
+                getWithHost(ApiServer.PATH_PERSONS, "attacker.example:" + apiServer.getPort()));
+        assertEquals(ApiServer.STATUS_FORBIDDEN, getWithHost(ApiServer.PATH_PERSONS, "localhost:1"));
+
+        assertEquals(ApiServer.STATUS_OK, getWithHost(ApiServer.PATH_PERSONS, "localhost:" + apiServer.getPort()));
+        assertEquals(ApiServer.STATUS_OK, getWithHost(ApiServer.PATH_PERSONS, "127.0.0.1:" + apiServer.getPort()));
+    }
+
+    @Test
+    public void request_withOrigin_isForbidden() throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri(ApiServer.PATH_PERSONS))
+                .header(ApiServer.HEADER_ORIGIN, "http://attacker.example").GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(ApiServer.STATUS_FORBIDDEN, response.statusCode());
+        assertEquals(ApiServer.MESSAGE_FOREIGN_ORIGIN, toMap(response).get("error"));
+
+        // A page's command would be refused even with the token
+        HttpRequest command = HttpRequest.newBuilder(uri(ApiServer.PATH_COMMANDS))
+                .header(ApiServer.HEADER_ORIGIN, "null")
+                .header(ApiServer.HEADER_AUTHORIZATION, ApiServer.TOKEN_PREFIX + apiServer.getToken())
+                .POST(HttpRequest.BodyPublishers.ofString(PersonUtil.getAddCommand(AMY_UNTAGGED))).build();
+        assertEquals(ApiServer.STATUS_FORBIDDEN,
+                client.send(command, HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(getTypicalAddressBook().getPersonList().size(),
+                getList(get(ApiServer.PATH_PERSONS), "persons").size());
+    }
+
+    @Test
+    public void request_unknownPathOrWrongMethod_isRefused() throws Exception {
+        assertEquals(ApiServer.STATUS_NOT_FOUND, get("/api/unknown").statusCode());
+        assertEquals(ApiServer.STATUS_METHOD_NOT_ALLOWED, post(ApiServer.PATH_PERSONS, "").statusCode());
+        assertEquals(ApiServer.STATUS_METHOD_NOT_ALLOWED, get(ApiServer.PATH_COMMANDS).statusCode());
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        return post(path, body, apiServer.getToken());
+    }
+
+    private HttpResponse<String> post(String path, String body, String token) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(path)).POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            request.header(ApiServer.HEADER_AUTHORIZATION, ApiServer.TOKEN_PREFIX + token);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Sends a GET request for {@code path} with {@code host} as its Host header, which the HTTP client does not let
+     * tests set, and returns the status of the response.
+     */
+    private int getWithHost(String path, String host) throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), apiServer.getPort())) {
+            OutputStream request = socket.getOutputStream();
+            request.write(("GET " + path + " HTTP/1.1\r\nHost: " + host + "\r\nConnection: close\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            request.flush();
+            BufferedReader response = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            // e.g. HTTP/1.1 200 OK
+            return Integer.parseInt(response.readLine().split(" ")[1]);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + apiServer.getPort() + path);
+    }
+
+    private static Map<?, ?> toMap(HttpResponse<String> response) throws Exception {
+        return JsonUtil.fromJsonString(response.body(), Map.class);
+    }
+
+    private static List<?> getList(HttpResponse<String> response, String key) throws Exception {
+        return (List<?>) toMap(response).get(key);
+    }
+}
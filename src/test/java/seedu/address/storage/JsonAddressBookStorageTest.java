@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,6 +18,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.EncryptionUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.KeyFile;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +91,55 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_compressed_readByAnyStorage() throws Exception {
+        Path compressedPath = testFolder.resolve("Compressed.json");
+        Path plainPath = testFolder.resolve("Plain.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(compressedPath, 9).saveAddressBook(original);
+        new JsonAddressBookStorage(plainPath).saveAddressBook(original);
+
+        assertTrue(FileUtil.isCompressed(compressedPath));
+        assertTrue(Files.size(compressedPath) < Files.size(plainPath));
+        // Compression is told from the file, not the storage reading it
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(compressedPath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(plainPath, 9).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_encrypted_readOnlyWithKey() throws Exception {
+        Path filePath = testFolder.resolve("Encrypted.json");
+        KeyFile keyFile = new KeyFile(testFolder.resolve("data.key"));
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath, 9, keyFile).saveAddressBook(original);
+
+        assertTrue(EncryptionUtil.isEncrypted(filePath));
+        assertEquals(original, new AddressBook(
+                new JsonAddressBookStorage(filePath, FileUtil.NO_COMPRESSION, keyFile).readAddressBook().get()));
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath, 9,
+                new KeyFile(testFolder.resolve("other.key"))).readAddressBook());
+        // Reading never creates a key, which could not decrypt the file anyway
+        assertFalse(Files.exists(testFolder.resolve("other.key")));
+    }
+
+    @Test
+    public void readAddressBook_plainFileWithMissingKeyFile_readsIt() throws Exception {
+        Path filePath = testFolder.resolve("Plain.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        Path keyPath = testFolder.resolve("data.key");
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath, FileUtil.NO_COMPRESSION,
+                new KeyFile(keyPath)).readAddressBook().get()));
+        assertFalse(Files.exists(keyPath));
+    }
+
+    @Test
+    public void constructor_invalidCompressionLevel_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JsonAddressBookStorage(testFolder, 10));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,243 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.EncryptionUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.KeyFile;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.RosterGenerator;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path folder;
+    private AddressBook addressBook;
+    private ShardedAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        folder = testFolder.resolve("data");
+        addressBook = new RosterGenerator(2103).generateAddressBook(500);
+        storage = new ShardedAddressBookStorage(folder);
+    }
+
+    @Test
+    public void readAddressBook_missingFolder_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, readBack());
+
+        // Added at the end, removed and inserted in the middle, and reordered
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        persons.add(new RosterGenerator(1).generatePerson(1000));
+        persons.remove(100);
+        persons.add(200, persons.remove(0));
+        persons.set(300, new PersonBuilder(persons.get(300)).withPhone("91234567").build());
+        addressBook.setPersons(persons);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, readBack());
+
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), readBack());
+        assertEquals(Set.of(), shardFiles());
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_rewritesOneShard() throws Exception {
+        storage.saveAddressBook(addressBook);
+        Set<String> before = shardFiles();
+
+        Person person = addressBook.getPersonList().get(250);
+        addressBook.setPerson(person, new PersonBuilder(person).withPhone("91234567").build());
+        storage.saveAddressBook(addressBook);
+        Set<String> after = shardFiles();
+
+        Set<String> written = after.stream().filter(file -> !before.contains(file)).collect(Collectors.toSet());
+        assertEquals(1, written.size());
+        assertEquals(before.size(), after.size());
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_rewritesOnlyChangedShards() throws Exception {
+        storage.saveAddressBook(addressBook);
+        Set<String> before = shardFiles();
+
+        // A fresh storage learns what the folder holds from reading it
+        ShardedAddressBookStorage reopened = new ShardedAddressBookStorage(folder);
+        AddressBook model = new AddressBook(reopened.readAddressBook().orElseThrow());
+        reopened.saveAddressBook(model);
+        assertEquals(before, shardFiles());
+
+        model.addPerson(new RosterGenerator(1).generatePerson(1000));
+        reopened.saveAddressBook(model);
+        Set<String> after = shardFiles();
+        assertEquals(1, after.stream().filter(file -> !before.contains(file)).count());
+        assertEquals(model, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_equalPersonsAfterRead_rewritesOnlyChangedShards() throws Exception {
+        storage.saveAddressBook(addressBook);
+        ShardedAddressBookStorage reopened = new ShardedAddressBookStorage(folder);
+        AddressBook model = new AddressBook(reopened.readAddressBook().orElseThrow());
+        Set<String> before = shardFiles();
+
+        // As when changes made outside the app are merged in: the folder is read again, but the model keeps its
+        // own persons wherever they are equal to the ones read
+        reopened.readAddressBook();
+        reopened.saveAddressBook(model);
+        assertEquals(before, shardFiles());
+
+        Person person = model.getPersonList().get(250);
+        model.setPerson(person, new PersonBuilder(person).withPhone("91234567").build());
+        reopened.saveAddressBook(model);
+        Set<String> after = shardFiles();
+        assertEquals(1, after.stream().filter(file -> !before.contains(file)).count());
+        assertEquals(model, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_overExistingFolder_replacesIt() throws Exception {
+        storage.saveAddressBook(addressBook);
+
+        AddressBook other = getTypicalAddressBook();
+        new ShardedAddressBookStorage(folder).saveAddressBook(other);
+        assertEquals(other, readBack());
+        long shardsHoldingPersons = other.getPersonList().stream()
+                .map(person -> Math.floorMod(person.getName().hashCode(), ShardedAddressBookStorage.SHARD_COUNT))
+                .distinct().count();
+        assertEquals(shardsHoldingPersons, shardFiles().size());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressed_compressesShardsOnly() throws Exception {
+        new ShardedAddressBookStorage(folder, 1).saveAddressBook(addressBook);
+        assertEquals(addressBook, readBack());
+        for (String shardFile : shardFiles()) {
+            assertTrue(FileUtil.isCompressed(folder.resolve(shardFile)));
+        }
+        assertFalse(FileUtil.isCompressed(folder.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME)));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_encrypted_encryptsShardsOnly() throws Exception {
+        KeyFile keyFile = new KeyFile(testFolder.resolve("data.key"));
+        new ShardedAddressBookStorage(folder, 1, keyFile).saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(
+                new ShardedAddressBookStorage(folder, 1, keyFile).readAddressBook().orElseThrow()));
+        for (String shardFile : shardFiles()) {
+            assertTrue(EncryptionUtil.isEncrypted(folder.resolve(shardFile)));
+        }
+        assertFalse(EncryptionUtil.isEncrypted(folder.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME)));
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(folder).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_jsonFile_writesSingleFile() throws Exception {
+        Path file = testFolder.resolve("export.json");
+        storage.saveAddressBook(addressBook, file);
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(file).readAddressBook().orElseThrow()));
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook(file).orElseThrow()));
+        assertFalse(Files.exists(folder));
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(addressBook);
+        Files.delete(folder.resolve(shardFiles().iterator().next()));
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(folder).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidManifest_throwsDataLoadingException() throws Exception {
+        Files.createDirectories(folder);
+        Path manifest = folder.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+
+        Files.writeString(manifest, "not json");
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+
+        Files.writeString(manifest, "{\"generation\": 1, \"shards\": [\"../data.json\"]}");
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersonsInShards_throwsDataLoadingException() throws Exception {
+        Person person = addressBook.getPersonList().get(0);
+        Files.createDirectories(folder);
+        JsonUtil.saveJsonFile(new JsonSerializableShard(List.of(person), new long[] {1}),
+                folder.resolve("shard-00-1.json"));
+        JsonUtil.saveJsonFile(new JsonSerializableShard(List.of(person), new long[] {2}),
+                folder.resolve("shard-01-1.json"));
+        JsonUtil.saveJsonFile(new JsonShardManifest(1, List.of("shard-00-1.json", "shard-01-1.json")),
+                folder.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void assignPositions_keepsPositionsInOrder() {
+        List<Person> persons = new RosterGenerator(1).generatePersons(5);
+        Map<Person, Long> previous = new IdentityHashMap<>();
+        previous.put(persons.get(1), 10L);
+        previous.put(persons.get(2), 20L);
+        previous.put(persons.get(3), 15L);
+
+        // Person 3 is out of order, so it is put between its neighbours like the new persons 0 and 4
+        assertArrayEquals(new long[] {5, 10, 20, 20 + ShardedAddressBookStorage.POSITION_GAP,
+            20 + 2 * ShardedAddressBookStorage.POSITION_GAP},
+                ShardedAddressBookStorage.assignPositions(persons, previous));
+
+        // No room between 1 and 2, so every person is renumbered
+        previous.put(persons.get(1), 1L);
+        previous.put(persons.get(2), 2L);
+        long gap = ShardedAddressBookStorage.POSITION_GAP;
+        assertArrayEquals(new long[] {gap, 2 * gap, 3 * gap, 4 * gap, 5 * gap},
+                ShardedAddressBookStorage.assignPositions(List.of(persons.get(1), persons.get(0), persons.get(2),
+                        persons.get(3), persons.get(4)), previous));
+    }
+
+    private AddressBook readBack() throws DataLoadingException {
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(folder).readAddressBook().orElseThrow();
+        return new AddressBook(readBack);
+    }
+
+    private Set<String> shardFiles() throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(ShardedAddressBookStorage::isShardFileName)
+                    .collect(Collectors.toSet());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WatchedAddressBookStorageTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    public Path testFolder;
+
+    private final BlockingQueue<ReadOnlyAddressBook> changes = new LinkedBlockingQueue<>();
+    private WatchedAddressBookStorage storage;
+
+    @AfterEach
+    public void tearDown() {
+        if (storage != null) {
+            storage.stopWatching();
+        }
+    }
+
+    @Test
+    public void startWatching_folderChangedOutside_readsChange() throws Exception {
+        assertChangesReadBack(testFolder.resolve("data"));
+    }
+
+    @Test
+    public void startWatching_fileChangedOutside_readsChange() throws Exception {
+        assertChangesReadBack(testFolder.resolve("data.json"));
+    }
+
+    /**
+     * Asserts that a change to {@code filePath} by another storage is read back, but a save through the watched
+     * storage is not.
+     */
+    private void assertChangesReadBack(Path filePath) throws Exception {
+        storage = new WatchedAddressBookStorage(new ShardedAddressBookStorage(filePath));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.startWatching(changes::add);
+
+        // The app's own saves are not read back
+        addressBook.addPerson(AMY);
+        storage.saveAddressBook(addressBook);
+        assertNull(changes.poll(WatchedAddressBookStorage.QUIET_PERIOD_MILLIS * 3, TimeUnit.MILLISECONDS));
+
+        AddressBook changed = getTypicalAddressBook();
+        new ShardedAddressBookStorage(filePath).saveAddressBook(changed);
+        assertEquals(changed, new AddressBook(changes.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)));
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FxmlCacheTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getDocument_nullLocation_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> FxmlCache.getDocument(null));
+    }
+
+    @Test
+    public void getDocument_sameLocation_readOnce() throws Exception {
+        URL location = FxmlCacheTest.class.getResource("/view/UiPartTest/validFile.fxml");
+        assertNotNull(location);
+
+        byte[] document = FxmlCache.getDocument(location);
+        assertTrue(FxmlCache.contains(location));
+        assertSame(document, FxmlCache.getDocument(location));
+    }
+
+    @Test
+    public void getDocument_fileChangedAfterFirstRead_returnsFirstContents() throws Exception {
+        Path file = testFolder.resolve("changing.fxml");
+        Files.writeString(file, "<first/>");
+        URL location = file.toUri().toURL();
+
+        byte[] firstContents = FxmlCache.getDocument(location);
+        Files.writeString(file, "<second/>");
+        assertArrayEquals(firstContents, FxmlCache.getDocument(location));
+    }
+
+    @Test
+    public void getDocument_missingFile_throwsIoExceptionAndIsNotCached() throws Exception {
+        URL location = testFolder.resolve("missing.fxml").toUri().toURL();
+        assertThrows(IOException.class, () -> FxmlCache.getDocument(location));
+        assertFalse(FxmlCache.contains(location));
+    }
+}